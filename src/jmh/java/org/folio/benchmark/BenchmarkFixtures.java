@@ -0,0 +1,192 @@
+package org.folio.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import org.folio.rest.domain.FeeFineNoticeContext;
+import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.Contributor;
+import org.folio.rest.jaxrs.model.EffectiveCallNumberComponents;
+import org.folio.rest.jaxrs.model.Feefine;
+import org.folio.rest.jaxrs.model.Feefineaction;
+import org.folio.rest.jaxrs.model.HoldingsRecord;
+import org.folio.rest.jaxrs.model.Instance;
+import org.folio.rest.jaxrs.model.Item;
+import org.folio.rest.jaxrs.model.Location;
+import org.folio.rest.jaxrs.model.Metadata;
+import org.folio.rest.jaxrs.model.Owner;
+import org.folio.rest.jaxrs.model.PaymentStatus;
+import org.folio.rest.jaxrs.model.Personal;
+import org.folio.rest.jaxrs.model.Status;
+import org.folio.rest.jaxrs.model.User;
+
+/**
+ * Deterministic fixtures shared by benchmarks. A fixed seed keeps inputs identical between
+ * runs so that results in jmh-result.json can be compared.
+ */
+public class BenchmarkFixtures {
+  private static final String[] OWNERS = {"Main library", "Law library", "Science library"};
+  private static final String[] SOURCES = {"ADMINISTRATOR, DIKU", "Circ desk 1", "Self-check"};
+  private static final String[] PAYMENT_METHODS = {"Cash", "Credit card", "Check"};
+  private static final String[] FEE_FINE_TYPES = {"Overdue fine", "Lost item fee",
+    "Lost item processing fee", "Damaged book fee"};
+
+  private final Random random;
+
+  public BenchmarkFixtures() {
+    this(42);
+  }
+
+  public BenchmarkFixtures(long seed) {
+    random = new Random(seed);
+  }
+
+  public Account account() {
+    double amount = amount(1, 150);
+
+    return new Account()
+      .withId(uuid())
+      .withOwnerId(uuid())
+      .withUserId(uuid())
+      .withItemId(uuid())
+      .withLoanId(uuid())
+      .withMaterialTypeId(uuid())
+      .withFeeFineId(uuid())
+      .withAmount(amount)
+      .withRemaining(amount(0, amount))
+      .withPaymentStatus(new PaymentStatus().withName("Paid partially"))
+      .withStatus(new Status().withName("Open"))
+      .withFeeFineOwner(pick(OWNERS))
+      .withFeeFineType(pick(FEE_FINE_TYPES))
+      .withBarcode(String.valueOf(100_000 + random.nextInt(900_000)))
+      .withTitle("The Cambridge history of the Byzantine Empire")
+      .withCallNumber("DF552 .C36 2008")
+      .withLocation("Main Library > Stacks")
+      .withMaterialType("book")
+      .withMetadata(new Metadata().withCreatedDate(new Date()));
+  }
+
+  public Feefineaction payment(Account account) {
+    return new Feefineaction()
+      .withId(uuid())
+      .withAccountId(account.getId())
+      .withUserId(account.getUserId())
+      .withTypeAction(random.nextBoolean() ? "Paid partially" : "Paid fully")
+      .withAmountAction(amount(0.01, account.getAmount()))
+      .withBalance(account.getRemaining())
+      .withDateAction(new Date())
+      .withPaymentMethod(pick(PAYMENT_METHODS))
+      .withSource(pick(SOURCES))
+      .withCreatedAt(uuid())
+      .withTransactionInformation("Receipt #" + random.nextInt(100_000))
+      .withNotify(true)
+      .withComments(comments());
+  }
+
+  public List<Feefineaction> payments(int count) {
+    List<Feefineaction> actions = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      actions.add(payment(account()));
+    }
+    return actions;
+  }
+
+  public Map<Feefineaction, Account> paymentsWithAccounts(int count) {
+    Map<Feefineaction, Account> result = new LinkedHashMap<>();
+    for (int i = 0; i < count; i++) {
+      Account account = account();
+      result.put(payment(account), account);
+    }
+    return result;
+  }
+
+  public String comments() {
+    switch (random.nextInt(4)) {
+    case 0:
+      return null;
+    case 1:
+      return "STAFF : Paid at the circulation desk";
+    case 2:
+      return "PATRON : Thank you";
+    default:
+      return "STAFF : Paid at the circulation desk, receipt attached \n PATRON : Thank you for "
+        + "your payment";
+    }
+  }
+
+  public FeeFineNoticeContext noticeContext() {
+    Account account = account();
+
+    return new FeeFineNoticeContext()
+      .withUser(user())
+      .withItem(item())
+      .withInstance(new Instance()
+        .withId(uuid())
+        .withTitle(account.getTitle())
+        .withContributors(Arrays.asList(
+          new Contributor().withName("Haldon, John").withPrimary(true),
+          new Contributor().withName("Shepard, Jonathan").withPrimary(false))))
+      .withHoldingsRecord(new HoldingsRecord().withId(uuid()).withCopyNumber("c.2"))
+      .withEffectiveLocation(new Location().withId(uuid()).withName("Stacks"))
+      .withOwner(new Owner()
+        .withId(account.getOwnerId())
+        .withOwner(account.getFeeFineOwner())
+        .withDefaultActionNoticeId(uuid())
+        .withDefaultChargeNoticeId(uuid()))
+      .withFeefine(new Feefine()
+        .withId(account.getFeeFineId())
+        .withFeeFineType(account.getFeeFineType())
+        .withAutomatic(false)
+        .withActionNoticeId(uuid())
+        .withChargeNoticeId(uuid()))
+      .withAccount(account)
+      .withAction(payment(account));
+  }
+
+  public User user() {
+    return new User()
+      .withId(uuid())
+      .withBarcode(String.valueOf(random.nextInt(1_000_000)))
+      .withPersonal(new Personal()
+        .withFirstName("Jane")
+        .withMiddleName("Q")
+        .withLastName("Public"));
+  }
+
+  public Item item() {
+    return new Item()
+      .withId(uuid())
+      .withHoldingsRecordId(uuid())
+      .withBarcode(String.valueOf(random.nextInt(1_000_000)))
+      .withEnumeration("v.1")
+      .withVolume("1")
+      .withChronology("2008")
+      .withYearCaption(new HashSet<>(Arrays.asList("2008", "2009")))
+      .withCopyNumber("c.1")
+      .withNumberOfPieces("1")
+      .withEffectiveCallNumberComponents(new EffectiveCallNumberComponents()
+        .withCallNumber("DF552 .C36 2008")
+        .withPrefix("REF")
+        .withSuffix("OVERSIZE"));
+  }
+
+  private double amount(double min, double max) {
+    double value = min + (max - min) * random.nextDouble();
+    return Math.round(value * 100) / 100.0;
+  }
+
+  private String pick(String[] values) {
+    return values[random.nextInt(values.length)];
+  }
+
+  private String uuid() {
+    return new UUID(random.nextLong(), random.nextLong()).toString();
+  }
+}
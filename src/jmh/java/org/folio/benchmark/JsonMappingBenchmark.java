@@ -0,0 +1,89 @@
+package org.folio.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.Feefineaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Jackson mapping of accounts and actions the way repositories and API handlers do it:
+ * rows are read as JsonObject and mapped to POJOs, request bodies are encoded and decoded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonMappingBenchmark {
+  private Account account;
+  private Feefineaction action;
+  private JsonObject accountJson;
+  private JsonObject actionJson;
+  private String encodedAccount;
+  private String encodedAction;
+
+  @Setup
+  public void setUp() {
+    BenchmarkFixtures fixtures = new BenchmarkFixtures();
+    account = fixtures.account();
+    action = fixtures.payment(account);
+    accountJson = JsonObject.mapFrom(account);
+    actionJson = JsonObject.mapFrom(action);
+    encodedAccount = Json.encode(account);
+    encodedAction = Json.encode(action);
+  }
+
+  @Benchmark
+  public Account accountFromJsonObject() {
+    return accountJson.mapTo(Account.class);
+  }
+
+  @Benchmark
+  public JsonObject accountToJsonObject() {
+    return JsonObject.mapFrom(account);
+  }
+
+  @Benchmark
+  public Account decodeAccount() {
+    return Json.decodeValue(encodedAccount, Account.class);
+  }
+
+  @Benchmark
+  public String encodeAccount() {
+    return Json.encode(account);
+  }
+
+  @Benchmark
+  public Feefineaction actionFromJsonObject() {
+    return actionJson.mapTo(Feefineaction.class);
+  }
+
+  @Benchmark
+  public JsonObject actionToJsonObject() {
+    return JsonObject.mapFrom(action);
+  }
+
+  @Benchmark
+  public Feefineaction decodeAction() {
+    return Json.decodeValue(encodedAction, Feefineaction.class);
+  }
+
+  @Benchmark
+  public String encodeAction() {
+    return Json.encode(action);
+  }
+}
@@ -0,0 +1,48 @@
+package org.folio.rest.domain;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MonetaryValueBenchmark {
+  private final Currency currency = Currency.getInstance("EUR");
+  private final Double doubleAmount = 12.345;
+  private final MonetaryValue first = new MonetaryValue(new BigDecimal("125.50"));
+  private final MonetaryValue second = new MonetaryValue(new BigDecimal("7.25"));
+
+  @Benchmark
+  public MonetaryValue fromDouble() {
+    return new MonetaryValue(doubleAmount, currency);
+  }
+
+  @Benchmark
+  public String fromDoubleToString() {
+    return new MonetaryValue(doubleAmount, currency).toString();
+  }
+
+  @Benchmark
+  public MonetaryValue addAndSubtract() {
+    return first.add(second).subtract(second);
+  }
+
+  @Benchmark
+  public boolean compare() {
+    return first.isGreaterThanOrEquals(second);
+  }
+}
@@ -0,0 +1,54 @@
+package org.folio.rest.domain.logs;
+
+import java.util.concurrent.TimeUnit;
+
+import org.folio.benchmark.BenchmarkFixtures;
+import org.folio.rest.domain.FeeFineNoticeContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vertx.core.Future;
+import io.vertx.core.json.JsonObject;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogEventPayloadHelperBenchmark {
+  private FeeFineNoticeContext context;
+
+  @Setup
+  public void setUp() {
+    context = new BenchmarkFixtures().noticeContext();
+  }
+
+  @Benchmark
+  public JsonObject noticeLogEventPayload() {
+    return LogEventPayloadHelper.buildNoticeLogEventPayload(context);
+  }
+
+  @Benchmark
+  public Future<JsonObject> feeFineLogEventPayload() {
+    return LogEventPayloadHelper.buildFeeFineLogEventPayload(context.getAction(),
+      context.getAccount(), context.getFeefine());
+  }
+
+  /**
+   * Payloads are published as strings, so encoding is part of the cost of every event.
+   */
+  @Benchmark
+  public String encodedFeeFineLogEventPayload() {
+    return LogEventPayloadHelper.buildFeeFineLogEventPayload(context.getAction(),
+      context.getAccount(), context.getFeefine()).result().encode();
+  }
+}
@@ -0,0 +1,86 @@
+package org.folio.rest.service.report;
+
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.benchmark.BenchmarkFixtures;
+import org.folio.rest.domain.LocaleSettings;
+import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.CashDrawerReconciliationReport;
+import org.folio.rest.jaxrs.model.Feefineaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vertx.core.Vertx;
+
+/**
+ * Builds report rows and totals from fetched actions, without the database query. The
+ * service is created on a Vert.x context, but nothing is sent to the database or to Okapi.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CashDrawerReconciliationReportBenchmark {
+  @Param({"100", "10000"})
+  private int numberOfActions;
+
+  private Vertx vertx;
+  private CashDrawerReconciliationReportService service;
+  private Map<Feefineaction, Account> actionsToAccounts;
+  private Date date;
+  private Double amount;
+
+  @Setup
+  public void setUp() {
+    Map<String, String> headers = new HashMap<>();
+    headers.put(OKAPI_HEADER_TENANT, "benchmark");
+    headers.put("x-okapi-url", "http://localhost:9130");
+
+    vertx = Vertx.vertx();
+    service = new CashDrawerReconciliationReportService(headers, vertx.getOrCreateContext());
+    service.setUpLocale(new LocaleSettings("en-US", "America/New_York", "USD"));
+
+    actionsToAccounts = new BenchmarkFixtures().paymentsWithAccounts(numberOfActions);
+    date = new Date();
+    amount = 12.34;
+  }
+
+  @TearDown
+  public void tearDown() {
+    vertx.close();
+  }
+
+  @Benchmark
+  public CashDrawerReconciliationReport buildReport() {
+    return service.buildReport(actionsToAccounts);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public String formatDate() {
+    return service.formatDate(date);
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public String formatMonetaryValue() {
+    return service.rowFormatter.formatMonetaryValue(amount);
+  }
+}
@@ -0,0 +1,80 @@
+package org.folio.rest.utils;
+
+import static org.folio.rest.utils.FeeFineActionHelper.getPatronInfoFromComment;
+import static org.folio.rest.utils.FeeFineActionHelper.getStaffInfoFromComment;
+import static org.folio.rest.utils.FeeFineActionHelper.getTotalAmounts;
+import static org.folio.rest.utils.FeeFineActionHelper.groupFeeFineActionsByAccountId;
+import static org.folio.rest.utils.FeeFineActionHelper.parseFeeFineComments;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.benchmark.BenchmarkFixtures;
+import org.folio.rest.domain.MonetaryValue;
+import org.folio.rest.jaxrs.model.Feefineaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeeFineActionHelperBenchmark {
+  private static final String COMMENTS = "STAFF : Paid at the circulation desk, receipt "
+    + "attached \n PATRON : Thank you for your payment";
+
+  private Feefineaction action;
+  private Map<String, List<Feefineaction>> actionsByAccount;
+
+  @Setup
+  public void setUp() {
+    BenchmarkFixtures fixtures = new BenchmarkFixtures();
+    action = fixtures.payment(fixtures.account()).withComments(COMMENTS);
+
+    List<Feefineaction> actions = fixtures.payments(100);
+    // Several actions per account, as for accounts paid in instalments
+    for (int i = 0; i < actions.size(); i++) {
+      actions.get(i).setAccountId(actions.get(i - i % 4).getAccountId());
+    }
+    actionsByAccount = groupFeeFineActionsByAccountId(actions);
+  }
+
+  @Benchmark
+  public Map<String, String> parseComments() {
+    return parseFeeFineComments(COMMENTS);
+  }
+
+  @Benchmark
+  public void staffAndPatronInfo(Blackhole blackhole) {
+    blackhole.consume(getStaffInfoFromComment(action));
+    blackhole.consume(getPatronInfoFromComment(action));
+  }
+
+  /**
+   * What report row builders do for every row.
+   */
+  @Benchmark
+  public void staffAndPatronInfoInSinglePass(Blackhole blackhole) {
+    FeeFineComments comments = FeeFineComments.parse(action.getComments());
+    blackhole.consume(comments.getStaffInfo());
+    blackhole.consume(comments.getPatronInfo());
+  }
+
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public Map<String, MonetaryValue> totalAmountsByAccount() {
+    return getTotalAmounts(actionsByAccount);
+  }
+}
@@ -0,0 +1,90 @@
+package org.folio.rest.utils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.benchmark.BenchmarkFixtures;
+import org.folio.rest.jaxrs.model.Item;
+import org.folio.rest.jaxrs.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Compares decoding of downstream responses directly from the buffer with the previous
+ * approach of reading the body as a String first. Run with the gc profiler and compare
+ * gc.alloc.rate.norm of each pair.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonDecoderBenchmark {
+  private static final int ITEMS_IN_COLLECTION = 50;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private Buffer userBuffer;
+  private Buffer itemsBuffer;
+
+  @Setup
+  public void setUp() {
+    BenchmarkFixtures fixtures = new BenchmarkFixtures();
+    userBuffer = JsonObject.mapFrom(fixtures.user()).toBuffer();
+
+    JsonArray items = new JsonArray();
+    for (int i = 0; i < ITEMS_IN_COLLECTION; i++) {
+      items.add(JsonObject.mapFrom(fixtures.item()));
+    }
+
+    itemsBuffer = new JsonObject()
+      .put("items", items)
+      .put("totalRecords", ITEMS_IN_COLLECTION)
+      .put("resultInfo", new JsonObject()
+        .put("totalRecords", ITEMS_IN_COLLECTION)
+        .put("facets", new JsonArray()))
+      .toBuffer();
+  }
+
+  @Benchmark
+  public User decodeFromBuffer() throws IOException {
+    return JsonDecoder.decode(userBuffer, User.class);
+  }
+
+  @Benchmark
+  public User decodeThroughString() throws IOException {
+    return objectMapper.readValue(userBuffer.toString(), User.class);
+  }
+
+  @Benchmark
+  public List<Item> decodeCollectionFromBuffer() throws IOException {
+    return JsonDecoder.decodeCollection(itemsBuffer, "items", Item.class);
+  }
+
+  @Benchmark
+  public List<Item> decodeCollectionThroughTree() throws IOException {
+    List<Item> items = new ArrayList<>();
+    for (JsonNode node : objectMapper.readTree(itemsBuffer.toString()).path("items")) {
+      items.add(objectMapper.treeToValue(node, Item.class));
+    }
+    return items;
+  }
+}
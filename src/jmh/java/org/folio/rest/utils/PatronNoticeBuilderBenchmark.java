@@ -0,0 +1,37 @@
+package org.folio.rest.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.folio.benchmark.BenchmarkFixtures;
+import org.folio.rest.domain.FeeFineNoticeContext;
+import org.folio.rest.jaxrs.model.PatronNotice;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PatronNoticeBuilderBenchmark {
+  private FeeFineNoticeContext context;
+
+  @Setup
+  public void setUp() {
+    context = new BenchmarkFixtures().noticeContext();
+  }
+
+  @Benchmark
+  public PatronNotice buildNotice() {
+    return PatronNoticeBuilder.buildNotice(context);
+  }
+}
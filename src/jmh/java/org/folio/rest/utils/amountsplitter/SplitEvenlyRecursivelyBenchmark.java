@@ -0,0 +1,61 @@
+package org.folio.rest.utils.amountsplitter;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.rest.domain.MonetaryValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SplitEvenlyRecursivelyBenchmark {
+  @Param({"2", "20", "200"})
+  private int numberOfAccounts;
+
+  private final SplitEvenlyRecursively splitter = new SplitEvenlyRecursively();
+
+  private Map<String, MonetaryValue> actionableAmounts;
+  private MonetaryValue requestedAmount;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    actionableAmounts = new HashMap<>();
+    BigDecimal total = BigDecimal.ZERO;
+
+    for (int i = 0; i < numberOfAccounts; i++) {
+      BigDecimal remaining = BigDecimal.valueOf(1 + random.nextInt(15_000), 2);
+      actionableAmounts.put(UUID.randomUUID().toString(), new MonetaryValue(remaining));
+      total = total.add(remaining);
+    }
+
+    // Partial payment of two thirds of the total, which makes the splitter redistribute
+    // amounts of accounts whose remaining amount is below the even share
+    requestedAmount = new MonetaryValue(total.multiply(BigDecimal.valueOf(2))
+      .divide(BigDecimal.valueOf(3), 2, RoundingMode.FLOOR));
+  }
+
+  @Benchmark
+  public Map<String, MonetaryValue> split() {
+    return splitter.split(requestedAmount, actionableAmounts);
+  }
+}
@@ -0,0 +1,136 @@
+package org.folio.load;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+/**
+ * Sends requests at a fixed rate regardless of how fast the module responds (open model).
+ * Workloads are picked at random according to their weights. Requests scheduled during the
+ * warm-up are sent but not recorded. When the number of requests in flight reaches the
+ * limit, scheduled requests are dropped and counted as such.
+ */
+class LoadGenerator {
+  private static final Logger log = LogManager.getLogger(LoadGenerator.class);
+
+  private final Vertx vertx;
+  private final LoadTestClient client;
+  private final LoadTestSettings settings;
+  private final Workload[] workloads;
+  private final int[] cumulativeWeights;
+  private final Map<Workload, WorkloadStats> stats = new EnumMap<>(Workload.class);
+  private final Random random = new Random();
+  private final Promise<Map<Workload, WorkloadStats>> completion = Promise.promise();
+
+  private long measurementStart;
+  private long end;
+  private long nextSendTime;
+  private long intervalNanos;
+  private int inFlight;
+  private boolean sendingFinished;
+
+  LoadGenerator(Vertx vertx, LoadTestClient client, LoadTestSettings settings) {
+    this.vertx = vertx;
+    this.client = client;
+    this.settings = settings;
+
+    workloads = settings.mix.keySet().toArray(new Workload[0]);
+    cumulativeWeights = new int[workloads.length];
+
+    int total = 0;
+    for (int i = 0; i < workloads.length; i++) {
+      total += settings.mix.get(workloads[i]);
+      cumulativeWeights[i] = total;
+      stats.put(workloads[i], new WorkloadStats());
+    }
+  }
+
+  Future<Map<Workload, WorkloadStats>> run() {
+    vertx.runOnContext(v -> {
+      long start = System.nanoTime();
+      measurementStart = start + TimeUnit.SECONDS.toNanos(settings.warmupSeconds);
+      end = measurementStart + TimeUnit.SECONDS.toNanos(settings.durationSeconds);
+      nextSendTime = start;
+      intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.rate;
+
+      log.info("Warming up for {} s", settings.warmupSeconds);
+      vertx.setPeriodic(1, this::tick);
+    });
+
+    return completion.future();
+  }
+
+  private void tick(long timerId) {
+    long now = System.nanoTime();
+
+    while (nextSendTime <= now && nextSendTime < end) {
+      send(nextSendTime);
+      nextSendTime += intervalNanos;
+    }
+
+    if (now >= end) {
+      vertx.cancelTimer(timerId);
+      sendingFinished = true;
+      log.info("Waiting for {} requests in flight", inFlight);
+      completeIfDone();
+    }
+  }
+
+  private void send(long scheduledTime) {
+    final Workload workload = pickWorkload();
+    final boolean measured = scheduledTime >= measurementStart;
+    final WorkloadStats workloadStats = stats.get(workload);
+
+    if (inFlight >= settings.maxInFlight) {
+      if (measured) {
+        workloadStats.recordDropped();
+      }
+      return;
+    }
+
+    inFlight++;
+
+    workload.send(client).onComplete(result -> {
+      inFlight--;
+
+      if (measured) {
+        if (result.succeeded() && result.result().statusCode() < 300) {
+          workloadStats.recordSuccess(System.nanoTime() - scheduledTime);
+        } else {
+          workloadStats.recordFailure();
+          log.debug("{} failed: {}", workload, result.succeeded()
+            ? result.result().statusCode() + " " + result.result().bodyAsString()
+            : result.cause().getMessage());
+        }
+      }
+
+      completeIfDone();
+    });
+  }
+
+  private Workload pickWorkload() {
+    int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+
+    for (int i = 0; i < cumulativeWeights.length; i++) {
+      if (value < cumulativeWeights[i]) {
+        return workloads[i];
+      }
+    }
+
+    return workloads[workloads.length - 1];
+  }
+
+  private void completeIfDone() {
+    if (sendingFinished && inFlight == 0) {
+      completion.tryComplete(stats);
+    }
+  }
+}
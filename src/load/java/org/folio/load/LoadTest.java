@@ -0,0 +1,90 @@
+package org.folio.load;
+
+import static java.lang.String.format;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Boots the module with stubbed dependencies, drives a mix of workloads at a target rate and
+ * reports throughput and latency percentiles of each workload. See "Load tests" in README.md.
+ */
+public class LoadTest {
+  private static final Logger log = LogManager.getLogger(LoadTest.class);
+
+  private LoadTest() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    LoadTestSettings settings = new LoadTestSettings();
+    LoadTestEnvironment environment = new LoadTestEnvironment(settings.downstreamLatency,
+      settings.downstreamJitter);
+    int exitCode = 0;
+
+    log.info("Starting load test: {}", settings);
+
+    try {
+      LoadTestClient client = environment.start()
+        .compose(v -> environment.seed(settings))
+        .toCompletionStage().toCompletableFuture().join();
+
+      Map<Workload, WorkloadStats> stats = new LoadGenerator(environment.getVertx(), client,
+        settings).run().toCompletionStage().toCompletableFuture().join();
+
+      System.out.println(formatReport(stats, settings));
+      writeResult(stats, settings);
+    } catch (Exception e) {
+      log.error("Load test failed", e);
+      exitCode = 1;
+    } finally {
+      environment.stop();
+    }
+
+    System.exit(exitCode);
+  }
+
+  private static String formatReport(Map<Workload, WorkloadStats> stats,
+    LoadTestSettings settings) {
+
+    StringBuilder report = new StringBuilder(format("%n%-22s %9s %7s %7s %10s %9s %9s %9s %9s%n",
+      "workload", "succeeded", "failed", "dropped", "req/s", "p50 ms", "p99 ms", "p99.9 ms",
+      "max ms"));
+
+    stats.forEach((workload, workloadStats) -> report.append(format(
+      "%-22s %9d %7d %7d %10.1f %9.1f %9.1f %9.1f %9.1f%n", workload,
+      workloadStats.getSucceeded(), workloadStats.getFailed(), workloadStats.getDropped(),
+      (double) workloadStats.getSucceeded() / settings.durationSeconds,
+      workloadStats.percentileMillis(50), workloadStats.percentileMillis(99),
+      workloadStats.percentileMillis(99.9), workloadStats.maxMillis())));
+
+    return report.toString();
+  }
+
+  private static void writeResult(Map<Workload, WorkloadStats> stats, LoadTestSettings settings)
+    throws IOException {
+
+    JsonObject workloads = new JsonObject();
+    stats.forEach((workload, workloadStats) ->
+      workloads.put(workload.getName(), workloadStats.toJson(settings.durationSeconds)));
+
+    JsonObject result = new JsonObject()
+      .put("settings", settings.toString())
+      .put("workloads", workloads);
+
+    Path path = Paths.get(settings.resultFile);
+    if (path.getParent() != null) {
+      Files.createDirectories(path.getParent());
+    }
+    Files.write(path, result.encodePrettily().getBytes(StandardCharsets.UTF_8));
+    log.info("Results written to {}", path.toAbsolutePath());
+  }
+}
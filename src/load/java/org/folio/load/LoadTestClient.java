@@ -0,0 +1,136 @@
+package org.folio.load;
+
+import static java.lang.String.format;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
+import static org.folio.rest.RestVerticle.OKAPI_HEADER_TOKEN;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.folio.rest.jaxrs.model.CashDrawerReconciliationReportRequest;
+import org.folio.rest.jaxrs.model.CheckActionRequest;
+import org.folio.rest.jaxrs.model.DefaultActionRequest;
+import org.folio.rest.jaxrs.model.DefaultBulkActionRequest;
+import org.folio.rest.jaxrs.model.RefundReportRequest;
+import org.folio.rest.tools.utils.StringUtil;
+
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.client.HttpRequest;
+import io.vertx.ext.web.client.HttpResponse;
+import io.vertx.ext.web.client.WebClient;
+
+/**
+ * Builds the requests of each workload. Amounts are small compared to the seeded accounts, so
+ * that accounts stay open for the whole run.
+ */
+class LoadTestClient {
+  private static final String PAYMENT_AMOUNT = "1.00";
+  private static final String PAYMENT_METHOD = "Cash";
+
+  private final WebClient webClient;
+  private final int verticlePort;
+  private final String okapiUrl;
+  private final LoadTestData data;
+  private final int bulkSize;
+  private final Random random = new Random();
+
+  LoadTestClient(WebClient webClient, int verticlePort, String okapiUrl, LoadTestData data,
+    int bulkSize) {
+
+    this.webClient = webClient;
+    this.verticlePort = verticlePort;
+    this.okapiUrl = okapiUrl;
+    this.data = data;
+    this.bulkSize = bulkSize;
+  }
+
+  Future<Void> create(String path, Object entity) {
+    return post(path, JsonObject.mapFrom(entity))
+      .compose(response -> response.statusCode() == 201
+        ? Future.<Void>succeededFuture()
+        : Future.<Void>failedFuture(format("Failed to create %s: %d %s", path,
+          response.statusCode(), response.bodyAsString())));
+  }
+
+  Future<HttpResponse<Buffer>> pay() {
+    return post(format("/accounts/%s/pay", randomAccountId()), actionRequest());
+  }
+
+  Future<HttpResponse<Buffer>> bulkPay() {
+    List<String> accountIds = new ArrayList<>(bulkSize);
+    for (int i = 0; i < bulkSize; i++) {
+      accountIds.add(randomAccountId());
+    }
+
+    return post("/accounts-bulk/pay", JsonObject.mapFrom(new DefaultBulkActionRequest()
+      .withAccountIds(accountIds)
+      .withAmount(format("%d.00", bulkSize))
+      .withPaymentMethod(PAYMENT_METHOD)
+      .withServicePointId(data.servicePointId)
+      .withUserName(data.userName)
+      .withNotifyPatron(true)));
+  }
+
+  Future<HttpResponse<Buffer>> checkPay() {
+    return post(format("/accounts/%s/check-pay", randomAccountId()),
+      JsonObject.mapFrom(new CheckActionRequest().withAmount(PAYMENT_AMOUNT)));
+  }
+
+  Future<HttpResponse<Buffer>> getAccountsByUser() {
+    String query = StringUtil.urlEncode("userId==" + randomUserId());
+
+    return request(webClient.get(verticlePort, "localhost",
+      format("/accounts?query=%s&limit=100", query)))
+      .send();
+  }
+
+  Future<HttpResponse<Buffer>> refundReport() {
+    return post("/feefine-reports/refund", JsonObject.mapFrom(new RefundReportRequest()
+      .withStartDate(LocalDate.now().minusDays(30).toString())
+      .withEndDate(LocalDate.now().toString())));
+  }
+
+  Future<HttpResponse<Buffer>> cashDrawerReport() {
+    return post("/feefine-reports/cash-drawer-reconciliation",
+      JsonObject.mapFrom(new CashDrawerReconciliationReportRequest()
+        .withStartDate(LocalDate.now().minusDays(30).toString())
+        .withEndDate(LocalDate.now().toString())
+        .withCreatedAt(data.servicePointId)
+        .withSources(List.of(data.userName))));
+  }
+
+  private JsonObject actionRequest() {
+    return JsonObject.mapFrom(new DefaultActionRequest()
+      .withAmount(PAYMENT_AMOUNT)
+      .withPaymentMethod(PAYMENT_METHOD)
+      .withServicePointId(data.servicePointId)
+      .withUserName(data.userName)
+      .withNotifyPatron(true));
+  }
+
+  private Future<HttpResponse<Buffer>> post(String path, JsonObject body) {
+    return request(webClient.post(verticlePort, "localhost", path))
+      .sendJsonObject(body);
+  }
+
+  private HttpRequest<Buffer> request(HttpRequest<Buffer> request) {
+    return request
+      .putHeader(OKAPI_HEADER_TENANT, LoadTestEnvironment.TENANT)
+      .putHeader(OKAPI_HEADER_TOKEN, LoadTestEnvironment.OKAPI_TOKEN)
+      .putHeader("x-okapi-url", okapiUrl)
+      .putHeader("x-okapi-user-id", data.userId)
+      .putHeader("Accept", "application/json, text/plain");
+  }
+
+  private String randomAccountId() {
+    return data.accountIds.get(random.nextInt(data.accountIds.size()));
+  }
+
+  private String randomUserId() {
+    return data.userIds.get(random.nextInt(data.userIds.size()));
+  }
+}
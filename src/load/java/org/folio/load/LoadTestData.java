@@ -0,0 +1,72 @@
+package org.folio.load;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.PaymentStatus;
+import org.folio.rest.jaxrs.model.Status;
+
+/**
+ * Accounts of patrons used by the workloads. Each account is charged far more than a run
+ * can pay, so that every pay request is accepted.
+ */
+class LoadTestData {
+  private static final double ACCOUNT_AMOUNT = 1_000_000.0;
+
+  final String servicePointId = UUID.randomUUID().toString();
+  final String userId = UUID.randomUUID().toString();
+  final String userName = "Load, Test";
+  final String ownerId = UUID.randomUUID().toString();
+  final String feeFineId = UUID.randomUUID().toString();
+  final String noticeTemplateId = UUID.randomUUID().toString();
+  final List<String> userIds;
+  final List<String> accountIds;
+
+  private final List<Account> accounts;
+
+  LoadTestData(int users, int accountsPerUser) {
+    List<String> generatedUserIds = new ArrayList<>(users);
+    accounts = new ArrayList<>(users * accountsPerUser);
+
+    for (int i = 0; i < users; i++) {
+      String patronId = UUID.randomUUID().toString();
+      generatedUserIds.add(patronId);
+
+      for (int j = 0; j < accountsPerUser; j++) {
+        accounts.add(buildAccount(patronId));
+      }
+    }
+
+    userIds = Collections.unmodifiableList(generatedUserIds);
+    accountIds = Collections.unmodifiableList(accounts.stream()
+      .map(Account::getId)
+      .collect(Collectors.toList()));
+  }
+
+  List<Account> getAccounts() {
+    return accounts;
+  }
+
+  private Account buildAccount(String patronId) {
+    return new Account()
+      .withId(UUID.randomUUID().toString())
+      .withUserId(patronId)
+      .withItemId(UUID.randomUUID().toString())
+      .withLoanId(UUID.randomUUID().toString())
+      .withMaterialTypeId(UUID.randomUUID().toString())
+      .withOwnerId(ownerId)
+      .withFeeFineId(feeFineId)
+      .withFeeFineOwner("Main library")
+      .withFeeFineType("Overdue fine")
+      .withBarcode("12345")
+      .withTitle("Load test title")
+      .withAmount(ACCOUNT_AMOUNT)
+      .withRemaining(ACCOUNT_AMOUNT)
+      .withPaymentStatus(new PaymentStatus().withName("Outstanding"))
+      .withStatus(new Status().withName("Open"));
+  }
+}
@@ -0,0 +1,183 @@
+package org.folio.load;
+
+import static java.lang.String.format;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.collections4.map.CaseInsensitiveMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.RestVerticle;
+import org.folio.rest.impl.TenantRefAPI;
+import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.Feefine;
+import org.folio.rest.jaxrs.model.Owner;
+import org.folio.rest.jaxrs.model.TenantAttributes;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.repository.AccountRepository;
+import org.folio.rest.tools.PomReader;
+import org.folio.rest.tools.utils.NetworkUtils;
+
+import io.vertx.core.DeploymentOptions;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.WebClientOptions;
+
+/**
+ * Runs the module in this JVM against embedded Postgres, or against the database configured
+ * with the usual DB_* environment variables, with Okapi and other modules stubbed out.
+ */
+class LoadTestEnvironment {
+  private static final Logger log = LogManager.getLogger(LoadTestEnvironment.class);
+
+  static final String TENANT = "load_test";
+  static final String OKAPI_TOKEN = format("1.%s.3", Base64.getEncoder().encodeToString(
+    new JsonObject().put("tenant", TENANT).put("sub", "load-test").encode().getBytes()));
+
+  private static final String MODULE_NAME = "mod-feesfines";
+  private static final int SEED_BATCH_SIZE = 1_000;
+
+  private final int downstreamLatency;
+  private final int downstreamJitter;
+  private final int verticlePort = NetworkUtils.nextFreePort();
+
+  private Vertx vertx;
+  private StubbedOkapi okapi;
+
+  LoadTestEnvironment(int downstreamLatency, int downstreamJitter) {
+    this.downstreamLatency = downstreamLatency;
+    this.downstreamJitter = downstreamJitter;
+  }
+
+  /**
+   * Starts the database, the stubs and the module and creates the tenant.
+   */
+  Future<Void> start() throws Exception {
+    vertx = Vertx.vertx();
+    PostgresClient.getInstance(vertx).startEmbeddedPostgres();
+
+    okapi = new StubbedOkapi(downstreamLatency, downstreamJitter);
+    okapi.start(verticlePort);
+
+    return deployVerticle()
+      .compose(v -> createTenant());
+  }
+
+  /**
+   * Seeds data of the load test and returns a client sending the requests of its workloads.
+   */
+  Future<LoadTestClient> seed(LoadTestSettings settings) {
+    WebClient webClient = WebClient.create(vertx, new WebClientOptions()
+      .setMaxPoolSize(settings.maxInFlight)
+      .setKeepAlive(true));
+    LoadTestData data = new LoadTestData(settings.users, settings.accountsPerUser);
+    LoadTestClient client = new LoadTestClient(webClient, verticlePort, okapi.getUrl(), data,
+      settings.bulkSize);
+
+    return seed(client, data).map(client);
+  }
+
+  void stop() {
+    if (okapi != null) {
+      okapi.stop();
+    }
+
+    if (vertx != null) {
+      Promise<Void> closed = Promise.promise();
+      vertx.close(closed);
+      closed.future().toCompletionStage().toCompletableFuture().join();
+      PostgresClient.stopEmbeddedPostgres();
+    }
+  }
+
+  Vertx getVertx() {
+    return vertx;
+  }
+
+  /**
+   * Okapi headers for services called in this JVM, without going through HTTP.
+   */
+  Map<String, String> okapiHeaders() {
+    Map<String, String> headers = new CaseInsensitiveMap<>();
+
+    headers.put("x-okapi-tenant", TENANT);
+    headers.put("x-okapi-url", okapi.getUrl());
+    headers.put("x-okapi-token", OKAPI_TOKEN);
+
+    return headers;
+  }
+
+  private Future<Void> deployVerticle() {
+    Promise<String> promise = Promise.promise();
+
+    vertx.deployVerticle(RestVerticle.class.getName(), new DeploymentOptions()
+      .setConfig(new JsonObject().put("http.port", verticlePort)), promise);
+
+    return promise.future().mapEmpty();
+  }
+
+  private Future<Void> createTenant() {
+    Promise<Void> promise = Promise.promise();
+    Map<String, String> headers = new CaseInsensitiveMap<>();
+
+    headers.put("Content-type", "application/json");
+    headers.put("Accept", "application/json,text/plain");
+    headers.put("x-okapi-tenant", TENANT);
+    headers.put("x-okapi-url", okapi.getUrl());
+
+    TenantAttributes attributes = new TenantAttributes()
+      .withModuleTo(MODULE_NAME + "-" + PomReader.INSTANCE.getVersion());
+
+    new TenantRefAPI().postTenant(attributes, headers, result -> {
+      if (result.failed() || result.result().getStatus() >= 300) {
+        promise.fail("Failed to create tenant: " + (result.failed()
+          ? result.cause().getMessage() : result.result().getEntity()));
+      } else {
+        promise.complete();
+      }
+    }, vertx.getOrCreateContext());
+
+    return promise.future();
+  }
+
+  /**
+   * Creates the owner and fee/fine type needed for patron notices and inserts accounts in
+   * batches directly into the database.
+   */
+  private Future<Void> seed(LoadTestClient client, LoadTestData data) {
+    log.info("Seeding {} accounts of {} users", data.accountIds.size(), data.userIds.size());
+
+    return client.create("/owners", new Owner()
+        .withId(data.ownerId)
+        .withOwner("Main library")
+        .withDefaultActionNoticeId(data.noticeTemplateId)
+        .withDefaultChargeNoticeId(data.noticeTemplateId))
+      .compose(v -> client.create("/feefines", new Feefine()
+        .withId(data.feeFineId)
+        .withOwnerId(data.ownerId)
+        .withFeeFineType("Overdue fine")
+        .withAutomatic(false)
+        .withActionNoticeId(data.noticeTemplateId)))
+      .compose(v -> saveAccounts(data));
+  }
+
+  private Future<Void> saveAccounts(LoadTestData data) {
+    AccountRepository accountRepository =
+      new AccountRepository(PostgresClient.getInstance(vertx, TENANT));
+    List<Account> accounts = data.getAccounts();
+
+    Future<Void> result = Future.succeededFuture();
+    for (int from = 0; from < accounts.size(); from += SEED_BATCH_SIZE) {
+      List<Account> batch = accounts.subList(from,
+        Math.min(from + SEED_BATCH_SIZE, accounts.size()));
+      result = result.compose(v -> accountRepository.saveBatch(batch).mapEmpty());
+    }
+
+    return result;
+  }
+}
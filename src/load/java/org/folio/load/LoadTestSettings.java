@@ -0,0 +1,72 @@
+package org.folio.load;
+
+import static java.lang.Integer.getInteger;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Settings of a load test run, read from system properties with the "load." prefix.
+ */
+public class LoadTestSettings {
+  private static final String DEFAULT_MIX = "pay=40,bulk-pay=10,check-pay=20,"
+    + "get-accounts-by-user=25,refund-report=3,cash-drawer-report=2";
+
+  final int rate;
+  final int warmupSeconds;
+  final int durationSeconds;
+  final int maxInFlight;
+  final int users;
+  final int accountsPerUser;
+  final int bulkSize;
+  final int downstreamLatency;
+  final int downstreamJitter;
+  final Map<Workload, Integer> mix;
+  final String resultFile;
+
+  LoadTestSettings() {
+    rate = getInteger("load.rate", 50);
+    warmupSeconds = getInteger("load.warmup", 10);
+    durationSeconds = getInteger("load.duration", 60);
+    maxInFlight = getInteger("load.maxInFlight", 500);
+    users = getInteger("load.users", 200);
+    accountsPerUser = getInteger("load.accountsPerUser", 5);
+    bulkSize = getInteger("load.bulkSize", 10);
+    downstreamLatency = getInteger("load.downstreamLatency", 20);
+    downstreamJitter = getInteger("load.downstreamJitter", 10);
+    mix = parseMix(System.getProperty("load.mix", DEFAULT_MIX));
+    resultFile = System.getProperty("load.resultFile", "target/load-test-result.json");
+  }
+
+  /**
+   * Parses relative weights of workloads, e.g. "pay=3,refund-report=1".
+   */
+  static Map<Workload, Integer> parseMix(String mix) {
+    Map<Workload, Integer> weights = new EnumMap<>(Workload.class);
+
+    for (String entry : mix.split(",")) {
+      String[] nameAndWeight = entry.trim().split("=");
+      if (nameAndWeight.length != 2) {
+        throw new IllegalArgumentException("Invalid workload mix entry: " + entry);
+      }
+
+      int weight = Integer.parseInt(nameAndWeight[1].trim());
+      if (weight > 0) {
+        weights.put(Workload.fromName(nameAndWeight[0].trim()), weight);
+      }
+    }
+
+    if (weights.isEmpty()) {
+      throw new IllegalArgumentException("Workload mix is empty: " + mix);
+    }
+
+    return weights;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("rate=%d/s, warmup=%ds, duration=%ds, users=%d, accountsPerUser=%d, "
+        + "bulkSize=%d, downstreamLatency=%d+%dms, mix=%s", rate, warmupSeconds,
+      durationSeconds, users, accountsPerUser, bulkSize, downstreamLatency, downstreamJitter, mix);
+  }
+}
@@ -0,0 +1,217 @@
+package org.folio.load;
+
+import static java.lang.Integer.getInteger;
+import static java.lang.String.format;
+import static org.folio.rest.metrics.ServerTiming.Phase.DB;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.metrics.ServerTiming;
+import org.folio.rest.service.report.CashDrawerReconciliationReportService;
+import org.folio.rest.service.report.RefundReportService;
+import org.folio.rest.service.report.parameters.CashDrawerReconciliationReportParameters;
+import org.joda.time.DateTime;
+
+import com.sun.management.ThreadMXBean;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Runs the refund and cash drawer reconciliation reports over generated tenants of increasing
+ * size (see {@link TenantDataGenerator}). Services are called in this JVM, without HTTP, and
+ * every run records wall time, time spent in database queries, peak heap usage and bytes
+ * allocated by all threads. See "Report benchmarks" in README.md.
+ */
+public class ReportBenchmark {
+  private static final Logger log = LogManager.getLogger(ReportBenchmark.class);
+
+  private static final String REFUND = "refund";
+  private static final String CASH_DRAWER = "cash-drawer-reconciliation";
+
+  private final LoadTestEnvironment environment;
+  private final int days = getInteger("report.days", 365);
+  private final int iterations = getInteger("report.iterations", 3);
+  private final JsonArray results = new JsonArray();
+
+  private ReportBenchmark(LoadTestEnvironment environment) {
+    this.environment = environment;
+  }
+
+  public static void main(String[] args) throws Exception {
+    int[] scales = Arrays.stream(System.getProperty("report.scales", "10000,100000,1000000")
+      .split(","))
+      .map(String::trim)
+      .mapToInt(Integer::parseInt)
+      .toArray();
+    String resultFile = System.getProperty("report.resultFile",
+      "target/report-benchmark-result.json");
+
+    LoadTestEnvironment environment = new LoadTestEnvironment(0, 0);
+    int exitCode = 0;
+
+    try {
+      environment.start().toCompletionStage().toCompletableFuture().join();
+
+      ReportBenchmark benchmark = new ReportBenchmark(environment);
+      for (int scale : scales) {
+        benchmark.run(scale);
+      }
+
+      System.out.println(benchmark.formatSummary());
+      Path path = Paths.get(resultFile);
+      if (path.getParent() != null) {
+        Files.createDirectories(path.getParent());
+      }
+      Files.write(path, benchmark.results.encodePrettily().getBytes(StandardCharsets.UTF_8));
+      log.info("Results written to {}", path.toAbsolutePath());
+    } catch (Exception e) {
+      log.error("Report benchmark failed", e);
+      exitCode = 1;
+    } finally {
+      environment.stop();
+    }
+
+    System.exit(exitCode);
+  }
+
+  private void run(int scale) {
+    new TenantDataGenerator(environment.getVertx(), LoadTestEnvironment.TENANT, days)
+      .generate(scale)
+      .toCompletionStage().toCompletableFuture().join();
+
+    measure(scale, REFUND, (headers, context) ->
+      new RefundReportService(headers, context)
+        .buildReport(DateTime.now().minusDays(days), DateTime.now(), null)
+        .map(report -> report.getReportData().size()));
+
+    measure(scale, CASH_DRAWER, (headers, context) ->
+      new CashDrawerReconciliationReportService(headers, context)
+        .build(new CashDrawerReconciliationReportParameters(DateTime.now().minusDays(days),
+          DateTime.now(), TenantDataGenerator.busiestServicePointId(), null))
+        .map(report -> report.getReportData().size()));
+  }
+
+  /**
+   * Runs the report once to warm up and then {@code iterations} times with measurements.
+   */
+  private void measure(int scale, String report,
+    BiFunction<Map<String, String>, Context, Future<Integer>> buildReport) {
+
+    log.info("Running {} report over {} actions", report, scale);
+    runReport(buildReport);
+
+    for (int iteration = 1; iteration <= iterations; iteration++) {
+      System.gc();
+      List<MemoryPoolMXBean> heapPools = heapPools();
+      heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+      long allocatedBefore = allocatedBytes();
+      long startTime = System.nanoTime();
+
+      ReportRun run = runReport(buildReport);
+
+      long wallTime = System.nanoTime() - startTime;
+      long allocated = allocatedBytes() - allocatedBefore;
+      long heapPeak = heapPools.stream()
+        .mapToLong(pool -> pool.getPeakUsage().getUsed())
+        .sum();
+
+      results.add(new JsonObject()
+        .put("scale", scale)
+        .put("report", report)
+        .put("iteration", iteration)
+        .put("rows", run.rows)
+        .put("wallTimeMs", TimeUnit.NANOSECONDS.toMillis(wallTime))
+        .put("queryTimeMs", TimeUnit.NANOSECONDS.toMillis(run.queryTime))
+        .put("heapPeakMb", heapPeak / (1024 * 1024))
+        .put("allocatedMb", allocated / (1024 * 1024)));
+    }
+  }
+
+  private ReportRun runReport(
+    BiFunction<Map<String, String>, Context, Future<Integer>> buildReport) {
+
+    Map<String, String> headers = environment.okapiHeaders();
+    headers.put(ServerTiming.ENABLE_HEADER, "true");
+    ServerTiming serverTiming = ServerTiming.start(headers);
+
+    Context context = environment.getVertx().getOrCreateContext();
+    Promise<Integer> rows = Promise.promise();
+    context.runOnContext(v -> buildReport.apply(headers, context).onComplete(rows));
+
+    try {
+      int rowCount = rows.future().toCompletionStage().toCompletableFuture().join();
+      return new ReportRun(rowCount, serverTiming.getDurationNanos(DB));
+    } finally {
+      serverTiming.finish();
+    }
+  }
+
+  private String formatSummary() {
+    StringBuilder summary = new StringBuilder(format("%n%-28s %10s %8s %10s %10s %10s %12s%n",
+      "report", "actions", "rows", "wall ms", "query ms", "heap MB", "allocated MB"));
+
+    List<JsonObject> rows = new ArrayList<>();
+    results.forEach(result -> rows.add((JsonObject) result));
+    rows.sort(Comparator.comparing((JsonObject row) -> row.getString("report"))
+      .thenComparing(row -> row.getInteger("scale"))
+      .thenComparing(row -> row.getInteger("iteration")));
+
+    rows.forEach(row -> summary.append(format("%-28s %10d %8d %10d %10d %10d %12d%n",
+      row.getString("report"), row.getInteger("scale"), row.getInteger("rows"),
+      row.getLong("wallTimeMs"), row.getLong("queryTimeMs"), row.getLong("heapPeakMb"),
+      row.getLong("allocatedMb"))));
+
+    return summary.toString();
+  }
+
+  private static List<MemoryPoolMXBean> heapPools() {
+    List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP) {
+        heapPools.add(pool);
+      }
+    }
+    return heapPools;
+  }
+
+  /**
+   * Bytes allocated so far by all live threads. Threads of Vert.x and the Postgres client are
+   * long-lived, so the difference between two calls covers the work of a report.
+   */
+  private static long allocatedBytes() {
+    ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    return Arrays.stream(threads.getThreadAllocatedBytes(threads.getAllThreadIds()))
+      .filter(bytes -> bytes > 0)
+      .sum();
+  }
+
+  private static class ReportRun {
+    private final int rows;
+    private final long queryTime;
+
+    private ReportRun(int rows, long queryTime) {
+      this.rows = rows;
+      this.queryTime = queryTime;
+    }
+  }
+}
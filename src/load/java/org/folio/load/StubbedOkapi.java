@@ -0,0 +1,122 @@
+package org.folio.load;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
+
+import java.util.UUID;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Stands in for Okapi and the modules the module calls: inventory, users, configuration,
+ * pubsub and patron notices. Every stubbed response is delayed by the configured latency plus
+ * a random jitter. Requests to other paths are proxied to the module without a delay.
+ */
+class StubbedOkapi {
+  private static final String UUID_PATH = "/[0-9a-fA-F-]{36}";
+
+  private final WireMockServer server;
+  private final int latency;
+  private final int jitter;
+
+  StubbedOkapi(int latency, int jitter) {
+    this.latency = latency;
+    this.jitter = jitter;
+
+    server = new WireMockServer(new WireMockConfiguration()
+      .dynamicPort()
+      .containerThreads(100)
+      .jettyAcceptors(4)
+      .disableRequestJournal());
+  }
+
+  void start(int verticlePort) {
+    server.start();
+
+    stubPost("/pubsub/publish", 204);
+    stubPost("/pubsub/event-types", 201);
+    stubPost("/pubsub/event-types/declare/publisher", 201);
+    stubPost("/pubsub/event-types/declare/subscriber", 201);
+    stubPost("/patron-notice", 200);
+
+    stubGetById("/item-storage/items", new JsonObject()
+      .put("barcode", "12345")
+      .put("holdingsRecordId", UUID.randomUUID().toString())
+      .put("effectiveLocationId", UUID.randomUUID().toString())
+      .put("materialTypeId", UUID.randomUUID().toString()));
+    stubGetById("/holdings-storage/holdings", new JsonObject()
+      .put("instanceId", UUID.randomUUID().toString()));
+    stubGetById("/instance-storage/instances", new JsonObject()
+      .put("title", "Load test title"));
+    stubGetById("/locations", new JsonObject().put("name", "Stacks"));
+    stubGetById("/location-units/institutions", new JsonObject().put("name", "Institution"));
+    stubGetById("/location-units/campuses", new JsonObject().put("name", "Campus"));
+    stubGetById("/location-units/libraries", new JsonObject().put("name", "Library"));
+    stubGetById("/users", new JsonObject()
+      .put("barcode", "54321")
+      .put("patronGroup", UUID.randomUUID().toString())
+      .put("personal", new JsonObject()
+        .put("firstName", "Load")
+        .put("lastName", "Test")));
+    stubGetById("/groups", new JsonObject().put("group", "staff"));
+
+    stubGetCollection("/item-storage/items", "items");
+    stubGetCollection("/holdings-storage/holdings", "holdingsRecords");
+    stubGetCollection("/instance-storage/instances", "instances");
+    stubGetCollection("/users", "users");
+    stubGetCollection("/groups", "usergroups");
+    stubGetCollection("/configurations/entries", "configs");
+
+    server.stubFor(any(anyUrl())
+      .atPriority(Integer.MAX_VALUE)
+      .willReturn(aResponse().proxiedFrom("http://localhost:" + verticlePort)));
+  }
+
+  void stop() {
+    server.stop();
+  }
+
+  String getUrl() {
+    return server.baseUrl();
+  }
+
+  private void stubPost(String path, int status) {
+    server.stubFor(post(urlPathEqualTo(path))
+      .willReturn(delayed(aResponse().withStatus(status))));
+  }
+
+  private void stubGetById(String path, JsonObject object) {
+    server.stubFor(get(urlPathMatching(path + UUID_PATH))
+      .willReturn(delayed(json(object.copy().put("id", UUID.randomUUID().toString())))));
+  }
+
+  private void stubGetCollection(String path, String collectionName) {
+    server.stubFor(get(urlPathEqualTo(path))
+      .willReturn(delayed(json(new JsonObject()
+        .put(collectionName, new JsonArray())
+        .put("totalRecords", 0)))));
+  }
+
+  private ResponseDefinitionBuilder delayed(ResponseDefinitionBuilder response) {
+    return jitter > 0
+      ? response.withUniformRandomDelay(latency, latency + jitter)
+      : response.withFixedDelay(latency);
+  }
+
+  private static ResponseDefinitionBuilder json(JsonObject body) {
+    return aResponse()
+      .withStatus(200)
+      .withHeader("Content-Type", "application/json")
+      .withBody(body.encode());
+  }
+}
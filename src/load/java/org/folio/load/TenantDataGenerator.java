@@ -0,0 +1,247 @@
+package org.folio.load;
+
+import static java.lang.String.format;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.persist.PostgresClient;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+
+/**
+ * Fills the tenant with accounts and fee/fine actions generated by Postgres itself, using
+ * INSERT ... SELECT over generate_series, so that millions of records are loaded without
+ * sending them over the wire.
+ * <p>
+ * Every value is derived from a hash of the row number, so the same scale always produces the
+ * same data. On average an account has a charge and three further actions: 55% payments, 15%
+ * transfers, 15% waives, 7% credits and 8% refunds. Patrons, fee/fine owners, staff members
+ * (sources) and service points are skewed, so that some of them have far more actions than
+ * others, as in real libraries.
+ */
+class TenantDataGenerator {
+  private static final Logger log = LogManager.getLogger(TenantDataGenerator.class);
+
+  private static final int ACTIONS_PER_ACCOUNT = 4;
+  private static final int ACCOUNTS_PER_PATRON = 3;
+  private static final int OWNERS = 5;
+  private static final int SOURCES = 20;
+  private static final int SERVICE_POINTS = 10;
+  private static final int CHUNK_SIZE = 500_000;
+  private static final String DATE_FORMAT = "YYYY-MM-DD\"T\"HH24:MI:SS.MS\"Z\"";
+
+  private final PostgresClient pgClient;
+  private final String schema;
+  private final int days;
+
+  TenantDataGenerator(Vertx vertx, String tenantId, int days) {
+    pgClient = PostgresClient.getInstance(vertx, tenantId);
+    schema = PostgresClient.convertToPsqlStandard(tenantId);
+    this.days = days;
+  }
+
+  /**
+   * ID of the service point where most payments are made.
+   */
+  static String busiestServicePointId() {
+    // md5('service-point-0')::uuid
+    return "17c33827-9f44-a1aa-a72d-1af020beea50";
+  }
+
+  /**
+   * Replaces all accounts and actions of the tenant with {@code numberOfActions} generated
+   * actions and their accounts.
+   */
+  Future<Void> generate(int numberOfActions) {
+    final int accounts = Math.max(1, numberOfActions / ACTIONS_PER_ACCOUNT);
+    final long startTime = System.currentTimeMillis();
+
+    log.info("Generating {} accounts and {} actions", accounts, numberOfActions);
+
+    return execute(format("TRUNCATE %1$s.accounts, %1$s.feefineactions, %1$s.accounts_archive, "
+      + "%1$s.feefineactions_archive, %1$s.patron_balances, %1$s.fee_fine_changes", schema))
+      .compose(v -> inChunks(1, accounts, (from, to) -> execute(insertAccounts(from, to,
+        accounts))))
+      .compose(v -> inChunks(1, numberOfActions, (from, to) -> execute(insertActions(from, to,
+        accounts))))
+      .compose(v -> execute(format("ANALYZE %1$s.accounts, %1$s.feefineactions", schema)))
+      .onSuccess(v -> log.info("Generated {} actions in {} s", numberOfActions,
+        (System.currentTimeMillis() - startTime) / 1000));
+  }
+
+  private String insertAccounts(int from, int to, int accounts) {
+    final String patrons = String.valueOf(Math.max(1, accounts / ACCOUNTS_PER_PATRON));
+
+    return format("INSERT INTO %s.accounts (id, jsonb) "
+        + "SELECT id, jsonb_build_object("
+        + "'id', id, "
+        + "'userId', %s, "
+        + "'ownerId', %s, "
+        + "'feeFineOwner', 'Owner ' || %s, "
+        + "'feeFineId', md5('feefine-' || mod(i, 4))::uuid, "
+        + "'feeFineType', %s, "
+        + "'amount', %s, "
+        + "'remaining', round(%s * %s, 2), "
+        + "'status', jsonb_build_object('name', 'Open'), "
+        + "'paymentStatus', jsonb_build_object('name', 'Paid partially'), "
+        + "'itemId', md5('item-' || i)::uuid, "
+        + "'loanId', md5('loan-' || i)::uuid, "
+        + "'materialTypeId', md5('material-type-' || mod(i, 3))::uuid, "
+        + "'barcode', (1000000 + i)::text, "
+        + "'title', 'Generated title ' || i, "
+        + "'metadata', jsonb_build_object('createdDate', %s, 'updatedDate', %s)) "
+        + "FROM (SELECT i, md5('account-' || i)::uuid AS id FROM generate_series(%d, %d) i) s",
+      schema, patronId("i", patrons), ownerId("i"), ownerIndex("i"), feeFineType("i"),
+      amount("i"), amount("i"), uniform("remaining", "i"), formatDate(accountDate("i")),
+      formatDate(accountDate("i")), from, to);
+  }
+
+  private String insertActions(int from, int to, int accounts) {
+    final String patrons = String.valueOf(Math.max(1, accounts / ACCOUNTS_PER_PATRON));
+    final String type = uniform("type", "j");
+    final String full = format("(%s < 0.3)", uniform("full", "j"));
+
+    final String typeAction = format("CASE WHEN j <= %1$d THEN %2$s "
+        + "WHEN %3$s < 0.55 THEN CASE WHEN %4$s THEN 'Paid fully' ELSE 'Paid partially' END "
+        + "WHEN %3$s < 0.70 THEN CASE WHEN %4$s THEN 'Transferred fully' "
+        + "ELSE 'Transferred partially' END "
+        + "WHEN %3$s < 0.85 THEN CASE WHEN %4$s THEN 'Waived fully' ELSE 'Waived partially' END "
+        + "WHEN %3$s < 0.92 THEN CASE WHEN %4$s THEN 'Credited fully' "
+        + "ELSE 'Credited partially' END "
+        + "ELSE CASE WHEN %4$s THEN 'Refunded fully' ELSE 'Refunded partially' END END",
+      accounts, feeFineType("k"), type, full);
+
+    final String paymentMethod = format("CASE WHEN j <= %1$d THEN NULL "
+        + "WHEN %2$s < 0.55 THEN CASE WHEN %3$s < 0.5 THEN 'Cash' "
+        + "WHEN %3$s < 0.85 THEN 'Credit card' ELSE 'Check' END "
+        + "WHEN %2$s < 0.70 THEN CASE WHEN %3$s < 0.8 THEN 'Bursar' "
+        + "ELSE 'University account' END "
+        + "WHEN %2$s < 0.85 THEN CASE WHEN %3$s < 0.7 THEN 'Goodwill' ELSE 'Error' END "
+        + "ELSE 'Overpayment' END",
+      accounts, type, uniform("method", "j"));
+
+    final String transactionInformation = format("CASE WHEN j <= %1$d THEN NULL "
+        + "WHEN %2$s >= 0.92 THEN CASE WHEN %3$s < 0.7 THEN 'Refunded to patron' "
+        + "ELSE 'Refunded to Bursar' END "
+        + "WHEN %2$s < 0.55 THEN 'Receipt ' || j "
+        + "ELSE NULL END",
+      accounts, type, uniform("refunded-to", "j"));
+
+    final String comments = format("CASE WHEN %1$s < 0.5 THEN NULL "
+        + "WHEN %1$s < 0.7 THEN 'STAFF : Generated staff comment' "
+        + "WHEN %1$s < 0.8 THEN 'PATRON : Generated patron comment' "
+        + "ELSE 'STAFF : Generated staff comment \n PATRON : Generated patron comment' END",
+      uniform("comments", "j"));
+
+    final String amountAction = format("CASE WHEN j <= %1$d THEN %2$s "
+        + "ELSE round(%2$s * (0.1 + 0.4 * %3$s), 2) END",
+      accounts, amount("k"), uniform("share", "j"));
+
+    final String actionDate = format("CASE WHEN j <= %1$d THEN %2$s "
+        + "ELSE least(%2$s + interval '30 days' * %3$s, %4$s) END",
+      accounts, accountDate("k"), uniform("delay", "j"), now());
+
+    return format("INSERT INTO %s.feefineactions (id, jsonb) "
+        + "SELECT id, jsonb_strip_nulls(jsonb_build_object("
+        + "'id', id, "
+        + "'accountId', md5('account-' || k)::uuid, "
+        + "'userId', %s, "
+        + "'typeAction', %s, "
+        + "'amountAction', %s, "
+        + "'balance', round(%s * %s, 2), "
+        + "'dateAction', %s, "
+        + "'paymentMethod', %s, "
+        + "'transactionInformation', %s, "
+        + "'comments', %s, "
+        + "'source', 'Staff ' || floor(%d * power(%s, 2))::int, "
+        + "'createdAt', %s, "
+        + "'notify', false)) "
+        + "FROM (SELECT j, md5('action-' || j)::uuid AS id, "
+        + "CASE WHEN j <= %d THEN j ELSE 1 + floor(%d * %s)::int END AS k "
+        + "FROM generate_series(%d, %d) j) s",
+      schema, patronId("k", patrons), typeAction, amountAction, amount("k"),
+      uniform("balance", "j"), formatDate(actionDate), paymentMethod, transactionInformation,
+      comments, SOURCES, uniform("source", "j"), servicePointId("j"), accounts, accounts,
+      uniform("account", "j"), from, to);
+  }
+
+  /**
+   * Pseudo-random number in [0, 1) derived from the row number and a salt, the same for
+   * every run.
+   */
+  private static String uniform(String salt, String index) {
+    return format("((hashtext('%s-' || %s) & 2147483647) / 2147483648.0)", salt, index);
+  }
+
+  private static String patronId(String index, String patrons) {
+    return format("md5('patron-' || floor(%s * power(%s, 2))::int)::uuid", patrons,
+      uniform("patron", index));
+  }
+
+  private static String ownerIndex(String index) {
+    return format("floor(%d * power(%s, 2))::int", OWNERS, uniform("owner", index));
+  }
+
+  private static String ownerId(String index) {
+    return format("md5('owner-' || %s)::uuid", ownerIndex(index));
+  }
+
+  private static String feeFineType(String index) {
+    return format("(ARRAY['Overdue fine', 'Lost item fee', 'Lost item processing fee', "
+      + "'Damaged item fee'])[1 + mod(%s, 4)]", index);
+  }
+
+  private static String amount(String index) {
+    return format("round((1 + 149 * %s)::numeric, 2)", uniform("amount", index));
+  }
+
+  private String accountDate(String index) {
+    return format("(%s - interval '1 day' * %d * %s)", now(), days, uniform("date", index));
+  }
+
+  private static String servicePointId(String index) {
+    return format("md5('service-point-' || floor(%d * power(%s, 3))::int)::uuid",
+      SERVICE_POINTS, uniform("service-point", index));
+  }
+
+  private static String now() {
+    return "date_trunc('day', now())";
+  }
+
+  private static String formatDate(String timestamp) {
+    return format("to_char(%s AT TIME ZONE 'UTC', '%s')", timestamp, DATE_FORMAT);
+  }
+
+  private Future<Void> inChunks(int from, int to, ChunkInserter inserter) {
+    Future<Void> result = Future.succeededFuture();
+
+    for (int chunkStart = from; chunkStart <= to; chunkStart += CHUNK_SIZE) {
+      final int start = chunkStart;
+      final int end = Math.min(to, chunkStart + CHUNK_SIZE - 1);
+      result = result.compose(v -> inserter.insert(start, end));
+    }
+
+    return result;
+  }
+
+  private Future<Void> execute(String sql) {
+    Promise<Void> promise = Promise.promise();
+
+    pgClient.execute(sql, result -> {
+      if (result.failed()) {
+        promise.fail(result.cause());
+      } else {
+        promise.complete();
+      }
+    });
+
+    return promise.future();
+  }
+
+  @FunctionalInterface
+  private interface ChunkInserter {
+    Future<Void> insert(int from, int to);
+  }
+}
@@ -0,0 +1,48 @@
+package org.folio.load;
+
+import static java.lang.String.format;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.web.client.HttpResponse;
+
+public enum Workload {
+  PAY("pay", LoadTestClient::pay),
+  BULK_PAY("bulk-pay", LoadTestClient::bulkPay),
+  CHECK_PAY("check-pay", LoadTestClient::checkPay),
+  GET_ACCOUNTS_BY_USER("get-accounts-by-user", LoadTestClient::getAccountsByUser),
+  REFUND_REPORT("refund-report", LoadTestClient::refundReport),
+  CASH_DRAWER_REPORT("cash-drawer-report", LoadTestClient::cashDrawerReport);
+
+  private final String name;
+  private final Function<LoadTestClient, Future<HttpResponse<Buffer>>> request;
+
+  Workload(String name, Function<LoadTestClient, Future<HttpResponse<Buffer>>> request) {
+    this.name = name;
+    this.request = request;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  Future<HttpResponse<Buffer>> send(LoadTestClient client) {
+    return request.apply(client);
+  }
+
+  static Workload fromName(String name) {
+    return Arrays.stream(values())
+      .filter(workload -> workload.name.equals(name))
+      .findFirst()
+      .orElseThrow(() -> new IllegalArgumentException(format("Unknown workload %s, known "
+        + "workloads: %s", name, Arrays.toString(values()))));
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
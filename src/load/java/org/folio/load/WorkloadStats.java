@@ -0,0 +1,65 @@
+package org.folio.load;
+
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Latencies and outcomes of one workload. Latency is measured from the time a request was
+ * scheduled to be sent, not from the time it was actually sent, so that a stalled module
+ * shows up in the percentiles instead of lowering the request rate.
+ */
+class WorkloadStats {
+  private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+  private final Histogram latencies = new Histogram(MAX_LATENCY_MICROS, 3);
+  private long failed;
+  private long dropped;
+
+  void recordSuccess(long latencyNanos) {
+    latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos),
+      MAX_LATENCY_MICROS));
+  }
+
+  void recordFailure() {
+    failed++;
+  }
+
+  void recordDropped() {
+    dropped++;
+  }
+
+  long getSucceeded() {
+    return latencies.getTotalCount();
+  }
+
+  long getFailed() {
+    return failed;
+  }
+
+  long getDropped() {
+    return dropped;
+  }
+
+  double percentileMillis(double percentile) {
+    return latencies.getValueAtPercentile(percentile) / 1000.0;
+  }
+
+  double maxMillis() {
+    return latencies.getMaxValue() / 1000.0;
+  }
+
+  JsonObject toJson(int durationSeconds) {
+    return new JsonObject()
+      .put("succeeded", getSucceeded())
+      .put("failed", failed)
+      .put("dropped", dropped)
+      .put("throughput", (double) getSucceeded() / durationSeconds)
+      .put("p50", percentileMillis(50))
+      .put("p99", percentileMillis(99))
+      .put("p999", percentileMillis(99.9))
+      .put("max", maxMillis());
+  }
+}
@@ -0,0 +1,227 @@
+package org.folio.rest.cache;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+/**
+ * Size-bounded cache of asynchronously loaded values with a fixed time-to-live.
+ * Concurrent misses for the same key share a single pending load. Loads started before an
+ * invalidation are not joined by later requests and their values are not cached, so a value
+ * read before a change is never served after the change was invalidated.
+ */
+public class AsyncCache<V> {
+  private final long ttlMillis;
+  private final LongSupplier clock;
+  private final Map<String, CacheEntry<V>> entries;
+  private final Map<String, Future<V>> inFlight = new ConcurrentHashMap<>();
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  // incremented by every invalidation, a load is only cached when no invalidation happened
+  // since it started
+  private long version;
+
+  public AsyncCache(Duration ttl, int maxSize) {
+    this(ttl, maxSize, System::currentTimeMillis);
+  }
+
+  AsyncCache(Duration ttl, int maxSize, LongSupplier clock) {
+    this.ttlMillis = ttl.toMillis();
+    this.clock = clock;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<String, CacheEntry<V>> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
+
+  public Future<V> get(String key, Function<String, Future<V>> loader) {
+    V cachedValue = getIfPresent(key);
+    if (cachedValue != null) {
+      return succeededFuture(cachedValue);
+    }
+
+    Promise<V> promise = Promise.promise();
+    Future<V> pendingLoad = inFlight.putIfAbsent(key, promise.future());
+    if (pendingLoad != null) {
+      return pendingLoad;
+    }
+
+    long loadVersion = getVersion();
+    load(() -> loader.apply(key))
+      .onComplete(result -> {
+        if (result.succeeded() && result.result() != null) {
+          putIfNotInvalidated(key, result.result(), loadVersion);
+        }
+        inFlight.remove(key, promise.future());
+        promise.handle(result);
+      });
+
+    return promise.future();
+  }
+
+  /**
+   * Resolves values for all requested keys. Cached values are returned as is, keys which are
+   * already being loaded are joined and the remaining keys are loaded with a single call of
+   * the batch loader. Keys for which no value was found are absent from the resulting map.
+   */
+  public Future<Map<String, V>> getAll(Collection<String> keys,
+    Function<List<String>, Future<Map<String, V>>> batchLoader) {
+
+    Map<String, V> result = new HashMap<>();
+    Map<String, Future<V>> pending = new HashMap<>();
+    Map<String, Promise<V>> keysToLoad = new LinkedHashMap<>();
+
+    for (String key : new LinkedHashSet<>(keys)) {
+      V cachedValue = getIfPresent(key);
+      if (cachedValue != null) {
+        result.put(key, cachedValue);
+        continue;
+      }
+
+      Promise<V> promise = Promise.promise();
+      Future<V> pendingLoad = inFlight.putIfAbsent(key, promise.future());
+      if (pendingLoad != null) {
+        pending.put(key, pendingLoad);
+      } else {
+        keysToLoad.put(key, promise);
+        pending.put(key, promise.future());
+      }
+    }
+
+    if (!keysToLoad.isEmpty()) {
+      loadAll(keysToLoad, batchLoader);
+    }
+
+    if (pending.isEmpty()) {
+      return succeededFuture(result);
+    }
+
+    return CompositeFuture.all(new ArrayList<>(pending.values()))
+      .map(ignored -> {
+        pending.forEach((key, future) -> {
+          if (future.result() != null) {
+            result.put(key, future.result());
+          }
+        });
+        return result;
+      });
+  }
+
+  private void loadAll(Map<String, Promise<V>> keysToLoad,
+    Function<List<String>, Future<Map<String, V>>> batchLoader) {
+
+    long loadVersion = getVersion();
+    load(() -> batchLoader.apply(new ArrayList<>(keysToLoad.keySet())))
+      .onComplete(result -> keysToLoad.forEach((key, promise) -> {
+        if (result.failed()) {
+          inFlight.remove(key, promise.future());
+          promise.fail(result.cause());
+          return;
+        }
+
+        V value = result.result() == null ? null : result.result().get(key);
+        if (value != null) {
+          putIfNotInvalidated(key, value, loadVersion);
+        }
+        inFlight.remove(key, promise.future());
+        promise.complete(value);
+      }));
+  }
+
+  public synchronized V getIfPresent(String key) {
+    CacheEntry<V> entry = entries.get(key);
+
+    if (entry == null) {
+      misses.incrementAndGet();
+      return null;
+    }
+
+    if (entry.expiresAt <= clock.getAsLong()) {
+      entries.remove(key);
+      misses.incrementAndGet();
+      return null;
+    }
+
+    hits.incrementAndGet();
+    return entry.value;
+  }
+
+  public synchronized void put(String key, V value) {
+    entries.put(key, new CacheEntry<>(value, clock.getAsLong() + ttlMillis));
+  }
+
+  public synchronized void invalidate(String key) {
+    version++;
+    entries.remove(key);
+    inFlight.remove(key);
+  }
+
+  public synchronized void invalidateAll() {
+    version++;
+    entries.clear();
+    inFlight.clear();
+  }
+
+  private synchronized long getVersion() {
+    return version;
+  }
+
+  private synchronized void putIfNotInvalidated(String key, V value, long loadVersion) {
+    if (version == loadVersion) {
+      put(key, value);
+    }
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  public long getHitCount() {
+    return hits.get();
+  }
+
+  public long getMissCount() {
+    return misses.get();
+  }
+
+  private static <T> Future<T> load(LoadFunction<T> loadFunction) {
+    try {
+      return loadFunction.load();
+    } catch (Exception e) {
+      return failedFuture(e);
+    }
+  }
+
+  @FunctionalInterface
+  private interface LoadFunction<T> {
+    Future<T> load();
+  }
+
+  private static class CacheEntry<V> {
+    private final V value;
+    private final long expiresAt;
+
+    private CacheEntry(V value, long expiresAt) {
+      this.value = value;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package org.folio.rest.cache;
+
+import static org.apache.commons.lang3.StringUtils.defaultString;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.folio.rest.metrics.MetricsRecorder;
+
+/**
+ * Keeps a separate {@link AsyncCache} for every tenant so that the size limit applies to
+ * each tenant independently and cached records never leak between tenants.
+ */
+public class PerTenantCache<V> {
+  private static final List<PerTenantCache<?>> registeredCaches = new CopyOnWriteArrayList<>();
+
+  private final String name;
+  private final Duration ttl;
+  private final int maxSize;
+  private final Map<String, AsyncCache<V>> caches = new ConcurrentHashMap<>();
+
+  private PerTenantCache(String name, Duration ttl, int maxSize) {
+    this.name = name;
+    this.ttl = ttl;
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Creates a cache, {@code name} identifies it in metrics.
+   */
+  public static <V> PerTenantCache<V> create(String name, Duration ttl, int maxSize) {
+    PerTenantCache<V> cache = new PerTenantCache<>(name, ttl, maxSize);
+    registeredCaches.add(cache);
+    return cache;
+  }
+
+  public AsyncCache<V> forTenant(String tenantId) {
+    return caches.computeIfAbsent(defaultString(tenantId), key -> {
+      AsyncCache<V> cache = new AsyncCache<>(ttl, maxSize);
+      MetricsRecorder.bindCache(name, key, cache);
+      return cache;
+    });
+  }
+
+  public void invalidate() {
+    caches.values().forEach(AsyncCache::invalidateAll);
+  }
+
+  public static void invalidateAll() {
+    registeredCaches.forEach(PerTenantCache::invalidate);
+  }
+}
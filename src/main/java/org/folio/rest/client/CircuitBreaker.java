@@ -0,0 +1,197 @@
+package org.folio.rest.client;
+
+import static io.vertx.core.Future.failedFuture;
+import static java.lang.String.format;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.folio.rest.exception.DownstreamUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.vertx.core.Future;
+
+/**
+ * Circuit breaker and bulkhead guarding calls to a single downstream module.
+ * <p>
+ * The breaker opens after a number of consecutive failures and rejects all calls until the
+ * open period elapses. After that a single probe call is let through: the breaker closes when
+ * the probe succeeds and opens again when it fails. Calls are only counted in the state they
+ * were let through in, so a call started before the breaker opened can not close it or open it
+ * again. Independently of the breaker state, no more than a configured number of calls may be
+ * in progress at the same time.
+ */
+public class CircuitBreaker {
+  private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private final String name;
+  private final int failureThreshold;
+  private final long openDurationMs;
+  private final int maxConcurrentRequests;
+  private final LongSupplier clock;
+
+  private final AtomicInteger activeRequests = new AtomicInteger();
+  private final AtomicLong rejectedRequests = new AtomicLong();
+  private final AtomicLong failedRequests = new AtomicLong();
+
+  private State state = State.CLOSED;
+  private int consecutiveFailures;
+  private long openedAt;
+  private boolean probeInProgress;
+  // incremented on every state change, calls remember the generation they were let through in
+  private long generation;
+
+  public CircuitBreaker(String name, int failureThreshold, long openDurationMs,
+    int maxConcurrentRequests) {
+
+    this(name, failureThreshold, openDurationMs, maxConcurrentRequests, System::currentTimeMillis);
+  }
+
+  CircuitBreaker(String name, int failureThreshold, long openDurationMs,
+    int maxConcurrentRequests, LongSupplier clock) {
+
+    this.name = name;
+    this.failureThreshold = failureThreshold;
+    this.openDurationMs = openDurationMs;
+    this.maxConcurrentRequests = maxConcurrentRequests;
+    this.clock = clock;
+  }
+
+  /**
+   * Executes the call unless the breaker is open or too many calls are in progress, in which
+   * case the returned future fails with {@link DownstreamUnavailableException} immediately.
+   * Failed futures and results matching {@code isFailure} are counted as failures.
+   */
+  public <T> Future<T> execute(Supplier<Future<T>> call, Predicate<T> isFailure) {
+    if (activeRequests.incrementAndGet() > maxConcurrentRequests) {
+      activeRequests.decrementAndGet();
+      rejectedRequests.incrementAndGet();
+      return failedFuture(new DownstreamUnavailableException(
+        format("Too many concurrent requests to %s", name)));
+    }
+
+    final long permittedGeneration = tryAcquirePermission();
+    if (permittedGeneration < 0) {
+      activeRequests.decrementAndGet();
+      rejectedRequests.incrementAndGet();
+      return failedFuture(new DownstreamUnavailableException(
+        format("Circuit breaker for %s is open", name)));
+    }
+
+    Future<T> result;
+    try {
+      result = call.get();
+    } catch (Exception e) {
+      result = failedFuture(e);
+    }
+
+    return result.onComplete(ar -> {
+      activeRequests.decrementAndGet();
+      if (ar.failed() || isFailure.test(ar.result())) {
+        failedRequests.incrementAndGet();
+        onFailure(permittedGeneration);
+      } else {
+        onSuccess(permittedGeneration);
+      }
+    });
+  }
+
+  /**
+   * Returns the generation the call is let through in or -1 when the call is rejected.
+   */
+  private synchronized long tryAcquirePermission() {
+    if (failureThreshold <= 0 || state == State.CLOSED) {
+      return generation;
+    }
+
+    if (state == State.OPEN && clock.getAsLong() - openedAt >= openDurationMs) {
+      transitionTo(State.HALF_OPEN);
+    }
+
+    if (state == State.HALF_OPEN && !probeInProgress) {
+      probeInProgress = true;
+      return generation;
+    }
+
+    return -1;
+  }
+
+  private synchronized void onSuccess(long permittedGeneration) {
+    if (permittedGeneration != generation) {
+      return;
+    }
+
+    consecutiveFailures = 0;
+    probeInProgress = false;
+
+    if (state != State.CLOSED) {
+      transitionTo(State.CLOSED);
+    }
+  }
+
+  private synchronized void onFailure(long permittedGeneration) {
+    if (permittedGeneration != generation) {
+      return;
+    }
+
+    consecutiveFailures++;
+
+    if (failureThreshold <= 0) {
+      return;
+    }
+
+    if (state == State.HALF_OPEN ||
+      (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+
+      probeInProgress = false;
+      openedAt = clock.getAsLong();
+      transitionTo(State.OPEN);
+    }
+  }
+
+  private void transitionTo(State newState) {
+    if (newState == State.OPEN) {
+      log.warn("Circuit breaker for {} is open after {} consecutive failures", name,
+        consecutiveFailures);
+    } else {
+      log.info("Circuit breaker for {} is {}", name, newState);
+    }
+    state = newState;
+    generation++;
+  }
+
+  public synchronized void reset() {
+    state = State.CLOSED;
+    generation++;
+    consecutiveFailures = 0;
+    probeInProgress = false;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public synchronized State getState() {
+    return state;
+  }
+
+  public int getActiveRequests() {
+    return activeRequests.get();
+  }
+
+  public long getRejectedRequests() {
+    return rejectedRequests.get();
+  }
+
+  public long getFailedRequests() {
+    return failedRequests.get();
+  }
+}
@@ -16,10 +16,11 @@ import org.slf4j.LoggerFactory;
 
 public class FeeFinePubSubClient {
   private static final Logger log = LoggerFactory.getLogger(FeeFinePubSubClient.class);
+  public static final String DOWNSTREAM = "pubsub";
   private final OkapiClient okapiClient;
 
   public FeeFinePubSubClient(Vertx vertx, Map<String, String> okapiHeaders) {
-    this.okapiClient = new OkapiClient(vertx, okapiHeaders);
+    this.okapiClient = new OkapiClient(vertx, okapiHeaders, DOWNSTREAM);
   }
 
   /**
@@ -34,8 +35,8 @@ public class FeeFinePubSubClient {
   public CompletableFuture<Void> publishEvent(Event event) {
     final CompletableFuture<HttpResponse<Buffer>> sendResult = new CompletableFuture<>();
 
-    okapiClient.okapiPostAbs("/pubsub/publish")
-      .sendJson(event, response -> {
+    okapiClient.sendJson(okapiClient.okapiPostAbs("/pubsub/publish"), event)
+      .onComplete(response -> {
         if (response.failed()) {
           sendResult.completeExceptionally(response.cause());
         } else {
@@ -1,21 +1,10 @@
 package org.folio.rest.client;
 
-import static io.vertx.core.Future.failedFuture;
-import static io.vertx.core.Future.succeededFuture;
-import static javax.ws.rs.core.HttpHeaders.ACCEPT;
-import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
-
 import io.vertx.core.Future;
-import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import io.vertx.core.buffer.Buffer;
-import io.vertx.ext.web.client.HttpRequest;
-import io.vertx.ext.web.client.HttpResponse;
-import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import org.folio.rest.jaxrs.model.Campus;
 import org.folio.rest.jaxrs.model.HoldingsRecord;
 import org.folio.rest.jaxrs.model.HoldingsRecords;
@@ -28,99 +17,43 @@ import org.folio.rest.jaxrs.model.Location;
 
 public class InventoryClient extends OkapiClient {
 
-  private static final String ITEMS_LIMIT = "1000";
-  private static final String HOLDINGS_LIMIT = "1000";
+  private static final String ITEMS_PATH = "/item-storage/items";
+  private static final String HOLDINGS_PATH = "/holdings-storage/holdings";
+  private static final String INSTANCES_PATH = "/instance-storage/instances";
 
   public InventoryClient(Vertx vertx, Map<String, String> okapiHeaders) {
-    super(vertx, okapiHeaders);
+    super(vertx, okapiHeaders, "inventory");
   }
 
   public Future<Items> getItemsById(List<String> itemIds) {
-    if (itemIds.isEmpty()) {
-      return succeededFuture(new Items()
-        .withItems(new ArrayList<>())
-        .withTotalRecords(0));
-    }
-
-    Promise<HttpResponse<Buffer>> promise = Promise.promise();
-
-    HttpRequest<Buffer> request = okapiGetAbs("/item-storage/items");
-    if (!itemIds.isEmpty()) {
-      request.addQueryParam("query", String.format("(id==(%s))",
-        itemIds.stream()
-          .map(id -> String.format("\"%s\"", id))
-          .collect(Collectors.joining(" or "))))
-      .addQueryParam("limit", ITEMS_LIMIT);
-    }
-    request.send(promise);
-
-    return promise.future().compose(response -> {
-      if (response.statusCode() != 200) {
-        return failedFuture("Failed to get items by IDs. Response status code: "
-          + response.statusCode());
-      }
-      else {
-        try {
-          Items items = objectMapper.readValue(response.bodyAsString(), Items.class);
-          return succeededFuture(items);
-        }
-        catch (IOException ioException) {
-          return failedFuture("Failed to parse response. Response body: "
-            + response.bodyAsString());
-        }
-      }
-    });
+    return getByIds(ITEMS_PATH, itemIds, "items", Item.class, Item::getId)
+      .map(items -> new Items()
+        .withItems(items)
+        .withTotalRecords(items.size()));
   }
 
   public Future<HoldingsRecords> getHoldingsById(List<String> holdingIds) {
-    if (holdingIds.isEmpty()) {
-      return succeededFuture(new HoldingsRecords()
-        .withHoldingsRecords(new ArrayList<>())
-        .withTotalRecords(0));
-    }
-
-    Promise<HttpResponse<Buffer>> promise = Promise.promise();
-
-    HttpRequest<Buffer> request = okapiGetAbs("/holdings-storage/holdings");
-    if (!holdingIds.isEmpty()) {
-      request.addQueryParam("query", String.format("(id==(%s))",
-        holdingIds.stream()
-          .map(id -> String.format("\"%s\"", id))
-          .collect(Collectors.joining(" or "))))
-        .addQueryParam("limit", HOLDINGS_LIMIT);
-    }
-    request.putHeader(ACCEPT, APPLICATION_JSON);
-    request.send(promise);
+    return getByIds(HOLDINGS_PATH, holdingIds, "holdingsRecords", HoldingsRecord.class,
+      HoldingsRecord::getId)
+      .map(holdingsRecords -> new HoldingsRecords()
+        .withHoldingsRecords(holdingsRecords)
+        .withTotalRecords(holdingsRecords.size()));
+  }
 
-    return promise.future().compose(response -> {
-      if (response.statusCode() != 200) {
-        return failedFuture("Failed to get holdings by IDs. Response status code: "
-          + response.statusCode());
-      }
-      else {
-        try {
-          HoldingsRecords holdingsRecords = objectMapper.readValue(response.bodyAsString(),
-            HoldingsRecords.class);
-          return succeededFuture(holdingsRecords);
-        }
-        catch (IOException ioException) {
-          return failedFuture("Failed to parse request. Response body: "
-            + response.bodyAsString());
-        }
-      }
-    });
+  public Future<List<Instance>> getInstancesById(Collection<String> instanceIds) {
+    return getByIds(INSTANCES_PATH, instanceIds, "instances", Instance.class, Instance::getId);
   }
 
   public Future<Item> getItemById(String id) {
-    return getById("/item-storage/items", id, Item.class);
+    return getById(ITEMS_PATH, id, Item.class);
   }
 
   public Future<HoldingsRecord> getHoldingById(String id) {
-    return getById("/holdings-storage/holdings", id, HoldingsRecord.class);
+    return getById(HOLDINGS_PATH, id, HoldingsRecord.class);
   }
 
   public Future<Instance> getInstanceById(String id) {
-    return getById("/instance-storage/instances", id, Instance.class);
+    return getById(INSTANCES_PATH, id, Instance.class);
   }
 
   public Future<Location> getLocationById(String id) {
@@ -3,6 +3,8 @@ package org.folio.rest.client;
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 import static javax.ws.rs.core.HttpHeaders.ACCEPT;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 import static org.apache.commons.lang.StringUtils.isBlank;
@@ -10,7 +12,7 @@ import static org.folio.rest.RestVerticle.OKAPI_HEADER_TENANT;
 import static org.folio.rest.RestVerticle.OKAPI_HEADER_TOKEN;
 import static org.folio.util.UuidUtil.isUuid;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -19,30 +21,62 @@ import io.vertx.ext.web.client.HttpRequest;
 import io.vertx.ext.web.client.HttpResponse;
 import io.vertx.ext.web.client.WebClient;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.folio.rest.metrics.MetricsRecorder;
+import org.folio.rest.metrics.ServerTiming;
+import org.folio.rest.utils.JsonDecoder;
+import org.folio.util.UuidUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class OkapiClient {
   private static final Logger log = LoggerFactory.getLogger(OkapiClient.class);
   private static final String OKAPI_URL_HEADER = "x-okapi-url";
-  protected static final ObjectMapper objectMapper = new ObjectMapper();
+
+  private static final Map<String, Future<?>> inFlightGetRequests = new ConcurrentHashMap<>();
+  private static final AtomicLong getByIdRequests = new AtomicLong();
+  private static final AtomicLong coalescedGetByIdRequests = new AtomicLong();
 
   private final WebClient webClient;
+  private final CircuitBreaker circuitBreaker;
+  private final ServerTiming serverTiming;
+  private final WebClientSettings settings;
   private final String okapiUrl;
   private final String tenant;
   private final String token;
 
   OkapiClient(Vertx vertx, Map<String, String> okapiHeaders) {
-    this.webClient = WebClientProvider.getWebClient(vertx) ;
+    this(vertx, okapiHeaders, WebClientProvider.DEFAULT_DOWNSTREAM);
+  }
+
+  OkapiClient(Vertx vertx, Map<String, String> okapiHeaders, String downstream) {
+    this.webClient = WebClientProvider.getWebClient(vertx, downstream);
+    this.circuitBreaker = WebClientProvider.getCircuitBreaker(downstream);
+    this.settings = WebClientProvider.getSettings(downstream);
+    this.serverTiming = ServerTiming.of(okapiHeaders);
     okapiUrl = okapiHeaders.get(OKAPI_URL_HEADER);
     tenant = okapiHeaders.get(OKAPI_HEADER_TENANT);
     token = okapiHeaders.get(OKAPI_HEADER_TOKEN);
   }
 
+  String getTenant() {
+    return tenant;
+  }
+
   HttpRequest<Buffer> okapiGetAbs(String path) {
     return webClient.getAbs(okapiUrl + path)
+      .timeout(settings.getRequestTimeoutMs())
       .putHeader(OKAPI_HEADER_TENANT, tenant)
       .putHeader(OKAPI_URL_HEADER, okapiUrl)
       .putHeader(OKAPI_HEADER_TOKEN, token)
@@ -51,12 +85,45 @@ public class OkapiClient {
 
   HttpRequest<Buffer> okapiPostAbs(String path) {
     return webClient.postAbs(okapiUrl + path)
+      .timeout(settings.getRequestTimeoutMs())
       .putHeader(ACCEPT, APPLICATION_JSON)
       .putHeader(OKAPI_HEADER_TENANT, tenant)
       .putHeader(OKAPI_URL_HEADER, okapiUrl)
       .putHeader(OKAPI_HEADER_TOKEN, token);
   }
 
+  /**
+   * Sends the request through the circuit breaker of the downstream module. Server errors
+   * are returned to the caller as is, but are counted as failures by the circuit breaker.
+   */
+  Future<HttpResponse<Buffer>> send(HttpRequest<Buffer> request) {
+    return timed(request, () -> circuitBreaker.execute(() -> {
+      Promise<HttpResponse<Buffer>> promise = Promise.promise();
+      request.send(promise);
+      return promise.future();
+    }, OkapiClient::isServerError));
+  }
+
+  Future<HttpResponse<Buffer>> sendJson(HttpRequest<Buffer> request, Object body) {
+    return timed(request, () -> circuitBreaker.execute(() -> {
+      Promise<HttpResponse<Buffer>> promise = Promise.promise();
+      request.sendJson(body, promise);
+      return promise.future();
+    }, OkapiClient::isServerError));
+  }
+
+  private Future<HttpResponse<Buffer>> timed(HttpRequest<Buffer> request,
+    Supplier<Future<HttpResponse<Buffer>>> call) {
+
+    return serverTiming.time(ServerTiming.Phase.DOWNSTREAM,
+      () -> MetricsRecorder.timeDownstreamRequest(circuitBreaker.getName(),
+        request.method().name(), request.uri(), tenant, call));
+  }
+
+  private static boolean isServerError(HttpResponse<Buffer> response) {
+    return response.statusCode() >= 500;
+  }
+
   public <T> Future<T> getById(String resourcePath, String id, Class<T> objectType) {
     Optional<String> validationError = validateGetByIdArguments(resourcePath, id, objectType);
     if (validationError.isPresent()) {
@@ -66,10 +133,31 @@ public class OkapiClient {
     }
 
     final String url = resourcePath + "/" + id;
-    Promise<HttpResponse<Buffer>> promise = Promise.promise();
-    okapiGetAbs(url).send(promise);
+    final String requestKey = String.join("|", tenant, url, objectType.getName());
 
-    return promise.future().compose(response -> {
+    getByIdRequests.incrementAndGet();
+
+    Promise<T> promise = Promise.promise();
+    Future<?> pendingRequest = inFlightGetRequests.putIfAbsent(requestKey, promise.future());
+    if (pendingRequest != null) {
+      // the same object is already being fetched for this tenant, share the pending result
+      coalescedGetByIdRequests.incrementAndGet();
+      @SuppressWarnings("unchecked")
+      Future<T> pendingResult = (Future<T>) pendingRequest;
+      return pendingResult;
+    }
+
+    fetchById(url, objectType)
+      .onComplete(result -> {
+        inFlightGetRequests.remove(requestKey);
+        promise.handle(result);
+      });
+
+    return promise.future();
+  }
+
+  private <T> Future<T> fetchById(String url, Class<T> objectType) {
+    return send(okapiGetAbs(url)).compose(response -> {
       if (response.statusCode() != 200) {
         final String errorMessage = format("Failed to get %s by ID. Response status code: %s",
           objectType.getSimpleName(), response.statusCode());
@@ -77,7 +165,7 @@ public class OkapiClient {
         return failedFuture(errorMessage);
       }
       try {
-        T object = objectMapper.readValue(response.bodyAsString(), objectType);
+        T object = JsonDecoder.decode(response.body(), objectType);
         return succeededFuture(object);
       } catch (IOException exception) {
         final String errorMessage = format("Failed to parse response from %s. Response body: %s",
@@ -88,6 +176,101 @@ public class OkapiClient {
     });
   }
 
+  /**
+   * Fetches records by IDs using {@code id==(...)} queries. IDs are de-duplicated and split
+   * into chunks which are fetched with limited parallelism. Records are returned in the order
+   * of requested IDs, records which were not found are omitted.
+   */
+  public <T> Future<List<T>> getByIds(String resourcePath, Collection<String> ids,
+    String collectionName, Class<T> objectType, Function<T, String> idExtractor) {
+
+    List<String> validIds = ids.stream()
+      .filter(UuidUtil::isUuid)
+      .distinct()
+      .collect(toList());
+
+    if (validIds.isEmpty()) {
+      return succeededFuture(new ArrayList<>());
+    }
+
+    List<List<String>> chunks = splitIntoChunks(validIds, settings.getBatchChunkSize());
+    List<List<T>> chunkResults = new ArrayList<>(Collections.nCopies(chunks.size(), null));
+    int parallelism = Math.min(settings.getBatchParallelism(), chunks.size());
+
+    List<Future<Void>> lanes = new ArrayList<>();
+    for (int lane = 0; lane < parallelism; lane++) {
+      Future<Void> laneFuture = succeededFuture();
+      for (int chunkIndex = lane; chunkIndex < chunks.size(); chunkIndex += parallelism) {
+        final int index = chunkIndex;
+        laneFuture = laneFuture.compose(v -> getChunkByIds(resourcePath, chunks.get(index),
+          collectionName, objectType)
+          .onSuccess(objects -> chunkResults.set(index, objects))
+          .mapEmpty());
+      }
+      lanes.add(laneFuture);
+    }
+
+    return CompositeFuture.all(new ArrayList<>(lanes))
+      .map(ignored -> {
+        Map<String, T> objectsById = new HashMap<>();
+        chunkResults.forEach(objects -> objects.forEach(
+          object -> objectsById.putIfAbsent(idExtractor.apply(object), object)));
+
+        return validIds.stream()
+          .map(objectsById::get)
+          .filter(Objects::nonNull)
+          .collect(toList());
+      });
+  }
+
+  private <T> Future<List<T>> getChunkByIds(String resourcePath, List<String> ids,
+    String collectionName, Class<T> objectType) {
+
+    HttpRequest<Buffer> request = okapiGetAbs(resourcePath)
+      .addQueryParam("query", buildIdsQuery(ids))
+      .addQueryParam("limit", String.valueOf(ids.size()));
+
+    return send(request).compose(response -> {
+      if (response.statusCode() != 200) {
+        final String errorMessage = format("Failed to get %s by IDs. Response status code: %s",
+          objectType.getSimpleName(), response.statusCode());
+        log.error(errorMessage);
+        return failedFuture(errorMessage);
+      }
+      try {
+        return succeededFuture(
+          JsonDecoder.decodeCollection(response.body(), collectionName, objectType));
+      } catch (IOException exception) {
+        final String errorMessage = format("Failed to parse response from %s. Response body: %s",
+          resourcePath, response.bodyAsString());
+        log.error(errorMessage);
+        return failedFuture(errorMessage);
+      }
+    });
+  }
+
+  static List<List<String>> splitIntoChunks(List<String> ids, int chunkSize) {
+    List<List<String>> chunks = new ArrayList<>();
+    for (int from = 0; from < ids.size(); from += chunkSize) {
+      chunks.add(ids.subList(from, Math.min(from + chunkSize, ids.size())));
+    }
+    return chunks;
+  }
+
+  public static long getGetByIdRequestsCount() {
+    return getByIdRequests.get();
+  }
+
+  public static long getCoalescedGetByIdRequestsCount() {
+    return coalescedGetByIdRequests.get();
+  }
+
+  static String buildIdsQuery(Collection<String> ids) {
+    return format("id==(%s)", ids.stream()
+      .map(id -> format("\"%s\"", id))
+      .collect(joining(" or ")));
+  }
+
   private static <T> Optional<String> validateGetByIdArguments(String path, String id,
     Class<T> objectType) {
 
@@ -6,23 +6,110 @@ import static io.vertx.core.Future.succeededFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
-import io.vertx.core.buffer.Buffer;
-import io.vertx.ext.web.client.HttpResponse;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.folio.rest.exception.DownstreamUnavailableException;
 import org.folio.rest.jaxrs.model.PatronNotice;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class PatronNoticeClient extends OkapiClient {
+  private static final Logger log = LoggerFactory.getLogger(PatronNoticeClient.class);
+  private static final String DOWNSTREAM = "patron-notice";
+  private static final int MAX_DEFERRED_NOTICES = 1000;
+  private static final int MAX_DEFERRAL_ATTEMPTS = 10;
+  private static final long MAX_DEFERRAL_AGE_MS = 10 * 60 * 1000L;
+
+  private static final Queue<Runnable> deferredNotices = new ConcurrentLinkedQueue<>();
+  private static final AtomicInteger deferredNoticesCount = new AtomicInteger();
+  private static final AtomicBoolean retryScheduled = new AtomicBoolean();
+
+  private final Vertx vertx;
 
   public PatronNoticeClient(Vertx vertx, Map<String, String> okapiHeaders) {
-    super(vertx, okapiHeaders);
+    super(vertx, okapiHeaders, DOWNSTREAM);
+    this.vertx = vertx;
   }
 
   public Future<Void> postPatronNotice(PatronNotice notice) {
-    Promise<HttpResponse<Buffer>> promise = Promise.promise();
-    okapiPostAbs("/patron-notice").sendJson(notice, promise);
+    return postPatronNotice(notice, 0, System.currentTimeMillis());
+  }
+
+  private Future<Void> postPatronNotice(PatronNotice notice, int attempts, long deferredSince) {
+    return sendJson(okapiPostAbs("/patron-notice"), notice)
+      .<Void>compose(response -> response.statusCode() == 200 ?
+        succeededFuture() :
+        failedFuture("Failed to post patron notice. Returned status code: " + response.statusCode()))
+      .recover(throwable -> {
+        if (throwable instanceof DownstreamUnavailableException) {
+          return deferPatronNotice(notice, attempts + 1, deferredSince);
+        }
+        return failedFuture(throwable);
+      });
+  }
+
+  /**
+   * Keeps the notice in memory while the patron notice service is unavailable and tries to
+   * send it again once the circuit breaker lets requests through. The returned future completes
+   * when the deferred notice is actually sent or finally fails. A notice is given up after
+   * MAX_DEFERRAL_ATTEMPTS attempts or MAX_DEFERRAL_AGE_MS, as the queue is shared by all tenants
+   * and holds the token of the original request.
+   */
+  private Future<Void> deferPatronNotice(PatronNotice notice, int attempts, long deferredSince) {
+    long deferredForMs = System.currentTimeMillis() - deferredSince;
+    if (attempts > MAX_DEFERRAL_ATTEMPTS || deferredForMs > MAX_DEFERRAL_AGE_MS) {
+      log.warn("Giving up patron notice for user {} after {} attempts in {} ms",
+        notice.getRecipientId(), attempts, deferredForMs);
+      return failedFuture(String.format("Patron notice service was unavailable, notice was " +
+        "not sent after %d attempts in %d ms", attempts, deferredForMs));
+    }
+
+    if (deferredNoticesCount.incrementAndGet() > MAX_DEFERRED_NOTICES) {
+      deferredNoticesCount.decrementAndGet();
+      return failedFuture("Patron notice service is unavailable and too many notices are " +
+        "waiting to be sent");
+    }
+
+    Promise<Void> promise = Promise.promise();
+    // the caller reports the outcome, so the log event is only published once the notice is sent
+    deferredNotices.add(() -> postPatronNotice(notice, attempts, deferredSince)
+      .onComplete(promise));
+
+    log.warn("Patron notice service is unavailable, notice for user {} will be sent later",
+      notice.getRecipientId());
+    scheduleRetry();
+
+    return promise.future();
+  }
+
+  private void scheduleRetry() {
+    if (retryScheduled.compareAndSet(false, true)) {
+      long retryDelay = WebClientProvider.getSettings(DOWNSTREAM).getCircuitBreakerOpenMs();
+
+      vertx.setTimer(Math.max(retryDelay, 1), timerId -> {
+        retryScheduled.set(false);
+        sendDeferredNotices();
+      });
+    }
+  }
+
+  private static void sendDeferredNotices() {
+    // only notices deferred before this attempt are sent, notices deferred again
+    // during the attempt wait for the next one
+    for (int remaining = deferredNoticesCount.get(); remaining > 0; remaining--) {
+      Runnable sendNotice = deferredNotices.poll();
+      if (sendNotice == null) {
+        return;
+      }
+      deferredNoticesCount.decrementAndGet();
+      sendNotice.run();
+    }
+  }
 
-    return promise.future().compose(response -> response.statusCode() == 200 ?
-      succeededFuture() :
-      failedFuture("Failed to post patron notice. Returned status code: " + response.statusCode()));
+  static int getDeferredNoticesCount() {
+    return deferredNoticesCount.get();
   }
 }
@@ -1,18 +1,39 @@
 package org.folio.rest.client;
 
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Map;
 
+import org.folio.rest.cache.PerTenantCache;
 import org.folio.rest.jaxrs.model.UserGroup;
 
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 
 public class UserGroupsClient extends OkapiClient {
+  private static final String GROUPS_PATH = "/groups";
+  private static final String GROUPS_COLLECTION_NAME = "usergroups";
+  // patron groups are practically static, so they can be cached for much longer than users
+  private static final PerTenantCache<UserGroup> userGroupsCache =
+    PerTenantCache.create("user-groups", Duration.ofHours(1), 1_000);
+
   public UserGroupsClient(Vertx vertx, Map<String, String> okapiHeaders) {
-    super(vertx, okapiHeaders);
+    super(vertx, okapiHeaders, "users");
   }
 
   public Future<UserGroup> fetchUserGroupById(String userGroupId) {
-    return getById("/groups", userGroupId, UserGroup.class);
+    return userGroupsCache.forTenant(getTenant())
+      .get(userGroupId, id -> getById(GROUPS_PATH, id, UserGroup.class));
+  }
+
+  public Future<Map<String, UserGroup>> fetchUserGroupsByIds(Collection<String> userGroupIds) {
+    return userGroupsCache.forTenant(getTenant())
+      .getAll(userGroupIds, ids -> getByIds(GROUPS_PATH, ids, GROUPS_COLLECTION_NAME,
+        UserGroup.class, UserGroup::getId)
+        .map(userGroups -> userGroups.stream()
+          .collect(toMap(UserGroup::getId, identity(), (a, b) -> a))));
   }
 }
@@ -1,16 +1,36 @@
 package org.folio.rest.client;
 
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Map;
+import org.folio.rest.cache.PerTenantCache;
 import org.folio.rest.jaxrs.model.User;
 
 public class UsersClient extends OkapiClient {
+  private static final String USERS_PATH = "/users";
+  private static final String USERS_COLLECTION_NAME = "users";
+  private static final PerTenantCache<User> usersCache =
+    PerTenantCache.create("users", Duration.ofSeconds(60), 10_000);
+
   public UsersClient(Vertx vertx, Map<String, String> okapiHeaders) {
-    super(vertx, okapiHeaders);
+    super(vertx, okapiHeaders, "users");
   }
 
   public Future<User> fetchUserById(String userId) {
-    return getById("/users", userId, User.class);
+    return usersCache.forTenant(getTenant())
+      .get(userId, id -> getById(USERS_PATH, id, User.class));
+  }
+
+  public Future<Map<String, User>> fetchUsersByIds(Collection<String> userIds) {
+    return usersCache.forTenant(getTenant())
+      .getAll(userIds, ids -> getByIds(USERS_PATH, ids, USERS_COLLECTION_NAME, User.class,
+        User::getId)
+        .map(users -> users.stream()
+          .collect(toMap(User::getId, identity(), (a, b) -> a))));
   }
 }
@@ -1,19 +1,52 @@
 package org.folio.rest.client;
 
-import java.util.HashMap;
+import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.folio.rest.metrics.MetricsRecorder;
 
 import io.vertx.core.Vertx;
 import io.vertx.ext.web.client.WebClient;
 
 public class WebClientProvider {
-  private static final Map<Vertx, WebClient> webClients = new HashMap<>();
+  public static final String DEFAULT_DOWNSTREAM = "okapi";
+
+  private static final Map<Vertx, Map<String, WebClient>> webClients = new ConcurrentHashMap<>();
+  private static final Map<String, WebClientSettings> settings = new ConcurrentHashMap<>();
+  private static final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
 
   private WebClientProvider() {
   }
 
   public static WebClient getWebClient(Vertx vertx) {
-    return webClients.computeIfAbsent(vertx, WebClient::create);
+    return getWebClient(vertx, DEFAULT_DOWNSTREAM);
+  }
+
+  /**
+   * Returns a client with its own connection pool for the given downstream module, so that
+   * a slow downstream can not exhaust connections needed for calls to other modules.
+   */
+  public static WebClient getWebClient(Vertx vertx, String downstream) {
+    return webClients.computeIfAbsent(vertx, key -> new ConcurrentHashMap<>())
+      .computeIfAbsent(downstream, key -> WebClient.create(vertx,
+        getSettings(downstream).toWebClientOptions()));
+  }
+
+  public static WebClientSettings getSettings(String downstream) {
+    return settings.computeIfAbsent(downstream, WebClientSettings::fromEnvironment);
+  }
+
+  public static CircuitBreaker getCircuitBreaker(String downstream) {
+    return circuitBreakers.computeIfAbsent(downstream, key -> {
+      CircuitBreaker circuitBreaker = getSettings(downstream).toCircuitBreaker();
+      MetricsRecorder.bindCircuitBreaker(circuitBreaker);
+      return circuitBreaker;
+    });
+  }
+
+  public static Collection<CircuitBreaker> getCircuitBreakers() {
+    return circuitBreakers.values();
   }
 
 }
@@ -0,0 +1,181 @@
+package org.folio.rest.client;
+
+import static java.lang.String.format;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+import java.util.function.UnaryOperator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.client.WebClientOptions;
+
+/**
+ * Settings of the HTTP client used for calls to a single downstream module. Every setting is read
+ * from an environment variable {@code OKAPI_CLIENT_<SETTING>}, which can be overridden for a
+ * particular downstream with {@code OKAPI_CLIENT_<DOWNSTREAM>_<SETTING>},
+ * e.g. {@code OKAPI_CLIENT_INVENTORY_MAX_POOL_SIZE}.
+ */
+public class WebClientSettings {
+  private static final Logger log = LoggerFactory.getLogger(WebClientSettings.class);
+
+  private static final String PREFIX = "OKAPI_CLIENT_";
+
+  static final String MAX_POOL_SIZE = "MAX_POOL_SIZE";
+  static final String MAX_WAIT_QUEUE_SIZE = "MAX_WAIT_QUEUE_SIZE";
+  static final String CONNECT_TIMEOUT_MS = "CONNECT_TIMEOUT_MS";
+  static final String IDLE_TIMEOUT_SECONDS = "IDLE_TIMEOUT_SECONDS";
+  static final String KEEP_ALIVE_TIMEOUT_SECONDS = "KEEP_ALIVE_TIMEOUT_SECONDS";
+  static final String REQUEST_TIMEOUT_MS = "REQUEST_TIMEOUT_MS";
+  static final String PIPELINING = "PIPELINING";
+  static final String HTTP2 = "HTTP2";
+  static final String MAX_CONCURRENT_REQUESTS = "MAX_CONCURRENT_REQUESTS";
+  static final String CIRCUIT_BREAKER_FAILURE_THRESHOLD = "CIRCUIT_BREAKER_FAILURE_THRESHOLD";
+  static final String CIRCUIT_BREAKER_OPEN_MS = "CIRCUIT_BREAKER_OPEN_MS";
+  static final String BATCH_CHUNK_SIZE = "BATCH_CHUNK_SIZE";
+  static final String BATCH_PARALLELISM = "BATCH_PARALLELISM";
+
+  private final String downstream;
+  private final int maxPoolSize;
+  private final int maxWaitQueueSize;
+  private final int connectTimeoutMs;
+  private final int idleTimeoutSeconds;
+  private final int keepAliveTimeoutSeconds;
+  private final long requestTimeoutMs;
+  private final boolean pipelining;
+  private final boolean http2;
+  private final int maxConcurrentRequests;
+  private final int circuitBreakerFailureThreshold;
+  private final long circuitBreakerOpenMs;
+  private final int batchChunkSize;
+  private final int batchParallelism;
+
+  WebClientSettings(String downstream, UnaryOperator<String> environment) {
+    this.downstream = downstream;
+    this.maxPoolSize = getInt(environment, MAX_POOL_SIZE, 20);
+    this.maxWaitQueueSize = getInt(environment, MAX_WAIT_QUEUE_SIZE, 1000);
+    this.connectTimeoutMs = getInt(environment, CONNECT_TIMEOUT_MS, 5000);
+    this.idleTimeoutSeconds = getInt(environment, IDLE_TIMEOUT_SECONDS, 60);
+    this.keepAliveTimeoutSeconds = getInt(environment, KEEP_ALIVE_TIMEOUT_SECONDS, 60);
+    this.requestTimeoutMs = getInt(environment, REQUEST_TIMEOUT_MS, 60000);
+    this.pipelining = getBoolean(environment, PIPELINING, false);
+    this.http2 = getBoolean(environment, HTTP2, false);
+    this.maxConcurrentRequests = getInt(environment, MAX_CONCURRENT_REQUESTS, 200);
+    this.circuitBreakerFailureThreshold = getInt(environment, CIRCUIT_BREAKER_FAILURE_THRESHOLD, 10);
+    this.circuitBreakerOpenMs = getInt(environment, CIRCUIT_BREAKER_OPEN_MS, 30000);
+    this.batchChunkSize = Math.max(getInt(environment, BATCH_CHUNK_SIZE, 50), 1);
+    this.batchParallelism = Math.max(getInt(environment, BATCH_PARALLELISM, 4), 1);
+  }
+
+  public static WebClientSettings fromEnvironment(String downstream) {
+    return new WebClientSettings(downstream, System::getenv);
+  }
+
+  public WebClientOptions toWebClientOptions() {
+    WebClientOptions options = new WebClientOptions()
+      .setMetricsName(PREFIX.toLowerCase() + downstream)
+      .setMaxPoolSize(maxPoolSize)
+      .setMaxWaitQueueSize(maxWaitQueueSize)
+      .setConnectTimeout(connectTimeoutMs)
+      .setIdleTimeout(idleTimeoutSeconds)
+      .setKeepAlive(true)
+      .setKeepAliveTimeout(keepAliveTimeoutSeconds)
+      .setPipelining(pipelining);
+
+    if (http2) {
+      // Okapi speaks plain HTTP, so HTTP/2 is negotiated with an h2c upgrade and
+      // falls back to HTTP/1.1 when the upgrade is refused
+      options
+        .setProtocolVersion(HttpVersion.HTTP_2)
+        .setHttp2ClearTextUpgrade(true)
+        .setHttp2MaxPoolSize(maxPoolSize)
+        .setHttp2KeepAliveTimeout(keepAliveTimeoutSeconds);
+    }
+
+    return options;
+  }
+
+  public CircuitBreaker toCircuitBreaker() {
+    return new CircuitBreaker(downstream, circuitBreakerFailureThreshold, circuitBreakerOpenMs,
+      maxConcurrentRequests);
+  }
+
+  public String getDownstream() {
+    return downstream;
+  }
+
+  public int getMaxPoolSize() {
+    return maxPoolSize;
+  }
+
+  public int getConnectTimeoutMs() {
+    return connectTimeoutMs;
+  }
+
+  public int getIdleTimeoutSeconds() {
+    return idleTimeoutSeconds;
+  }
+
+  public long getRequestTimeoutMs() {
+    return requestTimeoutMs;
+  }
+
+  public boolean isPipelining() {
+    return pipelining;
+  }
+
+  public boolean isHttp2() {
+    return http2;
+  }
+
+  public int getMaxConcurrentRequests() {
+    return maxConcurrentRequests;
+  }
+
+  public int getCircuitBreakerFailureThreshold() {
+    return circuitBreakerFailureThreshold;
+  }
+
+  public long getCircuitBreakerOpenMs() {
+    return circuitBreakerOpenMs;
+  }
+
+  public int getBatchChunkSize() {
+    return batchChunkSize;
+  }
+
+  public int getBatchParallelism() {
+    return batchParallelism;
+  }
+
+  private String getValue(UnaryOperator<String> environment, String setting) {
+    String downstreamValue = environment.apply(
+      PREFIX + downstream.toUpperCase().replace('-', '_') + "_" + setting);
+
+    return isNotBlank(downstreamValue) ? downstreamValue : environment.apply(PREFIX + setting);
+  }
+
+  private int getInt(UnaryOperator<String> environment, String setting, int defaultValue) {
+    String value = getValue(environment, setting);
+
+    if (isNotBlank(value)) {
+      try {
+        return Integer.parseInt(value.trim());
+      } catch (NumberFormatException e) {
+        log.warn(format("Invalid value \"%s\" of %s for %s, using default %d",
+          value, setting, downstream, defaultValue));
+      }
+    }
+
+    return defaultValue;
+  }
+
+  private boolean getBoolean(UnaryOperator<String> environment, String setting,
+    boolean defaultValue) {
+
+    String value = getValue(environment, setting);
+
+    return isNotBlank(value) ? Boolean.parseBoolean(value.trim()) : defaultValue;
+  }
+}
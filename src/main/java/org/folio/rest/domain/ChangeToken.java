@@ -0,0 +1,50 @@
+package org.folio.rest.domain;
+
+import static java.lang.String.format;
+
+/**
+ * Position in the change feed: the ID of the transaction that made a change and the sequence
+ * number of the change within the feed.
+ */
+public class ChangeToken {
+  public static final ChangeToken START = new ChangeToken(0, 0);
+
+  private final long txid;
+  private final long seq;
+
+  public ChangeToken(long txid, long seq) {
+    this.txid = txid;
+    this.seq = seq;
+  }
+
+  public static ChangeToken parse(String token) {
+    if (token == null || token.isEmpty()) {
+      return START;
+    }
+
+    String[] parts = token.split("-");
+
+    try {
+      if (parts.length == 2) {
+        return new ChangeToken(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+      }
+    } catch (NumberFormatException e) {
+      // reported below
+    }
+
+    throw new IllegalArgumentException("Invalid token: " + token);
+  }
+
+  public long getTxid() {
+    return txid;
+  }
+
+  public long getSeq() {
+    return seq;
+  }
+
+  @Override
+  public String toString() {
+    return format("%d-%d", txid, seq);
+  }
+}
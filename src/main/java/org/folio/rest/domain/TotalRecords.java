@@ -0,0 +1,45 @@
+package org.folio.rest.domain;
+
+import java.util.Arrays;
+
+/**
+ * How {@code totalRecords} of a collection response is calculated.
+ */
+public enum TotalRecords {
+  EXACT("exact"),
+  ESTIMATED("estimated"),
+  NONE("none");
+
+  private final String value;
+
+  TotalRecords(String value) {
+    this.value = value;
+  }
+
+  public String getValue() {
+    return value;
+  }
+
+  /**
+   * Resolves the mode requested by the client, an absent value keeps the RMB default
+   * which is an estimation. Returns null for unknown values.
+   */
+  public static TotalRecords forValue(String value) {
+    if (value == null) {
+      return ESTIMATED;
+    }
+
+    return Arrays.stream(values())
+      .filter(currentEnum -> currentEnum.value.equalsIgnoreCase(value))
+      .findFirst()
+      .orElse(null);
+  }
+
+  /**
+   * RMB calculates the count together with the page only for the estimated mode, the exact
+   * count is queried separately and no count is needed at all for the "none" mode.
+   */
+  public boolean isCountedWithResults() {
+    return this == ESTIMATED;
+  }
+}
@@ -0,0 +1,7 @@
+package org.folio.rest.exception;
+
+public class DownstreamUnavailableException extends RuntimeException {
+  public DownstreamUnavailableException(String message) {
+    super(message);
+  }
+}
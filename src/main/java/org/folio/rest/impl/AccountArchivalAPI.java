@@ -0,0 +1,35 @@
+package org.folio.rest.impl;
+
+import static io.vertx.core.Future.succeededFuture;
+
+import java.util.Map;
+
+import javax.ws.rs.core.Response;
+
+import org.folio.rest.jaxrs.resource.AccountArchival;
+import org.folio.rest.service.AccountArchivalService;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+
+public class AccountArchivalAPI implements AccountArchival {
+
+  @Override
+  public void postAccountArchival(int closedForDays, int batchSize, int maxBatches,
+    Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
+    Context vertxContext) {
+
+    new AccountArchivalService(vertxContext, okapiHeaders)
+      .archiveClosedAccounts(closedForDays, batchSize, maxBatches)
+      .onComplete(result -> {
+        if (result.succeeded()) {
+          asyncResultHandler.handle(succeededFuture(
+            PostAccountArchivalResponse.respond200WithApplicationJson(result.result())));
+        } else {
+          asyncResultHandler.handle(succeededFuture(
+            PostAccountArchivalResponse.respond500WithTextPlain(result.cause().getMessage())));
+        }
+      });
+  }
+}
@@ -7,9 +7,14 @@ import static org.folio.rest.domain.Action.REFUND;
 import static org.folio.rest.domain.Action.TRANSFER;
 import static org.folio.rest.domain.Action.WAIVE;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.Response;
@@ -19,9 +24,11 @@ import org.apache.logging.log4j.Logger;
 import org.folio.cql2pgjson.CQL2PgJSON;
 import org.folio.cql2pgjson.exception.CQL2PgJSONException;
 import org.folio.rest.annotations.Validate;
+import org.folio.rest.cache.PerTenantCache;
 import org.folio.rest.client.InventoryClient;
 import org.folio.rest.domain.Action;
 import org.folio.rest.domain.ActionRequest;
+import org.folio.rest.domain.TotalRecords;
 import org.folio.rest.exception.AccountNotFoundValidationException;
 import org.folio.rest.exception.FailedValidationException;
 import org.folio.rest.jaxrs.model.Account;
@@ -33,10 +40,13 @@ import org.folio.rest.jaxrs.model.CancelActionRequest;
 import org.folio.rest.jaxrs.model.CheckActionRequest;
 import org.folio.rest.jaxrs.model.CheckActionResponse;
 import org.folio.rest.jaxrs.model.DefaultActionRequest;
+import org.folio.rest.jaxrs.model.HoldingsRecord;
 import org.folio.rest.jaxrs.model.HoldingsRecords;
 import org.folio.rest.jaxrs.model.Item;
 import org.folio.rest.jaxrs.model.Items;
+import org.folio.rest.jaxrs.model.ResultInfo;
 import org.folio.rest.jaxrs.resource.Accounts;
+import org.folio.rest.metrics.ServerTiming;
 import org.folio.rest.persist.Criteria.Criteria;
 import org.folio.rest.persist.Criteria.Criterion;
 import org.folio.rest.persist.Criteria.Limit;
@@ -47,6 +57,8 @@ import org.folio.rest.persist.PostgresClient;
 import org.folio.rest.persist.cql.CQLWrapper;
 import org.folio.rest.persist.facets.FacetField;
 import org.folio.rest.persist.facets.FacetManager;
+import org.folio.rest.repository.AccountArchiveRepository;
+import org.folio.rest.repository.RecordCountRepository;
 import org.folio.rest.service.AccountEventPublisher;
 import org.folio.rest.service.AccountUpdateService;
 import org.folio.rest.service.action.CancelActionService;
@@ -74,10 +86,14 @@ public class AccountsAPI implements Accounts {
   private static final String ACCOUNTS_TABLE = "accounts";
   private static final String ACCOUNT_ID_FIELD = "'id'";
   private static final String OKAPI_HEADER_TENANT = "x-okapi-tenant";
+  private static final String INCLUDE_INSTANCE = "instance";
+  // holdings and instance of an item change rarely, so they are reused between requests
+  private static final PerTenantCache<InventoryReference> inventoryReferencesCache =
+    PerTenantCache.create("inventory-references", Duration.ofMinutes(5), 10_000);
   private final Messages messages = Messages.getInstance();
 
-  private CQLWrapper getCQL(String query, int limit, int offset) throws CQL2PgJSONException{
-    CQL2PgJSON cql2pgJson = new CQL2PgJSON(ACCOUNTS_TABLE + ".jsonb");
+  private CQLWrapper getCQL(String table, String query, int limit, int offset) throws CQL2PgJSONException{
+    CQL2PgJSON cql2pgJson = new CQL2PgJSON(table + ".jsonb");
     return new CQLWrapper(cql2pgJson, query).setLimit(new Limit(limit)).setOffset(new Offset(offset));
   }
 
@@ -90,66 +106,115 @@ public class AccountsAPI implements Accounts {
 
     InventoryClient inventoryClient = new InventoryClient(vertx, okapiHeaders);
 
-    List<String> itemIds = accounts.stream()
+    Set<String> itemIds = accounts.stream()
       .map(Account::getItemId)
       .filter(Objects::nonNull)
-      .collect(Collectors.toList());
+      .collect(Collectors.toSet());
+
+    return inventoryReferencesCache.forTenant(TenantTool.tenantId(okapiHeaders))
+      .getAll(itemIds, ids -> fetchInventoryReferences(inventoryClient, ids))
+      .onSuccess(references -> accounts.stream()
+        .filter(account -> references.containsKey(account.getItemId()))
+        .forEach(account -> {
+          InventoryReference reference = references.get(account.getItemId());
+          account
+            .withHoldingsRecordId(reference.holdingsRecordId)
+            .withInstanceId(reference.instanceId);
+        }))
+      .mapEmpty();
+  }
+
+  private static Future<Map<String, InventoryReference>> fetchInventoryReferences(
+    InventoryClient inventoryClient, List<String> itemIds) {
 
-    return succeededFuture(new AdditionalFieldsContext(null, null))
-      .compose(ctx -> inventoryClient.getItemsById(itemIds)
-          .map(ctx::withItems))
-      .compose(ctx -> inventoryClient.getHoldingsById(ctx.items.getItems().stream()
+    return inventoryClient.getItemsById(itemIds)
+      .compose(items -> inventoryClient.getHoldingsById(items.getItems().stream()
         .map(Item::getHoldingsRecordId)
+        .filter(Objects::nonNull)
         .collect(Collectors.toList()))
-        .map(ctx::withHoldings))
-      .compose(ctx -> {
-        accounts.stream()
-          .filter(a -> a.getItemId() != null)
-          .forEach(account ->
-            ctx.items.getItems().stream()
-              .filter(item -> item.getHoldingsRecordId() != null)
-              .filter(item -> item.getId().equals(account.getItemId()))
-              .findAny()
-              .flatMap(item -> ctx.holdings.getHoldingsRecords().stream()
-                .filter(holding -> item.getHoldingsRecordId().equals(holding.getId()))
-                .findAny())
-              .ifPresent(holding -> account
-                .withHoldingsRecordId(holding.getId())
-                .withInstanceId(holding.getInstanceId())
-              )
-          );
-
-        return succeededFuture(null);
-      });
+        .map(holdings -> joinItemsWithHoldings(items, holdings)));
+  }
+
+  private static Map<String, InventoryReference> joinItemsWithHoldings(Items items,
+    HoldingsRecords holdings) {
+
+    Map<String, HoldingsRecord> holdingsById = holdings.getHoldingsRecords().stream()
+      .collect(Collectors.toMap(HoldingsRecord::getId, Function.identity(), (a, b) -> a));
+
+    Map<String, InventoryReference> references = new HashMap<>();
+    items.getItems().forEach(item -> {
+      HoldingsRecord holding = item.getHoldingsRecordId() == null ?
+        null : holdingsById.get(item.getHoldingsRecordId());
+
+      if (holding != null) {
+        references.put(item.getId(),
+          new InventoryReference(holding.getId(), holding.getInstanceId()));
+      }
+    });
+
+    return references;
+  }
+
+  private static boolean isInstanceIncluded(String include) {
+    return include != null && Arrays.stream(include.split(","))
+      .map(String::trim)
+      .anyMatch(INCLUDE_INSTANCE::equalsIgnoreCase);
   }
 
     @Validate
     @Override
-    public void getAccounts(String query, String orderBy, AccountsGetOrder order, int offset, int limit, List<String> facets, String lang,
+    public void getAccounts(String include, String totalRecords, boolean includeArchived, String query, String orderBy, AccountsGetOrder order, int offset, int limit, List<String> facets, String lang,
             Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
             Context vertxContext) {
         String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
         List<FacetField> facetList = FacetManager.convertFacetStrings2FacetFields(facets, "jsonb");
+        TotalRecords totalRecordsMode = TotalRecords.forValue(totalRecords);
+
+        if (totalRecordsMode == null) {
+            asyncResultHandler.handle(succeededFuture(GetAccountsResponse.respond400WithTextPlain(
+                    "Invalid totalRecords value: " + totalRecords)));
+            return;
+        }
+
+        String table = AccountArchiveRepository.accountsTable(includeArchived);
+
         try {
-            CQLWrapper cql = getCQL(query, limit, offset);
+            CQLWrapper cql = getCQL(table, query, limit, offset);
             vertxContext.runOnContext(v -> {
                 try {
                     PostgresClient postgresClient = PostgresClient.getInstance(
                             vertxContext.owner(), TenantTool.calculateTenantId(tenantId));
                     String[] fieldList = {"*"};
 
-                    postgresClient.get(ACCOUNTS_TABLE, Account.class, fieldList, cql,
-                            true, false, facetList, reply -> {
+                    postgresClient.get(table, Account.class, fieldList, cql,
+                            totalRecordsMode.isCountedWithResults(), false, facetList, reply -> {
                                 try {
                                     if (reply.succeeded()) {
                                       List<Account> accounts = reply.result().getResults();
 
-                                      setAdditionalFields(vertxContext.owner(), okapiHeaders, accounts)
-                                        .onComplete(accountsResult -> {
+                                      Future<Void> additionalFields = isInstanceIncluded(include)
+                                        ? setAdditionalFields(vertxContext.owner(), okapiHeaders, accounts)
+                                        : succeededFuture();
+
+                                      additionalFields
+                                        .recover(e -> succeededFuture())
+                                        .compose(v2 -> new RecordCountRepository(postgresClient, tenantId)
+                                          .getTotalRecords(totalRecordsMode, table, query, reply.result()))
+                                        .onComplete(countResult -> {
+                                          if (countResult.failed()) {
+                                            asyncResultHandler.handle(succeededFuture(
+                                              GetAccountsResponse.respond500WithTextPlain(
+                                                countResult.cause().getMessage())));
+                                            return;
+                                          }
+
+                                          ResultInfo resultInfo = reply.result().getResultInfo();
+                                          resultInfo.setTotalRecords(countResult.result());
+
                                           AccountdataCollection accountCollection = new AccountdataCollection();
                                           accountCollection.setAccounts(accounts);
-                                          accountCollection.setTotalRecords(reply.result().getResultInfo().getTotalRecords());
-                                          accountCollection.setResultInfo(reply.result().getResultInfo());
+                                          accountCollection.setTotalRecords(countResult.result());
+                                          accountCollection.setResultInfo(resultInfo);
                                           asyncResultHandler.handle(succeededFuture(
                                             GetAccountsResponse.respond200WithApplicationJson(accountCollection)));
                                         });
@@ -343,7 +408,9 @@ public class AccountsAPI implements Accounts {
     Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
 
-    checkAction(accountId, request, asyncResultHandler,
+    ServerTiming serverTiming = ServerTiming.start(okapiHeaders);
+
+    checkAction(accountId, request, serverTiming.wrap(asyncResultHandler),
       new DefaultActionValidationService(okapiHeaders, vertxContext), PAY);
   }
 
@@ -352,7 +419,9 @@ public class AccountsAPI implements Accounts {
     Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
 
-    checkAction(accountId, request, asyncResultHandler,
+    ServerTiming serverTiming = ServerTiming.start(okapiHeaders);
+
+    checkAction(accountId, request, serverTiming.wrap(asyncResultHandler),
       new DefaultActionValidationService(okapiHeaders, vertxContext), WAIVE);
   }
 
@@ -361,7 +430,9 @@ public class AccountsAPI implements Accounts {
     Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
 
-    checkAction(accountId, request, asyncResultHandler,
+    ServerTiming serverTiming = ServerTiming.start(okapiHeaders);
+
+    checkAction(accountId, request, serverTiming.wrap(asyncResultHandler),
       new DefaultActionValidationService(okapiHeaders, vertxContext), TRANSFER);
   }
 
@@ -370,7 +441,9 @@ public class AccountsAPI implements Accounts {
     Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
 
-    checkAction(accountId, request, asyncResultHandler,
+    ServerTiming serverTiming = ServerTiming.start(okapiHeaders);
+
+    checkAction(accountId, request, serverTiming.wrap(asyncResultHandler),
       new RefundActionValidationService(okapiHeaders, vertxContext), REFUND);
   }
 
@@ -422,10 +495,12 @@ public class AccountsAPI implements Accounts {
     Context vertxContext) {
 
     ActionRequest actionRequest = ActionRequest.from(request, accountId);
+    ServerTiming serverTiming = ServerTiming.start(okapiHeaders);
 
     new PayActionService(okapiHeaders, vertxContext)
       .performAction(actionRequest)
-      .onComplete(result -> handleActionResult(actionRequest, result, asyncResultHandler, PAY));
+      .onComplete(result -> handleActionResult(actionRequest, result,
+        serverTiming.wrap(asyncResultHandler), PAY));
   }
 
   @Override
@@ -434,10 +509,12 @@ public class AccountsAPI implements Accounts {
     Context vertxContext) {
 
     ActionRequest actionRequest = ActionRequest.from(request, accountId);
+    ServerTiming serverTiming = ServerTiming.start(okapiHeaders);
 
     new WaiveActionService(okapiHeaders, vertxContext)
       .performAction(actionRequest)
-      .onComplete(result -> handleActionResult(actionRequest, result, asyncResultHandler, WAIVE));
+      .onComplete(result -> handleActionResult(actionRequest, result,
+        serverTiming.wrap(asyncResultHandler), WAIVE));
   }
 
   @Override
@@ -446,10 +523,12 @@ public class AccountsAPI implements Accounts {
     Context vertxContext) {
 
     ActionRequest actionRequest = ActionRequest.from(request, accountId);
+    ServerTiming serverTiming = ServerTiming.start(okapiHeaders);
 
     new TransferActionService(okapiHeaders, vertxContext)
       .performAction(actionRequest)
-      .onComplete(result -> handleActionResult(actionRequest, result, asyncResultHandler, TRANSFER));
+      .onComplete(result -> handleActionResult(actionRequest, result,
+        serverTiming.wrap(asyncResultHandler), TRANSFER));
   }
 
   @Override
@@ -458,10 +537,12 @@ public class AccountsAPI implements Accounts {
     Context vertxContext) {
 
     ActionRequest actionRequest = ActionRequest.from(request, accountId);
+    ServerTiming serverTiming = ServerTiming.start(okapiHeaders);
 
     new RefundActionService(okapiHeaders, vertxContext)
       .performAction(actionRequest)
-      .onComplete(result -> handleActionResult(actionRequest, result, asyncResultHandler, REFUND));
+      .onComplete(result -> handleActionResult(actionRequest, result,
+        serverTiming.wrap(asyncResultHandler), REFUND));
   }
 
   @Override
@@ -470,10 +551,12 @@ public class AccountsAPI implements Accounts {
     Context vertxContext) {
 
     ActionRequest actionRequest = ActionRequest.from(request, accountId);
+    ServerTiming serverTiming = ServerTiming.start(okapiHeaders);
 
     new CancelActionService(okapiHeaders, vertxContext)
       .performAction(actionRequest)
-      .onComplete(result -> handleActionResult(actionRequest, result, asyncResultHandler, CANCEL));
+      .onComplete(result -> handleActionResult(actionRequest, result,
+        serverTiming.wrap(asyncResultHandler), CANCEL));
   }
 
   private void handleActionResult(ActionRequest request, AsyncResult<ActionContext> asyncResult,
@@ -515,21 +598,13 @@ public class AccountsAPI implements Accounts {
     }
   }
 
-  private static class AdditionalFieldsContext {
-    final Items items;
-    final HoldingsRecords holdings;
-
-    private AdditionalFieldsContext(Items items, HoldingsRecords holdings) {
-      this.items = items;
-      this.holdings = holdings;
-    }
-
-    private AdditionalFieldsContext withItems(Items items) {
-      return new AdditionalFieldsContext(items, this.holdings);
-    }
+  private static class InventoryReference {
+    final String holdingsRecordId;
+    final String instanceId;
 
-    private AdditionalFieldsContext withHoldings(HoldingsRecords holdings) {
-      return new AdditionalFieldsContext(this.items, holdings);
+    private InventoryReference(String holdingsRecordId, String instanceId) {
+      this.holdingsRecordId = holdingsRecordId;
+      this.instanceId = instanceId;
     }
   }
 }
@@ -24,6 +24,7 @@ import org.folio.rest.jaxrs.model.BulkCheckActionResponse;
 import org.folio.rest.jaxrs.model.CancelBulkActionRequest;
 import org.folio.rest.jaxrs.model.DefaultBulkActionRequest;
 import org.folio.rest.jaxrs.resource.AccountsBulk;
+import org.folio.rest.metrics.ServerTiming;
 import org.folio.rest.service.action.CancelActionService;
 import org.folio.rest.service.action.PayActionService;
 import org.folio.rest.service.action.RefundActionService;
@@ -47,7 +48,9 @@ public class AccountsBulkAPI implements AccountsBulk {
     Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
 
-    checkBulkAction(request, asyncResultHandler,
+    ServerTiming serverTiming = ServerTiming.start(okapiHeaders);
+
+    checkBulkAction(request, serverTiming.wrap(asyncResultHandler),
       new DefaultActionValidationService(okapiHeaders, vertxContext), PAY);
   }
 
@@ -56,7 +59,9 @@ public class AccountsBulkAPI implements AccountsBulk {
     Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
 
-    checkBulkAction(entity, asyncResultHandler,
+    ServerTiming serverTiming = ServerTiming.start(okapiHeaders);
+
+    checkBulkAction(entity, serverTiming.wrap(asyncResultHandler),
       new DefaultActionValidationService(okapiHeaders, vertxContext), TRANSFER);
   }
 
@@ -65,7 +70,9 @@ public class AccountsBulkAPI implements AccountsBulk {
     Map<String, String> okapiHeaders,
     Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
 
-    checkBulkAction(entity, asyncResultHandler,
+    ServerTiming serverTiming = ServerTiming.start(okapiHeaders);
+
+    checkBulkAction(entity, serverTiming.wrap(asyncResultHandler),
       new DefaultActionValidationService(okapiHeaders, vertxContext), WAIVE);
   }
 
@@ -74,7 +81,9 @@ public class AccountsBulkAPI implements AccountsBulk {
     Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
     Context vertxContext) {
 
-    checkBulkAction(entity, asyncResultHandler,
+    ServerTiming serverTiming = ServerTiming.start(okapiHeaders);
+
+    checkBulkAction(entity, serverTiming.wrap(asyncResultHandler),
       new RefundActionValidationService(okapiHeaders, vertxContext), Action.REFUND);
   }
 
@@ -84,10 +93,12 @@ public class AccountsBulkAPI implements AccountsBulk {
     Context vertxContext) {
 
     ActionRequest actionRequest = ActionRequest.from(request);
+    ServerTiming serverTiming = ServerTiming.start(okapiHeaders);
 
     new PayActionService(okapiHeaders, vertxContext)
       .performAction(actionRequest)
-      .onComplete(result -> handleActionResult(actionRequest, result, asyncResultHandler, PAY));
+      .onComplete(result -> handleActionResult(actionRequest, result,
+        serverTiming.wrap(asyncResultHandler), PAY));
   }
 
   @Override
@@ -96,10 +107,12 @@ public class AccountsBulkAPI implements AccountsBulk {
     Context vertxContext) {
 
     ActionRequest actionRequest = ActionRequest.from(request);
+    ServerTiming serverTiming = ServerTiming.start(okapiHeaders);
 
     new WaiveActionService(okapiHeaders, vertxContext)
       .performAction(actionRequest)
-      .onComplete(result -> handleActionResult(actionRequest, result, asyncResultHandler, WAIVE));
+      .onComplete(result -> handleActionResult(actionRequest, result,
+        serverTiming.wrap(asyncResultHandler), WAIVE));
   }
 
   @Override
@@ -108,10 +121,12 @@ public class AccountsBulkAPI implements AccountsBulk {
     Context vertxContext) {
 
     ActionRequest actionRequest = ActionRequest.from(request);
+    ServerTiming serverTiming = ServerTiming.start(okapiHeaders);
 
     new CancelActionService(okapiHeaders, vertxContext)
       .performAction(actionRequest)
-      .onComplete(result -> handleActionResult(actionRequest, result, asyncResultHandler, CANCEL));
+      .onComplete(result -> handleActionResult(actionRequest, result,
+        serverTiming.wrap(asyncResultHandler), CANCEL));
   }
 
   @Override
@@ -120,10 +135,12 @@ public class AccountsBulkAPI implements AccountsBulk {
     Context vertxContext) {
 
     ActionRequest actionRequest = ActionRequest.from(request);
+    ServerTiming serverTiming = ServerTiming.start(okapiHeaders);
 
     new TransferActionService(okapiHeaders, vertxContext)
       .performAction(actionRequest)
-      .onComplete(result -> handleActionResult(actionRequest, result, asyncResultHandler, TRANSFER));
+      .onComplete(result -> handleActionResult(actionRequest, result,
+        serverTiming.wrap(asyncResultHandler), TRANSFER));
   }
 
   @Override
@@ -132,10 +149,12 @@ public class AccountsBulkAPI implements AccountsBulk {
     Context vertxContext) {
 
     ActionRequest actionRequest = ActionRequest.from(request);
+    ServerTiming serverTiming = ServerTiming.start(okapiHeaders);
 
     new RefundActionService(okapiHeaders, vertxContext)
       .performAction(actionRequest)
-      .onComplete(result -> handleActionResult(actionRequest, result, asyncResultHandler, Action.REFUND));
+      .onComplete(result -> handleActionResult(actionRequest, result,
+        serverTiming.wrap(asyncResultHandler), Action.REFUND));
   }
 
   private void checkBulkAction(BulkCheckActionRequest request,
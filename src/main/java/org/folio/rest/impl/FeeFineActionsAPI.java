@@ -15,6 +15,7 @@ import org.apache.logging.log4j.Logger;
 import org.folio.cql2pgjson.CQL2PgJSON;
 import org.folio.cql2pgjson.exception.CQL2PgJSONException;
 import org.folio.rest.annotations.Validate;
+import org.folio.rest.domain.TotalRecords;
 import org.folio.rest.jaxrs.model.Feefineaction;
 import org.folio.rest.jaxrs.model.FeefineactiondataCollection;
 import org.folio.rest.jaxrs.model.FeefineactionsGetOrder;
@@ -27,6 +28,8 @@ import org.folio.rest.persist.PgExceptionUtil;
 import org.folio.rest.persist.PgUtil;
 import org.folio.rest.persist.PostgresClient;
 import org.folio.rest.persist.cql.CQLWrapper;
+import org.folio.rest.repository.AccountArchiveRepository;
+import org.folio.rest.repository.RecordCountRepository;
 import org.folio.rest.service.LogEventPublisher;
 import org.folio.rest.service.LogEventService;
 import org.folio.rest.service.PatronNoticeService;
@@ -49,10 +52,10 @@ public class FeeFineActionsAPI implements Feefineactions {
   private static final String OKAPI_HEADER_TENANT = "x-okapi-tenant";
   private final Logger logger = LogManager.getLogger(FeeFineActionsAPI.class);
 
-  private CQLWrapper getCQL(String query, int limit, int offset)
+  private CQLWrapper getCQL(String table, String query, int limit, int offset)
     throws CQL2PgJSONException, IOException {
 
-    CQL2PgJSON cql2pgJson = new CQL2PgJSON(FEEFINEACTIONS_TABLE + ".jsonb");
+    CQL2PgJSON cql2pgJson = new CQL2PgJSON(table + ".jsonb");
     return new CQLWrapper(cql2pgJson, query)
       .setLimit(new Limit(limit))
       .setOffset(new Offset(offset));
@@ -60,33 +63,54 @@ public class FeeFineActionsAPI implements Feefineactions {
 
   @Validate
   @Override
-  public void getFeefineactions(String query, String orderBy, FeefineactionsGetOrder order,
-    int offset, int limit, String lang, Map<String, String> okapiHeaders,
-    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+  public void getFeefineactions(String totalRecords, boolean includeArchived, String query,
+    String orderBy, FeefineactionsGetOrder order, int offset, int limit, String lang,
+    Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
+    Context vertxContext) {
 
     String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
+    TotalRecords totalRecordsMode = TotalRecords.forValue(totalRecords);
+
+    if (totalRecordsMode == null) {
+      asyncResultHandler.handle(Future.succeededFuture(
+        GetFeefineactionsResponse.respond400WithTextPlain(
+          "Invalid totalRecords value: " + totalRecords)));
+      return;
+    }
+
+    String table = AccountArchiveRepository.actionsTable(includeArchived);
 
     try {
-      CQLWrapper cql = getCQL(query, limit, offset);
+      CQLWrapper cql = getCQL(table, query, limit, offset);
       vertxContext.runOnContext(v -> {
         try {
           PostgresClient postgresClient = PostgresClient.getInstance(
             vertxContext.owner(), TenantTool.calculateTenantId(tenantId));
           String[] fieldList = {"*"};
 
-          postgresClient.get(FEEFINEACTIONS_TABLE, Feefineaction.class, fieldList, cql,
-            true, false, reply -> {
+          postgresClient.get(table, Feefineaction.class, fieldList, cql,
+            totalRecordsMode.isCountedWithResults(), false, reply -> {
               try {
                 if (reply.succeeded()) {
-                  FeefineactiondataCollection feefineactionCollection =
-                    new FeefineactiondataCollection();
-                  List<Feefineaction> feefineactions = reply.result().getResults();
-                  feefineactionCollection.setFeefineactions(feefineactions);
-                  feefineactionCollection.setTotalRecords(
-                    reply.result().getResultInfo().getTotalRecords());
-                  asyncResultHandler.handle(Future.succeededFuture(
-                    GetFeefineactionsResponse.respond200WithApplicationJson(
-                      feefineactionCollection)));
+                  new RecordCountRepository(postgresClient, tenantId)
+                    .getTotalRecords(totalRecordsMode, table, query, reply.result())
+                    .onComplete(countResult -> {
+                      if (countResult.failed()) {
+                        asyncResultHandler.handle(Future.succeededFuture(
+                          GetFeefineactionsResponse.respond500WithTextPlain(
+                            countResult.cause().getMessage())));
+                        return;
+                      }
+
+                      FeefineactiondataCollection feefineactionCollection =
+                        new FeefineactiondataCollection();
+                      List<Feefineaction> feefineactions = reply.result().getResults();
+                      feefineactionCollection.setFeefineactions(feefineactions);
+                      feefineactionCollection.setTotalRecords(countResult.result());
+                      asyncResultHandler.handle(Future.succeededFuture(
+                        GetFeefineactionsResponse.respond200WithApplicationJson(
+                          feefineactionCollection)));
+                    });
                 } else {
                   asyncResultHandler.handle(io.vertx.core.Future.succeededFuture(
                     GetFeefineactionsResponse.respond500WithTextPlain(
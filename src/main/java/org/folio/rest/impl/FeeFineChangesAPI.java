@@ -0,0 +1,60 @@
+package org.folio.rest.impl;
+
+import static io.vertx.core.Future.succeededFuture;
+
+import java.util.Map;
+
+import javax.ws.rs.core.Response;
+
+import org.folio.rest.domain.ChangeToken;
+import org.folio.rest.jaxrs.resource.FeeFineChanges;
+import org.folio.rest.repository.FeeFineChangeRepository;
+import org.folio.rest.service.FeeFineChangePruningService;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+
+public class FeeFineChangesAPI implements FeeFineChanges {
+
+  @Override
+  public void getFeeFineChanges(String after, int limit, Map<String, String> okapiHeaders,
+    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+
+    final ChangeToken token;
+
+    try {
+      token = ChangeToken.parse(after);
+    } catch (IllegalArgumentException e) {
+      asyncResultHandler.handle(succeededFuture(
+        GetFeeFineChangesResponse.respond400WithTextPlain(e.getMessage())));
+      return;
+    }
+
+    new FeeFineChangeRepository(vertxContext, okapiHeaders)
+      .getChanges(token, limit)
+      .onSuccess(changes -> asyncResultHandler.handle(succeededFuture(
+        GetFeeFineChangesResponse.respond200WithApplicationJson(changes))))
+      .onFailure(throwable -> asyncResultHandler.handle(succeededFuture(
+        GetFeeFineChangesResponse.respond500WithTextPlain(throwable.getMessage()))));
+  }
+
+  @Override
+  public void postFeeFineChangesPruning(Integer retentionDays, int batchSize, int maxBatches,
+    Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
+    Context vertxContext) {
+
+    new FeeFineChangePruningService(vertxContext, okapiHeaders)
+      .pruneChanges(retentionDays, batchSize, maxBatches)
+      .onComplete(result -> {
+        if (result.succeeded()) {
+          asyncResultHandler.handle(succeededFuture(
+            PostFeeFineChangesPruningResponse.respond200WithApplicationJson(result.result())));
+        } else {
+          asyncResultHandler.handle(succeededFuture(
+            PostFeeFineChangesPruningResponse.respond500WithTextPlain(
+              result.cause().getMessage())));
+        }
+      });
+  }
+}
@@ -0,0 +1,61 @@
+package org.folio.rest.impl;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.folio.rest.repository.AccountArchiveRepository.accountsTable;
+import static org.folio.rest.repository.AccountArchiveRepository.actionsTable;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.ws.rs.core.Response;
+
+import org.folio.cql2pgjson.exception.CQL2PgJSONException;
+import org.folio.rest.jaxrs.resource.FeeFineExport;
+import org.folio.rest.service.FeeFineExportService;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+
+public class FeeFineExportAPI implements FeeFineExport {
+
+  @Override
+  public void getFeeFineExportAccounts(String query, boolean includeArchived,
+    RoutingContext routingContext, Map<String, String> okapiHeaders,
+    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+
+    export(accountsTable(includeArchived), query, routingContext, okapiHeaders,
+      asyncResultHandler, vertxContext,
+      GetFeeFineExportAccountsResponse::respond400WithTextPlain,
+      GetFeeFineExportAccountsResponse::respond500WithTextPlain);
+  }
+
+  @Override
+  public void getFeeFineExportFeefineactions(String query, boolean includeArchived,
+    RoutingContext routingContext, Map<String, String> okapiHeaders,
+    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+
+    export(actionsTable(includeArchived), query, routingContext, okapiHeaders,
+      asyncResultHandler, vertxContext,
+      GetFeeFineExportFeefineactionsResponse::respond400WithTextPlain,
+      GetFeeFineExportFeefineactionsResponse::respond500WithTextPlain);
+  }
+
+  /**
+   * Records are written directly to the HTTP response, asyncResultHandler is only used when
+   * the export fails before streaming has started.
+   */
+  private static void export(String table, String query, RoutingContext routingContext,
+    Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
+    Context vertxContext, Function<Object, Response> badRequest,
+    Function<Object, Response> internalError) {
+
+    new FeeFineExportService(vertxContext, okapiHeaders)
+      .export(table, query, routingContext.response())
+      .onFailure(throwable -> asyncResultHandler.handle(succeededFuture(
+        throwable instanceof CQL2PgJSONException
+          ? badRequest.apply(throwable.getMessage())
+          : internalError.apply(throwable.getMessage()))));
+  }
+}
@@ -0,0 +1,57 @@
+package org.folio.rest.impl;
+
+import static io.vertx.core.Future.succeededFuture;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.ws.rs.core.Response;
+
+import org.folio.rest.jaxrs.model.FeeFineImportResult;
+import org.folio.rest.jaxrs.resource.FeeFineImport;
+import org.folio.rest.service.FeeFineImportService;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+
+public class FeeFineImportAPI implements FeeFineImport {
+  private static final String EVENTS_BATCH = "batch";
+
+  @Override
+  public void postFeeFineImportAccounts(int batchSize, String events, InputStream entity,
+    Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
+    Context vertxContext) {
+
+    new FeeFineImportService(vertxContext, okapiHeaders)
+      .importAccounts(entity, batchSize, EVENTS_BATCH.equals(events))
+      .onComplete(result -> handleResult(result, asyncResultHandler,
+        PostFeeFineImportAccountsResponse::respond200WithApplicationJson,
+        PostFeeFineImportAccountsResponse::respond500WithTextPlain));
+  }
+
+  @Override
+  public void postFeeFineImportFeefineactions(int batchSize, String events, InputStream entity,
+    Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
+    Context vertxContext) {
+
+    new FeeFineImportService(vertxContext, okapiHeaders)
+      .importActions(entity, batchSize, EVENTS_BATCH.equals(events))
+      .onComplete(result -> handleResult(result, asyncResultHandler,
+        PostFeeFineImportFeefineactionsResponse::respond200WithApplicationJson,
+        PostFeeFineImportFeefineactionsResponse::respond500WithTextPlain));
+  }
+
+  private static void handleResult(AsyncResult<FeeFineImportResult> result,
+    Handler<AsyncResult<Response>> asyncResultHandler,
+    Function<FeeFineImportResult, Response> onSuccess, Function<Object, Response> onFailure) {
+
+    Future<Response> response = result.succeeded()
+      ? succeededFuture(onSuccess.apply(result.result()))
+      : succeededFuture(onFailure.apply(result.cause().getMessage()));
+
+    asyncResultHandler.handle(response);
+  }
+}
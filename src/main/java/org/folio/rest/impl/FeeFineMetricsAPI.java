@@ -0,0 +1,25 @@
+package org.folio.rest.impl;
+
+import static io.vertx.core.Future.succeededFuture;
+
+import java.util.Map;
+
+import javax.ws.rs.core.Response;
+
+import org.folio.rest.jaxrs.resource.FeeFineMetrics;
+import org.folio.rest.metrics.MetricsRecorder;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+
+public class FeeFineMetricsAPI implements FeeFineMetrics {
+
+  @Override
+  public void getFeeFineMetrics(Map<String, String> okapiHeaders,
+    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+
+    asyncResultHandler.handle(succeededFuture(
+      GetFeeFineMetricsResponse.respond200WithTextPlain(MetricsRecorder.scrape())));
+  }
+}
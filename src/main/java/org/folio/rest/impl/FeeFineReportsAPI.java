@@ -3,6 +3,8 @@ package org.folio.rest.impl;
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
 import static java.lang.String.format;
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
+import static org.folio.rest.tools.utils.TenantTool.tenantId;
 import static org.folio.rest.utils.DateUtils.parseDateReportParameter;
 
 import java.util.List;
@@ -19,6 +21,8 @@ import org.folio.rest.jaxrs.model.CashDrawerReconciliationReportRequest;
 import org.folio.rest.jaxrs.model.CashDrawerReconciliationReportSourcesRequest;
 import org.folio.rest.jaxrs.model.RefundReportRequest;
 import org.folio.rest.jaxrs.resource.FeefineReports;
+import org.folio.rest.metrics.MetricsRecorder;
+import org.folio.rest.metrics.ServerTiming;
 import org.folio.rest.service.report.CashDrawerReconciliationReportService;
 import org.folio.rest.service.report.RefundReportService;
 import org.folio.rest.service.report.parameters.CashDrawerReconciliationReportParameters;
@@ -68,9 +72,13 @@ public class FeeFineReportsAPI implements FeefineReports {
       return;
     }
 
-    new RefundReportService(okapiHeaders, vertxContext)
-      .buildReport(startDate, endDate, entity.getFeeFineOwners())
-      .onComplete(result -> handleReportResult(result, asyncResultHandler,
+    ServerTiming serverTiming = ServerTiming.start(okapiHeaders);
+
+    MetricsRecorder.timeReport("refund", tenantId(okapiHeaders),
+      () -> new RefundReportService(okapiHeaders, vertxContext,
+        isTrue(entity.getIncludeArchived()))
+        .buildReport(startDate, endDate, entity.getFeeFineOwners()))
+      .onComplete(result -> handleReportResult(result, serverTiming.wrap(asyncResultHandler),
         PostFeefineReportsRefundResponse::respond200WithApplicationJson));
   }
 
@@ -98,10 +106,14 @@ public class FeeFineReportsAPI implements FeefineReports {
       return;
     }
 
-    new CashDrawerReconciliationReportService(okapiHeaders, vertxContext)
-      .build(new CashDrawerReconciliationReportParameters(startDate, endDate,
-        entity.getCreatedAt(), entity.getSources()))
-      .onComplete(result -> handleReportResult(result, asyncResultHandler,
+    ServerTiming serverTiming = ServerTiming.start(okapiHeaders);
+
+    MetricsRecorder.timeReport("cash-drawer-reconciliation", tenantId(okapiHeaders),
+      () -> new CashDrawerReconciliationReportService(okapiHeaders, vertxContext,
+        isTrue(entity.getIncludeArchived()))
+        .build(new CashDrawerReconciliationReportParameters(startDate, endDate,
+          entity.getCreatedAt(), entity.getSources())))
+      .onComplete(result -> handleReportResult(result, serverTiming.wrap(asyncResultHandler),
         PostFeefineReportsCashDrawerReconciliationResponse::respond200WithApplicationJson));
   }
 
@@ -115,9 +127,13 @@ public class FeeFineReportsAPI implements FeefineReports {
     log.info("Cash drawer reconciliation report sources requested, parameters: createdAt={}",
       createdAt);
 
-    new CashDrawerReconciliationReportService(okapiHeaders, vertxContext)
-      .findSources(createdAt)
-      .onComplete(result -> handleReportResult(result, asyncResultHandler,
+    ServerTiming serverTiming = ServerTiming.start(okapiHeaders);
+
+    MetricsRecorder.timeReport("cash-drawer-reconciliation-sources", tenantId(okapiHeaders),
+      () -> new CashDrawerReconciliationReportService(okapiHeaders, vertxContext,
+        isTrue(entity.getIncludeArchived()))
+        .findSources(createdAt))
+      .onComplete(result -> handleReportResult(result, serverTiming.wrap(asyncResultHandler),
         PostFeefineReportsCashDrawerReconciliationSourcesResponse::respond200WithApplicationJson));
   }
 
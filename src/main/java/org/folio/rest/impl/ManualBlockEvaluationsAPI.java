@@ -0,0 +1,67 @@
+package org.folio.rest.impl;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.folio.util.UuidUtil.isUuid;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.ws.rs.core.Response;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.jaxrs.model.ManualBlockEvaluationCollection;
+import org.folio.rest.jaxrs.resource.ManualBlockEvaluations;
+import org.folio.rest.service.ManualBlockEvaluationService;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+
+public class ManualBlockEvaluationsAPI implements ManualBlockEvaluations {
+  private static final Logger log = LogManager.getLogger(ManualBlockEvaluationsAPI.class);
+
+  private static final int MAX_USER_IDS = 100;
+
+  @Override
+  public void getManualBlockEvaluations(List<String> userId, Map<String, String> okapiHeaders,
+    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+
+    if (userId == null || userId.isEmpty() || userId.size() > MAX_USER_IDS) {
+      asyncResultHandler.handle(succeededFuture(
+        GetManualBlockEvaluationsResponse.respond400WithTextPlain(
+          "Between 1 and " + MAX_USER_IDS + " user IDs must be provided")));
+      return;
+    }
+
+    Optional<String> invalidUserId = userId.stream()
+      .filter(id -> !isUuid(id))
+      .findFirst();
+
+    if (invalidUserId.isPresent()) {
+      asyncResultHandler.handle(succeededFuture(
+        GetManualBlockEvaluationsResponse.respond400WithTextPlain(
+          "Invalid user ID: " + invalidUserId.get())));
+      return;
+    }
+
+    new ManualBlockEvaluationService(vertxContext, okapiHeaders)
+      .evaluate(userId)
+      .onComplete(result -> {
+        if (result.failed()) {
+          log.error("Failed to evaluate manual blocks", result.cause());
+          asyncResultHandler.handle(succeededFuture(
+            GetManualBlockEvaluationsResponse.respond500WithTextPlain(
+              result.cause().getMessage())));
+          return;
+        }
+
+        asyncResultHandler.handle(succeededFuture(
+          GetManualBlockEvaluationsResponse.respond200WithApplicationJson(
+            new ManualBlockEvaluationCollection()
+              .withManualBlockEvaluations(result.result())
+              .withTotalRecords(result.result().size()))));
+      });
+  }
+}
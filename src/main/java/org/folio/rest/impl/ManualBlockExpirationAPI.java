@@ -0,0 +1,36 @@
+package org.folio.rest.impl;
+
+import static io.vertx.core.Future.succeededFuture;
+
+import java.util.Map;
+
+import javax.ws.rs.core.Response;
+
+import org.folio.rest.jaxrs.resource.ManualBlockExpiration;
+import org.folio.rest.service.ManualBlockExpirationService;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+
+public class ManualBlockExpirationAPI implements ManualBlockExpiration {
+
+  @Override
+  public void postManualBlockExpiration(int batchSize, int maxBatches,
+    Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler,
+    Context vertxContext) {
+
+    new ManualBlockExpirationService(vertxContext, okapiHeaders)
+      .deleteExpiredBlocks(batchSize, maxBatches)
+      .onComplete(result -> {
+        if (result.succeeded()) {
+          asyncResultHandler.handle(succeededFuture(
+            PostManualBlockExpirationResponse.respond200WithApplicationJson(result.result())));
+        } else {
+          asyncResultHandler.handle(succeededFuture(
+            PostManualBlockExpirationResponse.respond500WithTextPlain(
+              result.cause().getMessage())));
+        }
+      });
+  }
+}
@@ -18,6 +18,7 @@ import org.apache.logging.log4j.Logger;
 import org.folio.cql2pgjson.CQL2PgJSON;
 import org.folio.cql2pgjson.exception.CQL2PgJSONException;
 import org.folio.rest.annotations.Validate;
+import org.folio.rest.domain.TotalRecords;
 import org.folio.rest.jaxrs.model.Manualblock;
 import org.folio.rest.jaxrs.model.ManualblockdataCollection;
 import org.folio.rest.jaxrs.model.ManualblocksGetOrder;
@@ -29,7 +30,9 @@ import org.folio.rest.persist.Criteria.Criterion;
 import org.folio.rest.persist.Criteria.Limit;
 import org.folio.rest.persist.Criteria.Offset;
 import org.folio.rest.persist.cql.CQLWrapper;
+import org.folio.rest.repository.RecordCountRepository;
 import org.folio.rest.service.LogEventPublisher;
+import org.folio.rest.service.ManualBlockEvaluationService;
 import org.folio.rest.tools.messages.MessageConsts;
 import org.folio.rest.tools.messages.Messages;
 import org.folio.rest.tools.utils.TenantTool;
@@ -55,8 +58,15 @@ public class ManualBlocksAPI implements Manualblocks {
 
     @Validate
     @Override
-    public void getManualblocks(String query, String orderBy, ManualblocksGetOrder order, int offset, int limit, String lang, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+    public void getManualblocks(String totalRecords, String query, String orderBy, ManualblocksGetOrder order, int offset, int limit, String lang, Map<String, String> okapiHeaders, Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
         String tenantId = TenantTool.calculateTenantId(okapiHeaders.get(OKAPI_HEADER_TENANT));
+        TotalRecords totalRecordsMode = TotalRecords.forValue(totalRecords);
+
+        if (totalRecordsMode == null) {
+            asyncResultHandler.handle(Future.succeededFuture(GetManualblocksResponse.respond400WithTextPlain(
+                    "Invalid totalRecords value: " + totalRecords)));
+            return;
+        }
 
         try {
             CQLWrapper cql = getCQL(query, limit, offset);
@@ -67,15 +77,26 @@ public class ManualBlocksAPI implements Manualblocks {
                     String[] fieldList = {"*"};
 
                     postgresClient.get(MANUALBLOCKS_TABLE, Manualblock.class, fieldList, cql,
-                            true, false, reply -> {
+                            totalRecordsMode.isCountedWithResults(), false, reply -> {
                                 try {
                                     if (reply.succeeded()) {
-                                        ManualblockdataCollection manualblocksCollection = new ManualblockdataCollection();
-                                        List<Manualblock> manualblockList = reply.result().getResults();
-                                        manualblocksCollection.setManualblocks(manualblockList);
-                                        manualblocksCollection.setTotalRecords(reply.result().getResultInfo().getTotalRecords());
-                                        asyncResultHandler.handle(Future.succeededFuture(
-                                                GetManualblocksResponse.respond200WithApplicationJson(manualblocksCollection)));
+                                        new RecordCountRepository(postgresClient, tenantId)
+                                                .getTotalRecords(totalRecordsMode, MANUALBLOCKS_TABLE, query, reply.result())
+                                                .onComplete(countResult -> {
+                                                    if (countResult.failed()) {
+                                                        asyncResultHandler.handle(Future.succeededFuture(
+                                                                GetManualblocksResponse.respond500WithTextPlain(
+                                                                        countResult.cause().getMessage())));
+                                                        return;
+                                                    }
+
+                                                    ManualblockdataCollection manualblocksCollection = new ManualblockdataCollection();
+                                                    List<Manualblock> manualblockList = reply.result().getResults();
+                                                    manualblocksCollection.setManualblocks(manualblockList);
+                                                    manualblocksCollection.setTotalRecords(countResult.result());
+                                                    asyncResultHandler.handle(Future.succeededFuture(
+                                                            GetManualblocksResponse.respond200WithApplicationJson(manualblocksCollection)));
+                                                });
                                     } else {
                                         asyncResultHandler.handle(io.vertx.core.Future.succeededFuture(
                                                 GetManualblocksResponse.respond500WithTextPlain(
@@ -139,9 +160,14 @@ public class ManualBlocksAPI implements Manualblocks {
                                     final Manualblock manualblock = entity;
                                     manualblock.setId(entity.getId());
                                     logger.debug("ID API" + entity.getId());
-                                    postgresClient.endTx(beginTx, done
-                                            -> asyncResultHandler.handle(Future.succeededFuture(PostManualblocksResponse.respond201WithApplicationJson(manualblock,
-                                                    PostManualblocksResponse.headersFor201().withLocation(reply.result())))));
+                                    postgresClient.endTx(beginTx, done -> {
+                                        // evaluations loaded before the commit must not be cached
+                                        if (done.succeeded()) {
+                                            ManualBlockEvaluationService.invalidate(okapiHeaders, entity.getUserId());
+                                        }
+                                        asyncResultHandler.handle(Future.succeededFuture(PostManualblocksResponse.respond201WithApplicationJson(manualblock,
+                                                PostManualblocksResponse.headersFor201().withLocation(reply.result()))));
+                                    });
 
                                   CompletableFuture.runAsync(() -> new LogEventPublisher(vertxContext, okapiHeaders)
                                     .publishLogEvent(JsonObject.mapFrom(entity), MANUAL_BLOCK_CREATED));
@@ -254,6 +280,10 @@ public class ManualBlocksAPI implements Manualblocks {
                         MANUALBLOCKS_TABLE, criterion, deleteReply -> {
                           if (deleteReply.succeeded()) {
                             if (deleteReply.result().rowCount() == 1) {
+                              if (getByIdReply.result() != null) {
+                                ManualBlockEvaluationService.invalidate(okapiHeaders,
+                                  getByIdReply.result().getUserId());
+                              }
 
                               CompletableFuture.runAsync(() -> new LogEventPublisher(vertxContext, okapiHeaders)
                                 .publishLogEvent(JsonObject.mapFrom(getByIdReply.result()), MANUAL_BLOCK_DELETED));
@@ -339,6 +369,8 @@ public class ManualBlocksAPI implements Manualblocks {
                                                         asyncResultHandler.handle(Future.succeededFuture(
                                                                 PutManualblocksByManualblockIdResponse.respond500WithTextPlain(putReply.cause().getMessage())));
                                                     } else if (putReply.result().rowCount() == 1) {
+                                                      ManualBlockEvaluationService.invalidate(okapiHeaders,
+                                                        getReply.result().getResults().get(0).getUserId(), entity.getUserId());
                                                       CompletableFuture.runAsync(() -> new LogEventPublisher(vertxContext, okapiHeaders)
                                                         .publishLogEvent(JsonObject.mapFrom(entity), MANUAL_BLOCK_MODIFIED));
                                                         asyncResultHandler.handle(Future.succeededFuture(
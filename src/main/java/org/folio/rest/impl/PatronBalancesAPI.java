@@ -0,0 +1,118 @@
+package org.folio.rest.impl;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.folio.util.UuidUtil.isUuid;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.ws.rs.core.Response;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.jaxrs.model.PatronBalanceCollection;
+import org.folio.rest.jaxrs.model.PatronBalanceVerification;
+import org.folio.rest.jaxrs.resource.PatronBalances;
+import org.folio.rest.repository.PatronBalanceRepository;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+
+public class PatronBalancesAPI implements PatronBalances {
+  private static final Logger log = LogManager.getLogger(PatronBalancesAPI.class);
+
+  private static final int MAX_USER_IDS = 100;
+
+  @Override
+  public void getPatronBalances(List<String> userId, Map<String, String> okapiHeaders,
+    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+
+    if (userId == null || userId.isEmpty() || userId.size() > MAX_USER_IDS) {
+      asyncResultHandler.handle(succeededFuture(GetPatronBalancesResponse.respond400WithTextPlain(
+        "Between 1 and " + MAX_USER_IDS + " user IDs must be provided")));
+      return;
+    }
+
+    Optional<String> invalidUserId = userId.stream()
+      .filter(id -> !isUuid(id))
+      .findFirst();
+
+    if (invalidUserId.isPresent()) {
+      asyncResultHandler.handle(succeededFuture(GetPatronBalancesResponse.respond400WithTextPlain(
+        "Invalid user ID: " + invalidUserId.get())));
+      return;
+    }
+
+    new PatronBalanceRepository(vertxContext, okapiHeaders)
+      .getPatronBalances(userId)
+      .onComplete(result -> {
+        if (result.failed()) {
+          log.error("Failed to load patron balances", result.cause());
+          asyncResultHandler.handle(succeededFuture(
+            GetPatronBalancesResponse.respond500WithTextPlain(result.cause().getMessage())));
+          return;
+        }
+
+        asyncResultHandler.handle(succeededFuture(
+          GetPatronBalancesResponse.respond200WithApplicationJson(new PatronBalanceCollection()
+            .withPatronBalances(result.result())
+            .withTotalRecords(result.result().size()))));
+      });
+  }
+
+  @Override
+  public void getPatronBalancesByUserId(String userId, Map<String, String> okapiHeaders,
+    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+
+    if (!isUuid(userId)) {
+      asyncResultHandler.handle(succeededFuture(
+        GetPatronBalancesByUserIdResponse.respond400WithTextPlain("Invalid user ID: " + userId)));
+      return;
+    }
+
+    new PatronBalanceRepository(vertxContext, okapiHeaders)
+      .getMaintainedPatronBalance(userId)
+      .onComplete(result -> {
+        if (result.failed()) {
+          log.error("Failed to load balance of patron " + userId, result.cause());
+          asyncResultHandler.handle(succeededFuture(
+            GetPatronBalancesByUserIdResponse.respond500WithTextPlain(
+              result.cause().getMessage())));
+          return;
+        }
+
+        asyncResultHandler.handle(succeededFuture(
+          GetPatronBalancesByUserIdResponse.respond200WithApplicationJson(result.result())));
+      });
+  }
+
+  @Override
+  public void postPatronBalancesVerify(boolean repair, Map<String, String> okapiHeaders,
+    Handler<AsyncResult<Response>> asyncResultHandler, Context vertxContext) {
+
+    new PatronBalanceRepository(vertxContext, okapiHeaders)
+      .verifyPatronBalances(repair)
+      .onComplete(result -> {
+        if (result.failed()) {
+          log.error("Failed to verify patron balances", result.cause());
+          asyncResultHandler.handle(succeededFuture(
+            PostPatronBalancesVerifyResponse.respond500WithTextPlain(
+              result.cause().getMessage())));
+          return;
+        }
+
+        if (result.result() > 0) {
+          log.warn("Maintained balances of {} patrons did not match their accounts, repair={}",
+            result.result(), repair);
+        }
+
+        asyncResultHandler.handle(succeededFuture(
+          PostPatronBalancesVerifyResponse.respond200WithApplicationJson(
+            new PatronBalanceVerification()
+              .withDriftedCount(result.result())
+              .withRepaired(repair && result.result() > 0))));
+      });
+  }
+}
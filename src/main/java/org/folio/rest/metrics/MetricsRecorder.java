@@ -0,0 +1,230 @@
+package org.folio.rest.metrics;
+
+import static io.vertx.core.Future.failedFuture;
+import static org.apache.commons.lang3.StringUtils.defaultString;
+
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.folio.rest.cache.AsyncCache;
+import org.folio.rest.client.CircuitBreaker;
+import org.folio.rest.client.OkapiClient;
+import org.folio.rest.service.AccountArchivalService;
+import org.folio.rest.service.ManualBlockExpirationService;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.LongTaskTimer;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+/**
+ * Module-wide registry of timers, counters and gauges exposed in the Prometheus text format by
+ * {@code GET /fee-fine-metrics}. Every timed call is recorded by a timer tagged with its
+ * outcome and by a long task timer whose active task count is the number of calls in progress.
+ * Tenant-specific meters are tagged with the tenant.
+ */
+public class MetricsRecorder {
+  private static final String TENANT_TAG = "tenant";
+  private static final String OUTCOME_TAG = "outcome";
+  private static final String OUTCOME_SUCCESS = "success";
+  private static final String OUTCOME_FAILURE = "failure";
+  private static final Pattern UUID_SEGMENT = Pattern.compile(
+    "/[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}(?=/|$)");
+
+  private static final PrometheusMeterRegistry registry =
+    new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+
+  static {
+    bindModuleCounters();
+  }
+
+  private MetricsRecorder() {
+  }
+
+  public static String scrape() {
+    return registry.scrape();
+  }
+
+  /**
+   * Times a whole fee/fine action (pay, waive, transfer, refund, cancel).
+   */
+  public static <T> Future<T> timeAction(String action, String tenantId,
+    Supplier<Future<T>> call) {
+
+    return time("feesfines.action", Tags.of("action", action, TENANT_TAG, tenant(tenantId)),
+      call);
+  }
+
+  /**
+   * Times a single stage of a fee/fine action, see ActionService.
+   */
+  public static <T> Future<T> timeActionStage(String action, String stage, String tenantId,
+    Supplier<Future<T>> call) {
+
+    return time("feesfines.action.stage",
+      Tags.of("action", action, "stage", stage, TENANT_TAG, tenant(tenantId)), call);
+  }
+
+  public static <T> Future<T> timeReport(String report, String tenantId,
+    Supplier<Future<T>> call) {
+
+    return time("feesfines.report", Tags.of("report", report, TENANT_TAG, tenant(tenantId)),
+      call);
+  }
+
+  /**
+   * Creates a promise for the result of a database query of a repository, the time until the
+   * promise is completed is recorded. {@code query} is the name of the repository method.
+   */
+  public static <T> Promise<T> queryPromise(Class<?> repository, String query,
+    String tenantId) {
+
+    Promise<T> promise = Promise.promise();
+    time("feesfines.db.query", Tags.of("repository", repository.getSimpleName(),
+      "query", query, TENANT_TAG, tenant(tenantId)), promise::future);
+
+    return promise;
+  }
+
+  /**
+   * Same as {@link #queryPromise(Class, String, String)}, the time is also recorded as database
+   * time of the request.
+   */
+  public static <T> Promise<T> queryPromise(Class<?> repository, String query, String tenantId,
+    ServerTiming serverTiming) {
+
+    Promise<T> promise = queryPromise(repository, query, tenantId);
+    serverTiming.time(ServerTiming.Phase.DB, promise::future);
+
+    return promise;
+  }
+
+  /**
+   * Times a request to another module. IDs in the path are replaced with {@code {id}} so that
+   * all requests for a single endpoint share a timer.
+   */
+  public static <T> Future<T> timeDownstreamRequest(String downstream, String method,
+    String uri, String tenantId, Supplier<Future<T>> call) {
+
+    return time("feesfines.downstream.request", Tags.of("downstream", downstream,
+      "method", method, "endpoint", endpoint(uri), TENANT_TAG, tenant(tenantId)), call);
+  }
+
+  public static void bindCircuitBreaker(CircuitBreaker circuitBreaker) {
+    Tags tags = Tags.of("downstream", circuitBreaker.getName());
+
+    Gauge.builder("feesfines.circuit.breaker.state", circuitBreaker,
+      breaker -> breaker.getState().ordinal())
+      .description("0 - closed, 1 - open, 2 - half open")
+      .tags(tags)
+      .register(registry);
+    Gauge.builder("feesfines.circuit.breaker.active.requests", circuitBreaker,
+      CircuitBreaker::getActiveRequests)
+      .tags(tags)
+      .register(registry);
+    FunctionCounter.builder("feesfines.circuit.breaker.rejected.requests", circuitBreaker,
+      CircuitBreaker::getRejectedRequests)
+      .tags(tags)
+      .register(registry);
+    FunctionCounter.builder("feesfines.circuit.breaker.failed.requests", circuitBreaker,
+      CircuitBreaker::getFailedRequests)
+      .tags(tags)
+      .register(registry);
+  }
+
+  public static void bindCache(String name, String tenantId, AsyncCache<?> cache) {
+    Tags tags = Tags.of("cache", name, TENANT_TAG, tenant(tenantId));
+
+    Gauge.builder("feesfines.cache.size", cache, AsyncCache::size)
+      .tags(tags)
+      .register(registry);
+    FunctionCounter.builder("feesfines.cache.hits", cache, AsyncCache::getHitCount)
+      .tags(tags)
+      .register(registry);
+    FunctionCounter.builder("feesfines.cache.misses", cache, AsyncCache::getMissCount)
+      .tags(tags)
+      .register(registry);
+  }
+
+  private static void bindModuleCounters() {
+    FunctionCounter.builder("feesfines.downstream.get.by.id.requests", OkapiClient.class,
+      ignored -> OkapiClient.getGetByIdRequestsCount())
+      .register(registry);
+    FunctionCounter.builder("feesfines.downstream.get.by.id.coalesced", OkapiClient.class,
+      ignored -> OkapiClient.getCoalescedGetByIdRequestsCount())
+      .register(registry);
+
+    FunctionCounter.builder("feesfines.manual.block.expiration.runs",
+      ManualBlockExpirationService.class,
+      ignored -> ManualBlockExpirationService.getRunCount())
+      .register(registry);
+    FunctionCounter.builder("feesfines.manual.block.expiration.failed.runs",
+      ManualBlockExpirationService.class,
+      ignored -> ManualBlockExpirationService.getFailedRunCount())
+      .register(registry);
+    FunctionCounter.builder("feesfines.manual.block.expiration.deleted.blocks",
+      ManualBlockExpirationService.class,
+      ignored -> ManualBlockExpirationService.getDeletedBlockCount())
+      .register(registry);
+    Gauge.builder("feesfines.manual.block.expiration.last.run.duration.ms",
+      ManualBlockExpirationService.class,
+      ignored -> ManualBlockExpirationService.getLastRunDurationMs())
+      .register(registry);
+
+    FunctionCounter.builder("feesfines.account.archival.runs", AccountArchivalService.class,
+      ignored -> AccountArchivalService.getRunCount())
+      .register(registry);
+    FunctionCounter.builder("feesfines.account.archival.failed.runs",
+      AccountArchivalService.class, ignored -> AccountArchivalService.getFailedRunCount())
+      .register(registry);
+    FunctionCounter.builder("feesfines.account.archival.archived.accounts",
+      AccountArchivalService.class, ignored -> AccountArchivalService.getArchivedAccountCount())
+      .register(registry);
+    Gauge.builder("feesfines.account.archival.last.run.duration.ms",
+      AccountArchivalService.class, ignored -> AccountArchivalService.getLastRunDurationMs())
+      .register(registry);
+  }
+
+  private static <T> Future<T> time(String name, Tags tags, Supplier<Future<T>> call) {
+    final Timer.Sample sample = Timer.start(registry);
+    final LongTaskTimer.Sample active = LongTaskTimer.builder(name + ".active")
+      .tags(tags)
+      .register(registry)
+      .start();
+
+    Future<T> result;
+    try {
+      result = call.get();
+    } catch (Exception e) {
+      result = failedFuture(e);
+    }
+
+    return result.onComplete(ar -> {
+      active.stop();
+      sample.stop(Timer.builder(name)
+        .tags(tags)
+        .tag(OUTCOME_TAG, ar.succeeded() ? OUTCOME_SUCCESS : OUTCOME_FAILURE)
+        .register(registry));
+    });
+  }
+
+  static String endpoint(String uri) {
+    String path = defaultString(uri);
+    int queryStart = path.indexOf('?');
+
+    if (queryStart >= 0) {
+      path = path.substring(0, queryStart);
+    }
+
+    return UUID_SEGMENT.matcher(path).replaceAll("/{id}");
+  }
+
+  private static String tenant(String tenantId) {
+    return defaultString(tenantId);
+  }
+}
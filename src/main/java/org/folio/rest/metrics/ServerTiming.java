@@ -0,0 +1,165 @@
+package org.folio.rest.metrics;
+
+import static io.vertx.core.Future.failedFuture;
+import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import javax.ws.rs.core.Response;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+
+/**
+ * Request-scoped breakdown of where the time of a request went, returned in the
+ * {@code Server-Timing} response header when the request has the
+ * {@code X-Okapi-Server-Timing: true} header.
+ * <p>
+ * A recorder is started by the API method and registered under a key which is added to the
+ * Okapi headers of the request, so that services, repositories and clients created with these
+ * headers record into it. Durations of calls of the same phase are summed up, so phases of
+ * concurrent calls may add up to more than the total time.
+ */
+public class ServerTiming {
+  public static final String ENABLE_HEADER = "x-okapi-server-timing";
+  public static final String SERVER_TIMING_HEADER = "Server-Timing";
+  // internal header holding the key of the recorder of the request
+  static final String KEY_HEADER = "x-okapi-server-timing-key";
+
+  public static final ServerTiming DISABLED = new ServerTiming(null);
+
+  private static final Map<String, ServerTiming> activeRecorders = new ConcurrentHashMap<>();
+
+  public enum Phase {
+    DB, DOWNSTREAM, VALIDATION, EVENTS
+  }
+
+  private final String key;
+  private final long startTime = System.nanoTime();
+  private final AtomicLong[] durations = newCounters();
+  private final AtomicLong[] counts = newCounters();
+
+  private ServerTiming(String key) {
+    this.key = key;
+  }
+
+  /**
+   * Starts a recorder for the request if it asked for the header, returns {@link #DISABLED}
+   * otherwise.
+   */
+  public static ServerTiming start(Map<String, String> okapiHeaders) {
+    if (!Boolean.parseBoolean(getHeader(okapiHeaders, ENABLE_HEADER))) {
+      return DISABLED;
+    }
+
+    ServerTiming serverTiming = new ServerTiming(UUID.randomUUID().toString());
+    activeRecorders.put(serverTiming.key, serverTiming);
+    okapiHeaders.put(KEY_HEADER, serverTiming.key);
+
+    return serverTiming;
+  }
+
+  /**
+   * Returns the recorder started for the request with these headers, or {@link #DISABLED}.
+   */
+  public static ServerTiming of(Map<String, String> okapiHeaders) {
+    String key = okapiHeaders == null ? null : okapiHeaders.get(KEY_HEADER);
+
+    return key == null ? DISABLED : activeRecorders.getOrDefault(key, DISABLED);
+  }
+
+  public <T> Future<T> time(Phase phase, Supplier<Future<T>> call) {
+    if (this == DISABLED) {
+      return call.get();
+    }
+
+    final long callStartTime = System.nanoTime();
+
+    Future<T> result;
+    try {
+      result = call.get();
+    } catch (Exception e) {
+      result = failedFuture(e);
+    }
+
+    return result.onComplete(ar -> {
+      durations[phase.ordinal()].addAndGet(System.nanoTime() - callStartTime);
+      counts[phase.ordinal()].incrementAndGet();
+    });
+  }
+
+  /**
+   * Summed up duration of all calls of the phase recorded so far.
+   */
+  public long getDurationNanos(Phase phase) {
+    return durations[phase.ordinal()].get();
+  }
+
+  /**
+   * Discards the recorder, calls made afterwards with the same headers are not recorded.
+   */
+  public void finish() {
+    if (this != DISABLED) {
+      activeRecorders.remove(key);
+    }
+  }
+
+  /**
+   * Adds the {@code Server-Timing} header to the response passed to {@code handler} and
+   * discards the recorder.
+   */
+  public Handler<AsyncResult<Response>> wrap(Handler<AsyncResult<Response>> handler) {
+    if (this == DISABLED) {
+      return handler;
+    }
+
+    return result -> {
+      finish();
+
+      if (result.succeeded() && result.result() != null) {
+        result.result().getHeaders().add(SERVER_TIMING_HEADER, toHeaderValue());
+      }
+
+      handler.handle(result);
+    };
+  }
+
+  String toHeaderValue() {
+    String phases = Arrays.stream(Phase.values())
+      .filter(phase -> counts[phase.ordinal()].get() > 0)
+      .map(phase -> format(Locale.US, "%s;dur=%.1f;desc=\"%d calls\"",
+        phase.name().toLowerCase(), toMillis(durations[phase.ordinal()].get()),
+        counts[phase.ordinal()].get()))
+      .collect(joining(", "));
+
+    String total = format(Locale.US, "total;dur=%.1f", toMillis(System.nanoTime() - startTime));
+
+    return phases.isEmpty() ? total : phases + ", " + total;
+  }
+
+  private static double toMillis(long nanos) {
+    return nanos / 1_000_000.0;
+  }
+
+  private static String getHeader(Map<String, String> okapiHeaders, String name) {
+    return okapiHeaders.entrySet().stream()
+      .filter(header -> name.equalsIgnoreCase(header.getKey()))
+      .map(Map.Entry::getValue)
+      .findFirst()
+      .orElse(null);
+  }
+
+  private static AtomicLong[] newCounters() {
+    AtomicLong[] counters = new AtomicLong[Phase.values().length];
+    Arrays.setAll(counters, index -> new AtomicLong());
+    return counters;
+  }
+}
@@ -0,0 +1,155 @@
+package org.folio.rest.repository;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+import static java.lang.String.format;
+import static org.folio.rest.metrics.MetricsRecorder.queryPromise;
+import static org.folio.rest.utils.CqlHelper.exactMatchAny;
+import static org.folio.rest.utils.CqlHelper.toSqlCondition;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.folio.rest.jaxrs.model.AccountArchivalResult;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.persist.SQLConnection;
+import org.folio.rest.tools.utils.TenantTool;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+
+public class AccountArchiveRepository {
+  private static final String ACCOUNTS_TABLE = "accounts";
+  private static final String ACCOUNTS_ARCHIVE_TABLE = "accounts_archive";
+  private static final String ACTIONS_TABLE = "feefineactions";
+  private static final String ACTIONS_ARCHIVE_TABLE = "feefineactions_archive";
+  // views joining the hot tables with the archive tables, see account-archive.sql
+  public static final String ALL_ACCOUNTS_VIEW = "all_accounts";
+  public static final String ALL_ACTIONS_VIEW = "all_feefineactions";
+
+  private final PostgresClient pgClient;
+  private final String tenantId;
+
+  public AccountArchiveRepository(Context context, Map<String, String> headers) {
+    tenantId = TenantTool.tenantId(headers);
+    pgClient = PostgresClient.getInstance(context.owner(), tenantId);
+  }
+
+  public static String accountsTable(boolean includeArchived) {
+    return includeArchived ? ALL_ACCOUNTS_VIEW : ACCOUNTS_TABLE;
+  }
+
+  public static String actionsTable(boolean includeArchived) {
+    return includeArchived ? ALL_ACTIONS_VIEW : ACTIONS_TABLE;
+  }
+
+  /**
+   * Moves at most {@code limit} closed accounts with nothing remaining which were last updated
+   * before {@code closedBefore}, together with their actions, to the archive tables in a single
+   * transaction. Accounts locked by other transactions are skipped.
+   */
+  public Future<AccountArchivalResult> archiveClosedAccounts(Instant closedBefore, int limit) {
+    Promise<AccountArchivalResult> promise =
+      queryPromise(AccountArchiveRepository.class, "archiveClosedAccounts", tenantId);
+
+    pgClient.startTx(beginTx -> {
+      if (beginTx.failed()) {
+        promise.fail(beginTx.cause());
+        return;
+      }
+
+      markArchiving(beginTx)
+        .compose(ignored -> moveAccounts(beginTx, closedBefore, limit))
+        .compose(accountIds -> moveActions(beginTx, accountIds)
+          .map(actionCount -> new AccountArchivalResult()
+            .withArchivedAccountCount(accountIds.size())
+            .withArchivedActionCount(actionCount)))
+        .onSuccess(result -> pgClient.endTx(beginTx, done -> {
+          if (done.failed()) {
+            promise.fail(done.cause());
+          } else {
+            promise.complete(result);
+          }
+        }))
+        .onFailure(throwable -> pgClient.rollbackTx(beginTx,
+          rollback -> promise.fail(throwable)));
+    });
+
+    return promise.future();
+  }
+
+  /**
+   * Makes the change feed report the deletes of this transaction as archival rather than as
+   * deletion, see fee-fine-changes.sql.
+   */
+  private Future<Void> markArchiving(AsyncResult<SQLConnection> connection) {
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.execute(connection, "SELECT set_config('feesfines.archiving', 'on', true)",
+      promise);
+
+    return promise.future().mapEmpty();
+  }
+
+  private Future<List<String>> moveAccounts(AsyncResult<SQLConnection> connection,
+    Instant closedBefore, int limit) {
+
+    String query = format(
+      "WITH moved AS (" +
+        "DELETE FROM %1$s.%2$s WHERE id IN (" +
+          "SELECT id FROM %1$s.%2$s " +
+          "WHERE jsonb->'status'->>'name' = 'Closed' " +
+          "AND coalesce((jsonb->>'remaining')::numeric, 0) = 0 " +
+          "AND (jsonb->'metadata'->>'updatedDate')::timestamptz < '%3$s'::timestamptz " +
+          "LIMIT %4$d FOR UPDATE SKIP LOCKED) " +
+        "RETURNING id, jsonb) " +
+      "INSERT INTO %1$s.%5$s (id, jsonb) SELECT id, jsonb FROM moved " +
+      "ON CONFLICT (id) DO UPDATE SET jsonb = EXCLUDED.jsonb, archived_date = now() " +
+      "RETURNING id",
+      PostgresClient.convertToPsqlStandard(tenantId), ACCOUNTS_TABLE, closedBefore, limit,
+      ACCOUNTS_ARCHIVE_TABLE);
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.execute(connection, query, promise);
+
+    return promise.future().map(rows -> {
+      List<String> accountIds = new ArrayList<>();
+      rows.forEach(row -> accountIds.add(row.getValue(0).toString()));
+      return accountIds;
+    });
+  }
+
+  private Future<Integer> moveActions(AsyncResult<SQLConnection> connection,
+    List<String> accountIds) {
+
+    if (accountIds.isEmpty()) {
+      return succeededFuture(0);
+    }
+
+    final String accountIdCondition;
+
+    try {
+      accountIdCondition = toSqlCondition(ACTIONS_TABLE, exactMatchAny("accountId", accountIds));
+    } catch (Exception e) {
+      return failedFuture(e);
+    }
+
+    String query = format(
+      "WITH moved AS (" +
+        "DELETE FROM %1$s.%2$s WHERE %3$s RETURNING id, jsonb) " +
+      "INSERT INTO %1$s.%4$s (id, jsonb) SELECT id, jsonb FROM moved " +
+      "ON CONFLICT (id) DO UPDATE SET jsonb = EXCLUDED.jsonb, archived_date = now()",
+      PostgresClient.convertToPsqlStandard(tenantId), ACTIONS_TABLE, accountIdCondition,
+      ACTIONS_ARCHIVE_TABLE);
+
+    Promise<RowSet<Row>> promise = Promise.promise();
+    pgClient.execute(connection, query, promise);
+
+    return promise.future().map(RowSet::rowCount);
+  }
+}
@@ -1,5 +1,7 @@
 package org.folio.rest.repository;
 
+import static org.folio.rest.metrics.MetricsRecorder.queryPromise;
+
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -8,6 +10,7 @@ import java.util.Optional;
 import org.folio.rest.domain.FeeFineNoticeContext;
 import org.folio.rest.jaxrs.model.Account;
 import org.folio.rest.jaxrs.model.Feefineaction;
+import org.folio.rest.metrics.ServerTiming;
 import org.folio.rest.persist.PostgresClient;
 import org.folio.rest.tools.utils.TenantTool;
 
@@ -21,13 +24,38 @@ import io.vertx.sqlclient.RowSet;
 public class AccountRepository {
   private static final String ACCOUNTS_TABLE = "accounts";
   private final PostgresClient pgClient;
+  private final String readTable;
+  private final ServerTiming serverTiming;
 
   public AccountRepository(PostgresClient pgClient) {
-    this.pgClient = pgClient;
+    this(pgClient, false);
+  }
+
+  /**
+   * @param includeArchived whether reads also return archived accounts, updates always go to
+   *                        the hot table
+   */
+  public AccountRepository(PostgresClient pgClient, boolean includeArchived) {
+    this(pgClient, includeArchived, ServerTiming.DISABLED);
   }
 
   public AccountRepository(Context context, Map<String, String> headers) {
-    this(PostgresClient.getInstance(context.owner(), TenantTool.tenantId(headers)));
+    this(context, headers, false);
+  }
+
+  public AccountRepository(Context context, Map<String, String> headers,
+    boolean includeArchived) {
+
+    this(PostgresClient.getInstance(context.owner(), TenantTool.tenantId(headers)),
+      includeArchived, ServerTiming.of(headers));
+  }
+
+  private AccountRepository(PostgresClient pgClient, boolean includeArchived,
+    ServerTiming serverTiming) {
+
+    this.pgClient = pgClient;
+    this.readTable = AccountArchiveRepository.accountsTable(includeArchived);
+    this.serverTiming = serverTiming;
   }
 
   public Future<FeeFineNoticeContext> loadAccount(FeeFineNoticeContext context) {
@@ -43,14 +71,17 @@ public class AccountRepository {
   }
 
   public Future<Account> getAccountById(String accountId) {
-    Promise<Account> promise = Promise.promise();
-    pgClient.getById(ACCOUNTS_TABLE, accountId, Account.class, promise);
+    Promise<Account> promise =
+      queryPromise(AccountRepository.class, "getAccountById", pgClient.getTenantId(), serverTiming);
+    pgClient.getById(readTable, accountId, Account.class, promise);
     return promise.future();
   }
 
   public Future<Map<String, Account>> getAccountsById(List<String> accountIds) {
-    Promise<Map<String, Account>> promise = Promise.promise();
-    pgClient.getById(ACCOUNTS_TABLE, new JsonArray(accountIds), Account.class, promise);
+    Promise<Map<String, Account>> promise =
+      queryPromise(AccountRepository.class, "getAccountsById", pgClient.getTenantId(),
+      serverTiming);
+    pgClient.getById(readTable, new JsonArray(accountIds), Account.class, promise);
     return promise.future();
   }
 
@@ -62,8 +93,27 @@ public class AccountRepository {
       );
   }
 
+  public Future<Account> save(Account account) {
+    Promise<String> promise =
+      queryPromise(AccountRepository.class, "save", pgClient.getTenantId(), serverTiming);
+    pgClient.save(ACCOUNTS_TABLE, account.getId(), account, promise);
+    return promise.future().map(account);
+  }
+
+  /**
+   * Inserts all accounts with a single batched statement, fails as a whole when any of the
+   * accounts cannot be inserted.
+   */
+  public Future<List<Account>> saveBatch(List<Account> accounts) {
+    Promise<RowSet<Row>> promise =
+      queryPromise(AccountRepository.class, "saveBatch", pgClient.getTenantId(), serverTiming);
+    pgClient.saveBatch(ACCOUNTS_TABLE, accounts, promise);
+    return promise.future().map(accounts);
+  }
+
   public Future<Account> update(Account account) {
-    Promise<RowSet<Row>> promise = Promise.promise();
+    Promise<RowSet<Row>> promise =
+      queryPromise(AccountRepository.class, "update", pgClient.getTenantId(), serverTiming);
     pgClient.update(ACCOUNTS_TABLE, account, account.getId(), promise);
     return promise.future().map(account);
   }
@@ -6,6 +6,7 @@ import static java.lang.String.join;
 import static java.util.stream.Collectors.toList;
 import static org.folio.rest.domain.Action.PAY;
 import static org.folio.rest.domain.Action.TRANSFER;
+import static org.folio.rest.metrics.MetricsRecorder.queryPromise;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -17,6 +18,7 @@ import java.util.stream.Collectors;
 import org.folio.rest.domain.Action;
 import org.folio.rest.jaxrs.model.Account;
 import org.folio.rest.jaxrs.model.Feefineaction;
+import org.folio.rest.metrics.ServerTiming;
 import org.folio.rest.persist.Criteria.Criteria;
 import org.folio.rest.persist.Criteria.Criterion;
 import org.folio.rest.persist.Criteria.GroupedCriterias;
@@ -37,7 +39,6 @@ import io.vertx.sqlclient.Tuple;
 
 public class FeeFineActionRepository {
   private static final String ACTIONS_TABLE = "feefineactions";
-  private static final String ACCOUNTS_TABLE = "accounts";
   public static final String ACTIONS_TABLE_ALIAS = "actions";
   private static final String ACCOUNTS_TABLE_ALIAS = "accounts";
   private static final String DATE_FIELD = "dateAction";
@@ -52,16 +53,35 @@ public class FeeFineActionRepository {
     "actions.jsonb->>'source' ASC, actions.jsonb->>'dateAction' ASC";
 
   private final PostgresClient pgClient;
+  private final ReportingDataSource reportingDataSource;
   private final String tenantId;
+  private final String actionsReadTable;
+  private final String accountsReadTable;
+  private final ServerTiming serverTiming;
 
   public FeeFineActionRepository(Map<String, String> headers, Context context) {
+    this(headers, context, false);
+  }
+
+  /**
+   * @param includeArchived whether reads also return archived actions and accounts, writes
+   *                        always go to the hot tables
+   */
+  public FeeFineActionRepository(Map<String, String> headers, Context context,
+    boolean includeArchived) {
+
     pgClient = PostgresClient.getInstance(context.owner(), TenantTool.tenantId(headers));
     tenantId = TenantTool.tenantId(headers);
+    reportingDataSource = ReportingDataSource.getInstance(context.owner(), tenantId);
+    actionsReadTable = AccountArchiveRepository.actionsTable(includeArchived);
+    accountsReadTable = AccountArchiveRepository.accountsTable(includeArchived);
+    serverTiming = ServerTiming.of(headers);
   }
 
   public Future<List<Feefineaction>> get(Criterion criterion) {
-    Promise<Results<Feefineaction>> promise = Promise.promise();
-    pgClient.get(ACTIONS_TABLE, Feefineaction.class, criterion, true, promise);
+    Promise<Results<Feefineaction>> promise =
+      queryPromise(FeeFineActionRepository.class, "get", tenantId, serverTiming);
+    pgClient.get(actionsReadTable, Feefineaction.class, criterion, true, promise);
     return promise.future().map(Results::getResults);
   }
 
@@ -75,8 +95,9 @@ public class FeeFineActionRepository {
       .setOperation("=")
       .setVal(accountId));
 
-    Promise<Results<Feefineaction>> promise = Promise.promise();
-    pgClient.get(ACTIONS_TABLE, Feefineaction.class, criterion, false, promise);
+    Promise<Results<Feefineaction>> promise =
+      queryPromise(FeeFineActionRepository.class, "findActionsForAccount", tenantId, serverTiming);
+    pgClient.get(actionsReadTable, Feefineaction.class, criterion, false, promise);
 
     return promise.future()
       .map(Results::getResults);
@@ -101,8 +122,10 @@ public class FeeFineActionRepository {
       .setVal(accountId))
       .addGroupOfCriterias(typeCriterias);
 
-    Promise<Results<Feefineaction>> promise = Promise.promise();
-    pgClient.get(ACTIONS_TABLE, Feefineaction.class, criterion, false, promise);
+    Promise<Results<Feefineaction>> promise =
+      queryPromise(FeeFineActionRepository.class, "findActionsOfTypesForAccount", tenantId,
+      serverTiming);
+    pgClient.get(actionsReadTable, Feefineaction.class, criterion, false, promise);
 
     return promise.future()
       .map(Results::getResults);
@@ -125,8 +148,10 @@ public class FeeFineActionRepository {
       .addGroupOfCriterias(accountIdsCriterias)
       .setLimit(new Limit(ACTIONS_LIMIT));
 
-    Promise<Results<Feefineaction>> promise = Promise.promise();
-    pgClient.get(ACTIONS_TABLE, Feefineaction.class, criterion, false, promise);
+    Promise<Results<Feefineaction>> promise =
+      queryPromise(FeeFineActionRepository.class, "findRefundableActionsForAccounts", tenantId,
+      serverTiming);
+    pgClient.get(actionsReadTable, Feefineaction.class, criterion, false, promise);
 
     return promise.future()
       .map(Results::getResults);
@@ -150,6 +175,9 @@ public class FeeFineActionRepository {
       .map(ArrayList::new);
   }
 
+  /**
+   * Report query, runs on the {@link ReportingDataSource} like {@link #findSources}.
+   */
   public Future<Map<Feefineaction, Account>> findFeeFineActionsAndAccounts(
     Action typeAction, String startDate, String endDate, List<String> ownerIds, String createdAt,
     List<String> sources, String orderBy, int limit) {
@@ -161,16 +189,7 @@ public class FeeFineActionRepository {
     params.addString(typeAction.getPartialResult());
     conditions.add(format("%s.jsonb->>'%s' IN ($2, $3)", ACTIONS_TABLE_ALIAS, TYPE_FIELD));
 
-    if (startDate != null) {
-      params.addString(startDate);
-      conditions.add(format("%s.jsonb->>'%s' >= $%d", ACTIONS_TABLE_ALIAS, DATE_FIELD,
-        params.size()));
-    }
-    if (endDate != null) {
-      params.addString(endDate);
-      conditions.add(format("%s.jsonb->>'%s' < $%d", ACTIONS_TABLE_ALIAS, DATE_FIELD,
-        params.size()));
-    }
+    addDateRangeConditions(conditions, params, startDate, endDate);
     if (createdAt != null) {
       params.addString(createdAt);
       conditions.add(format("%s.jsonb->>'%s' = $%d", ACTIONS_TABLE_ALIAS, CREATED_AT_FIELD,
@@ -187,12 +206,14 @@ public class FeeFineActionRepository {
         "ORDER BY %6$s " +
         "LIMIT $1",
       PostgresClient.convertToPsqlStandard(tenantId),
-      ACTIONS_TABLE, ACTIONS_TABLE_ALIAS,
-      ACCOUNTS_TABLE, ACCOUNTS_TABLE_ALIAS,
+      actionsReadTable, ACTIONS_TABLE_ALIAS,
+      accountsReadTable, ACCOUNTS_TABLE_ALIAS,
       orderBy);
 
-    Promise<RowSet<Row>> promise = Promise.promise();
-    pgClient.select(query, params, promise);
+    Promise<RowSet<Row>> promise =
+      queryPromise(FeeFineActionRepository.class, "findFeeFineActionsAndAccounts", tenantId,
+      serverTiming);
+    reportingDataSource.select(query, params, promise);
 
     return promise.future().map(this::mapToFeeFineActionsAndAccounts);
   }
@@ -216,14 +237,35 @@ public class FeeFineActionRepository {
         "FROM %1$s.%2$s %3$s " +
         "WHERE " + join(" AND ", conditions) + " " +
         "LIMIT $1",
-      PostgresClient.convertToPsqlStandard(tenantId), ACTIONS_TABLE, ACTIONS_TABLE_ALIAS);
+      PostgresClient.convertToPsqlStandard(tenantId), actionsReadTable, ACTIONS_TABLE_ALIAS);
 
-    Promise<RowSet<Row>> promise = Promise.promise();
-    pgClient.select(query, params, promise);
+    Promise<RowSet<Row>> promise =
+      queryPromise(FeeFineActionRepository.class, "findSources", tenantId, serverTiming);
+    reportingDataSource.select(query, params, promise);
 
     return promise.future().map(this::mapToListOfStrings);
   }
 
+  /**
+   * Date range is compared as plain text on the same expression as the block range index
+   * on feefineactions (see feefineactions-date-action-index.sql), so that the planner reads
+   * only the blocks which can contain actions from the requested period.
+   */
+  private void addDateRangeConditions(List<String> conditions, Tuple params, String startDate,
+    String endDate) {
+
+    if (startDate != null) {
+      params.addString(startDate);
+      conditions.add(format("%s.jsonb->>'%s' >= $%d", ACTIONS_TABLE_ALIAS, DATE_FIELD,
+        params.size()));
+    }
+    if (endDate != null) {
+      params.addString(endDate);
+      conditions.add(format("%s.jsonb->>'%s' < $%d", ACTIONS_TABLE_ALIAS, DATE_FIELD,
+        params.size()));
+    }
+  }
+
   private void addFilterByListToConditions(List<String> conditions, String tableName,
     String fieldName, List<String> valueList) {
 
@@ -238,12 +280,25 @@ public class FeeFineActionRepository {
   }
 
   public Future<Feefineaction> save(Feefineaction feefineaction) {
-    Promise<String> promise = Promise.promise();
+    Promise<String> promise =
+      queryPromise(FeeFineActionRepository.class, "save", tenantId, serverTiming);
     pgClient.save(ACTIONS_TABLE, feefineaction.getId(), feefineaction, promise);
 
     return promise.future().map(feefineaction);
   }
 
+  /**
+   * Inserts all actions with a single batched statement, fails as a whole when any of the
+   * actions cannot be inserted.
+   */
+  public Future<List<Feefineaction>> saveBatch(List<Feefineaction> feefineactions) {
+    Promise<RowSet<Row>> promise =
+      queryPromise(FeeFineActionRepository.class, "saveBatch", tenantId, serverTiming);
+    pgClient.saveBatch(ACTIONS_TABLE, feefineactions, promise);
+
+    return promise.future().map(feefineactions);
+  }
+
   private List<Criteria> getTypeCriterias(List<Action> actions) {
     return actions.stream()
       .map(action -> List.of(
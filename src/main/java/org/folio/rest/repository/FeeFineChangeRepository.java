@@ -0,0 +1,114 @@
+package org.folio.rest.repository;
+
+import static java.lang.String.format;
+import static org.folio.rest.metrics.MetricsRecorder.queryPromise;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.folio.rest.domain.ChangeToken;
+import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.FeeFineChange;
+import org.folio.rest.jaxrs.model.FeeFineChangeCollection;
+import org.folio.rest.jaxrs.model.Feefineaction;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.tools.utils.TenantTool;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+
+public class FeeFineChangeRepository {
+  private static final String CHANGES_TABLE = "fee_fine_changes";
+  private static final String ACCOUNTS_TABLE = "accounts";
+  private static final String ACTIONS_TABLE = "feefineactions";
+
+  private final PostgresClient pgClient;
+  private final String tenantId;
+
+  public FeeFineChangeRepository(Context context, Map<String, String> headers) {
+    tenantId = TenantTool.tenantId(headers);
+    pgClient = PostgresClient.getInstance(context.owner(), tenantId);
+  }
+
+  /**
+   * Loads at most {@code limit} changes following {@code after}, see fee-fine-changes.sql.
+   * Changes of transactions which may still be running are held back, so a batch never skips
+   * a change that commits later. When there are no new changes the returned next token is
+   * {@code after}.
+   */
+  public Future<FeeFineChangeCollection> getChanges(ChangeToken after, int limit) {
+    String query = format(
+      "SELECT c.txid, c.seq, c.record_type, c.record_id, c.operation, c.changed_date, " +
+        "a.jsonb, f.jsonb " +
+        "FROM %1$s.%2$s c " +
+        "LEFT JOIN %1$s.%3$s a ON c.record_type = 'account' AND a.id = c.record_id " +
+        "LEFT JOIN %1$s.%4$s f ON c.record_type = 'feefineaction' AND f.id = c.record_id " +
+        "WHERE (c.txid, c.seq) > ($1, $2) " +
+        "AND c.txid < txid_snapshot_xmin(txid_current_snapshot()) " +
+        "ORDER BY c.txid, c.seq " +
+        "LIMIT $3",
+      PostgresClient.convertToPsqlStandard(tenantId), CHANGES_TABLE, ACCOUNTS_TABLE,
+      ACTIONS_TABLE);
+
+    Promise<RowSet<Row>> promise =
+      queryPromise(FeeFineChangeRepository.class, "getChanges", tenantId);
+    pgClient.select(query, Tuple.of(after.getTxid(), after.getSeq(), limit), promise);
+
+    return promise.future().map(rows -> {
+      List<FeeFineChange> changes = new ArrayList<>();
+      ChangeToken nextToken = after;
+
+      for (Row row : rows) {
+        nextToken = new ChangeToken(row.getLong(0), row.getLong(1));
+        changes.add(mapToChange(row, nextToken));
+      }
+
+      return new FeeFineChangeCollection()
+        .withChanges(changes)
+        .withNextToken(nextToken.toString());
+    });
+  }
+
+  /**
+   * Deletes at most {@code limit} changes recorded before {@code changedBefore} and returns the
+   * number of deleted changes.
+   */
+  public Future<Integer> deleteChangesBefore(Instant changedBefore, int limit) {
+    String query = format(
+      "DELETE FROM %1$s.%2$s WHERE seq IN (" +
+        "SELECT seq FROM %1$s.%2$s " +
+        "WHERE changed_date < '%3$s'::timestamptz " +
+        "LIMIT %4$d)",
+      PostgresClient.convertToPsqlStandard(tenantId), CHANGES_TABLE, changedBefore, limit);
+
+    Promise<RowSet<Row>> promise =
+      queryPromise(FeeFineChangeRepository.class, "deleteChangesBefore", tenantId);
+    pgClient.execute(query, promise);
+
+    return promise.future().map(RowSet::rowCount);
+  }
+
+  private static FeeFineChange mapToChange(Row row, ChangeToken token) {
+    OffsetDateTime changedDate = row.getOffsetDateTime(5);
+    JsonObject account = row.get(JsonObject.class, 6);
+    JsonObject action = row.get(JsonObject.class, 7);
+
+    return new FeeFineChange()
+      .withToken(token.toString())
+      .withRecordType(FeeFineChange.RecordType.fromValue(row.getString(2)))
+      .withRecordId(row.getValue(3).toString())
+      .withOperation(FeeFineChange.Operation.fromValue(row.getString(4)))
+      .withChangedDate(changedDate == null ? null : Date.from(changedDate.toInstant()))
+      .withAccount(account == null ? null : account.mapTo(Account.class))
+      .withFeefineaction(action == null ? null : action.mapTo(Feefineaction.class));
+  }
+}
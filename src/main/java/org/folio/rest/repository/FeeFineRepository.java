@@ -1,5 +1,7 @@
 package org.folio.rest.repository;
 
+import static org.folio.rest.metrics.MetricsRecorder.queryPromise;
+
 import java.util.Optional;
 
 import org.folio.rest.domain.FeeFineNoticeContext;
@@ -33,7 +35,8 @@ public class FeeFineRepository {
   }
 
   public Future<Feefine> getById(String id) {
-    Promise<Feefine> promise = Promise.promise();
+    Promise<Feefine> promise =
+      queryPromise(FeeFineRepository.class, "getById", pgClient.getTenantId());
     pgClient.getById(FEEFINES_TABLE, id, Feefine.class, promise);
     return promise.future();
   }
@@ -0,0 +1,111 @@
+package org.folio.rest.repository;
+
+import static io.vertx.core.Future.failedFuture;
+import static java.lang.String.format;
+import static org.folio.rest.metrics.MetricsRecorder.queryPromise;
+import static org.folio.rest.utils.CqlHelper.exactMatchAny;
+import static org.folio.rest.utils.CqlHelper.toSqlCondition;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.folio.rest.jaxrs.model.Manualblock;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.tools.utils.TenantTool;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+
+public class ManualBlockRepository {
+  public static final String MANUALBLOCKS_TABLE = "manualblocks";
+
+  private final PostgresClient pgClient;
+  private final String tenantId;
+
+  public ManualBlockRepository(Context context, Map<String, String> headers) {
+    tenantId = TenantTool.tenantId(headers);
+    pgClient = PostgresClient.getInstance(context.owner(), tenantId);
+  }
+
+  /**
+   * Loads blocks of the patrons which have not expired yet. Every requested user ID is present
+   * in the resulting map, patrons without blocks are mapped to an empty list.
+   */
+  public Future<Map<String, List<Manualblock>>> findActiveBlocks(Collection<String> userIds) {
+    final String userIdCondition;
+
+    try {
+      userIdCondition = toSqlCondition(MANUALBLOCKS_TABLE, exactMatchAny("userId", userIds));
+    } catch (Exception e) {
+      return failedFuture(e);
+    }
+
+    String query = format(
+      "SELECT jsonb FROM %s.%s %s " +
+        "WHERE (%s) AND (jsonb->>'expirationDate' IS NULL " +
+        "OR (jsonb->>'expirationDate')::timestamptz > now())",
+      PostgresClient.convertToPsqlStandard(tenantId), MANUALBLOCKS_TABLE, MANUALBLOCKS_TABLE,
+      userIdCondition);
+
+    Promise<RowSet<Row>> promise =
+      queryPromise(ManualBlockRepository.class, "findActiveBlocks", tenantId);
+    pgClient.select(query, promise);
+
+    return promise.future().map(rows -> {
+      Map<String, List<Manualblock>> blocks = new HashMap<>();
+      userIds.forEach(userId -> blocks.put(userId, new ArrayList<>()));
+
+      rows.forEach(row -> {
+        Manualblock block = row.get(JsonObject.class, 0).mapTo(Manualblock.class);
+        blocks.computeIfAbsent(block.getUserId(), userId -> new ArrayList<>()).add(block);
+      });
+
+      return blocks;
+    });
+  }
+
+  /**
+   * Deletes up to {@code limit} blocks which expired before {@code now} and returns them.
+   * Candidates are found with the expirationDate index using a bound one day ahead, which
+   * tolerates dates stored with a non-UTC offset; the exact check is made on timestamps.
+   * Rows locked by a concurrent sweep are skipped.
+   */
+  public Future<List<Manualblock>> deleteExpiredBlocks(Instant now, int limit) {
+    final String expirationCondition;
+
+    try {
+      expirationCondition = toSqlCondition(MANUALBLOCKS_TABLE,
+        format("expirationDate < \"%s\"", now.plus(1, ChronoUnit.DAYS)));
+    } catch (Exception e) {
+      return failedFuture(e);
+    }
+
+    String query = format(
+      "DELETE FROM %1$s.%2$s WHERE id IN (" +
+        "SELECT id FROM %1$s.%2$s %2$s " +
+        "WHERE (%3$s) AND (jsonb->>'expirationDate')::timestamptz < '%4$s'::timestamptz " +
+        "LIMIT %5$d FOR UPDATE SKIP LOCKED) " +
+        "RETURNING jsonb",
+      PostgresClient.convertToPsqlStandard(tenantId), MANUALBLOCKS_TABLE, expirationCondition,
+      now, limit);
+
+    Promise<RowSet<Row>> promise =
+      queryPromise(ManualBlockRepository.class, "deleteExpiredBlocks", tenantId);
+    pgClient.execute(query, promise);
+
+    return promise.future().map(rows -> {
+      List<Manualblock> deletedBlocks = new ArrayList<>();
+      rows.forEach(row -> deletedBlocks.add(row.get(JsonObject.class, 0).mapTo(Manualblock.class)));
+      return deletedBlocks;
+    });
+  }
+}
@@ -1,5 +1,7 @@
 package org.folio.rest.repository;
 
+import static org.folio.rest.metrics.MetricsRecorder.queryPromise;
+
 import java.util.Optional;
 
 import org.folio.rest.domain.FeeFineNoticeContext;
@@ -29,8 +31,13 @@ public class OwnerRepository {
       return Future.failedFuture(new IllegalArgumentException("Owner id is not present"));
     }
 
-    Promise<Owner> promise = Promise.promise();
-    pgClient.getById(OWNERS_TABLE, optionalOwnerId.get(), Owner.class, promise);
-    return promise.future().map(context::withOwner);
+    return getById(optionalOwnerId.get()).map(context::withOwner);
+  }
+
+  public Future<Owner> getById(String id) {
+    Promise<Owner> promise =
+      queryPromise(OwnerRepository.class, "getById", pgClient.getTenantId());
+    pgClient.getById(OWNERS_TABLE, id, Owner.class, promise);
+    return promise.future();
   }
 }
@@ -0,0 +1,225 @@
+package org.folio.rest.repository;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
+import static org.folio.rest.domain.FeeFineStatus.OPEN;
+import static org.folio.rest.metrics.MetricsRecorder.queryPromise;
+import static org.folio.rest.utils.CqlHelper.exactMatchAny;
+import static org.folio.rest.utils.CqlHelper.toSqlCondition;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.folio.rest.domain.MonetaryValue;
+import org.folio.rest.jaxrs.model.PatronBalance;
+import org.folio.rest.jaxrs.model.PatronBalanceBreakdown;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.tools.utils.TenantTool;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * Summarizes open accounts of patrons with a single aggregate query. Accounts are grouped by
+ * patron, owner and fee/fine type in the database, so only a handful of rows per patron are
+ * transferred regardless of the number of accounts. Totals without breakdowns are also
+ * available from patron_balances, which is maintained by a trigger on accounts.
+ */
+public class PatronBalanceRepository {
+  private static final String ACCOUNTS_TABLE = "accounts";
+  private static final String PATRON_BALANCES_TABLE = "patron_balances";
+
+  private final PostgresClient pgClient;
+  private final String tenantId;
+
+  public PatronBalanceRepository(Context context, Map<String, String> headers) {
+    tenantId = TenantTool.tenantId(headers);
+    pgClient = PostgresClient.getInstance(context.owner(), tenantId);
+  }
+
+  /**
+   * Returns balances in the order of the requested user IDs, patrons without open fees/fines
+   * get an empty balance.
+   */
+  public Future<List<PatronBalance>> getPatronBalances(List<String> userIds) {
+    if (userIds.isEmpty()) {
+      return succeededFuture(new ArrayList<>());
+    }
+
+    final String userIdCondition;
+
+    try {
+      // translated by CQL2PgJSON so that the condition matches the userId index expression
+      userIdCondition = toSqlCondition(ACCOUNTS_TABLE, exactMatchAny("userId", userIds));
+    } catch (Exception e) {
+      return failedFuture(e);
+    }
+
+    String query = format(
+      "SELECT accounts.jsonb->>'userId', " +
+        "accounts.jsonb->>'ownerId', accounts.jsonb->>'feeFineOwner', " +
+        "accounts.jsonb->>'feeFineId', accounts.jsonb->>'feeFineType', " +
+        "count(*), " +
+        "sum((accounts.jsonb->>'remaining')::numeric), " +
+        "min(coalesce(accounts.jsonb->>'dateCreated', " +
+        "accounts.jsonb->'metadata'->>'createdDate')::timestamptz) " +
+        "FROM %s.%s %s " +
+        "WHERE (%s) AND accounts.jsonb->'status'->>'name' = $1 " +
+        "GROUP BY 1, 2, 3, 4, 5",
+      PostgresClient.convertToPsqlStandard(tenantId), ACCOUNTS_TABLE, ACCOUNTS_TABLE,
+      userIdCondition);
+
+    Promise<RowSet<Row>> promise =
+      queryPromise(PatronBalanceRepository.class, "getPatronBalances", tenantId);
+    pgClient.select(query, Tuple.of(OPEN.getValue()), promise);
+
+    return promise.future().map(rows -> mapToPatronBalances(userIds, rows));
+  }
+
+  /**
+   * Loads the balance maintained in patron_balances, which is a single primary key lookup
+   * regardless of the number of accounts of the patron.
+   */
+  public Future<PatronBalance> getMaintainedPatronBalance(String userId) {
+    String query = format(
+      "SELECT open_count, remaining, updated_date FROM %s.%s WHERE user_id = $1",
+      PostgresClient.convertToPsqlStandard(tenantId), PATRON_BALANCES_TABLE);
+
+    Promise<RowSet<Row>> promise =
+      queryPromise(PatronBalanceRepository.class, "getMaintainedPatronBalance", tenantId);
+    pgClient.select(query, Tuple.of(userId), promise);
+
+    return promise.future().map(rows -> {
+      // breakdowns are not maintained, so they are omitted rather than returned empty
+      PatronBalance balance = new PatronBalance()
+        .withUserId(userId)
+        .withOpenCount(0)
+        .withRemaining(0.0)
+        .withOwners(null)
+        .withFeeFineTypes(null);
+
+      if (rows.iterator().hasNext()) {
+        Row row = rows.iterator().next();
+        OffsetDateTime updatedDate = row.getOffsetDateTime(2);
+
+        balance
+          .withOpenCount(row.getInteger(0))
+          .withRemaining(new MonetaryValue(row.getBigDecimal(1)).toDouble())
+          .withUpdatedDate(updatedDate == null ? null : Date.from(updatedDate.toInstant()));
+      }
+
+      return balance;
+    });
+  }
+
+  /**
+   * Compares maintained balances with balances calculated from accounts, see
+   * verify_patron_balances in patron-balances.sql. Returns the number of drifted patrons.
+   */
+  public Future<Integer> verifyPatronBalances(boolean repair) {
+    String query = format("SELECT %s.verify_patron_balances($1)",
+      PostgresClient.convertToPsqlStandard(tenantId));
+
+    Promise<RowSet<Row>> promise =
+      queryPromise(PatronBalanceRepository.class, "verifyPatronBalances", tenantId);
+    pgClient.select(query, Tuple.of(repair), promise);
+
+    return promise.future().map(rows -> rows.iterator().next().getInteger(0));
+  }
+
+  private List<PatronBalance> mapToPatronBalances(List<String> userIds, RowSet<Row> rows) {
+    Map<String, BalanceBuilder> balances = new LinkedHashMap<>();
+    userIds.forEach(userId -> balances.put(userId, new BalanceBuilder(userId)));
+
+    for (Row row : rows) {
+      BalanceBuilder balance = balances.get(row.getString(0));
+      if (balance != null) {
+        balance.add(row);
+      }
+    }
+
+    return balances.values().stream()
+      .map(BalanceBuilder::build)
+      .collect(toList());
+  }
+
+  private static class BalanceBuilder {
+    private final String userId;
+    private final Map<String, BreakdownBuilder> owners = new LinkedHashMap<>();
+    private final Map<String, BreakdownBuilder> feeFineTypes = new LinkedHashMap<>();
+    private int openCount;
+    private BigDecimal remaining = BigDecimal.ZERO;
+    private OffsetDateTime oldestOpenDate;
+
+    private BalanceBuilder(String userId) {
+      this.userId = userId;
+    }
+
+    private void add(Row row) {
+      int count = row.getLong(5).intValue();
+      BigDecimal amount = Objects.requireNonNullElse(row.getBigDecimal(6), BigDecimal.ZERO);
+      OffsetDateTime createdDate = row.getOffsetDateTime(7);
+
+      openCount += count;
+      remaining = remaining.add(amount);
+      if (createdDate != null && (oldestOpenDate == null || createdDate.isBefore(oldestOpenDate))) {
+        oldestOpenDate = createdDate;
+      }
+
+      owners.computeIfAbsent(Objects.toString(row.getString(1), ""),
+        id -> new BreakdownBuilder(row.getString(1), row.getString(2)))
+        .add(count, amount);
+      feeFineTypes.computeIfAbsent(Objects.toString(row.getString(3), ""),
+        id -> new BreakdownBuilder(row.getString(3), row.getString(4)))
+        .add(count, amount);
+    }
+
+    private PatronBalance build() {
+      return new PatronBalance()
+        .withUserId(userId)
+        .withOpenCount(openCount)
+        .withRemaining(new MonetaryValue(remaining).toDouble())
+        .withOldestOpenDate(oldestOpenDate == null ? null : Date.from(oldestOpenDate.toInstant()))
+        .withOwners(owners.values().stream().map(BreakdownBuilder::build).collect(toList()))
+        .withFeeFineTypes(feeFineTypes.values().stream().map(BreakdownBuilder::build)
+          .collect(toList()));
+    }
+  }
+
+  private static class BreakdownBuilder {
+    private final String id;
+    private final String name;
+    private int openCount;
+    private BigDecimal remaining = BigDecimal.ZERO;
+
+    private BreakdownBuilder(String id, String name) {
+      this.id = id;
+      this.name = name;
+    }
+
+    private void add(int count, BigDecimal amount) {
+      openCount += count;
+      remaining = remaining.add(amount);
+    }
+
+    private PatronBalanceBreakdown build() {
+      return new PatronBalanceBreakdown()
+        .withId(id)
+        .withName(name)
+        .withOpenCount(openCount)
+        .withRemaining(new MonetaryValue(remaining).toDouble());
+    }
+  }
+}
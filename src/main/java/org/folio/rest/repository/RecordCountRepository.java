@@ -0,0 +1,74 @@
+package org.folio.rest.repository;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+import static java.lang.String.format;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.rest.metrics.MetricsRecorder.queryPromise;
+import static org.folio.rest.utils.CqlHelper.toSqlCondition;
+
+import org.folio.rest.domain.TotalRecords;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.persist.interfaces.Results;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+
+/**
+ * Resolves {@code totalRecords} of a collection response according to the requested
+ * {@link TotalRecords} mode.
+ * <ul>
+ *   <li>estimated - the value calculated by RMB together with the page (planner estimation,
+ *   exact count for small result sets)</li>
+ *   <li>exact - a separate {@code count(*)} with the same CQL filter</li>
+ *   <li>none - no count at all, {@code totalRecords} is omitted</li>
+ * </ul>
+ */
+public class RecordCountRepository {
+  private final PostgresClient pgClient;
+  private final String tenantId;
+
+  public RecordCountRepository(PostgresClient pgClient, String tenantId) {
+    this.pgClient = pgClient;
+    this.tenantId = tenantId;
+  }
+
+  public <T> Future<Integer> getTotalRecords(TotalRecords mode, String table, String cqlQuery,
+    Results<T> results) {
+
+    switch (mode) {
+    case EXACT:
+      return countExactly(table, cqlQuery);
+    case NONE:
+      return succeededFuture(null);
+    default:
+      return succeededFuture(results.getResultInfo().getTotalRecords());
+    }
+  }
+
+  public Future<Integer> countExactly(String table, String cqlQuery) {
+    final String whereClause;
+
+    try {
+      whereClause = toSqlCondition(table, cqlQuery);
+    } catch (Exception e) {
+      return failedFuture(e);
+    }
+
+    String sql = format("SELECT count(*) FROM %s.%s", PostgresClient.convertToPsqlStandard(tenantId),
+      table);
+
+    if (!isBlank(whereClause)) {
+      sql += " WHERE " + whereClause;
+    }
+
+    Promise<RowSet<Row>> promise =
+      queryPromise(RecordCountRepository.class, "countExactly", tenantId);
+    pgClient.select(sql, promise);
+
+    return promise.future()
+      .map(rows -> rows.iterator().next().getLong(0).intValue());
+  }
+}
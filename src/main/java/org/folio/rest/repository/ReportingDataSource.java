@@ -0,0 +1,96 @@
+package org.folio.rest.repository;
+
+import static java.lang.String.format;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.persist.PostgresClient;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.pgclient.PgPool;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * Runs read-only report and export queries. When a reporting data source is configured
+ * (see {@link ReportingDataSourceSettings}) queries go to its own pool, so that long-running
+ * reports can not take connections needed by payments and other interactive requests.
+ * Otherwise they go to the pool of the tenant's {@link PostgresClient}. The reporting pool is
+ * shared by all tenants and does not connect as the tenant's database user, so the
+ * {@code search_path} is set to the tenant's schema whenever a connection is taken from it;
+ * functions such as {@code f_unaccent} used by CQL queries are then resolved in that schema.
+ */
+public class ReportingDataSource {
+  private static final Logger log = LogManager.getLogger(ReportingDataSource.class);
+
+  private static final Map<Vertx, PgPool> pools = new ConcurrentHashMap<>();
+  private static volatile ReportingDataSourceSettings settings =
+    ReportingDataSourceSettings.fromEnvironment();
+
+  private final PostgresClient pgClient;
+  private final PgPool reportingPool;
+  private final String schema;
+
+  private ReportingDataSource(PostgresClient pgClient, PgPool reportingPool, String tenantId) {
+    this.pgClient = pgClient;
+    this.reportingPool = reportingPool;
+    this.schema = PostgresClient.convertToPsqlStandard(tenantId);
+  }
+
+  public static ReportingDataSource getInstance(Vertx vertx, String tenantId) {
+    return new ReportingDataSource(PostgresClient.getInstance(vertx, tenantId),
+      settings.isEnabled() ? pools.computeIfAbsent(vertx, ReportingDataSource::createPool) : null,
+      tenantId);
+  }
+
+  /**
+   * Replaces the settings read from the environment and closes the pools created with the
+   * previous settings.
+   */
+  public static void useSettings(ReportingDataSourceSettings newSettings) {
+    settings = newSettings;
+    pools.values().forEach(PgPool::close);
+    pools.clear();
+  }
+
+  public void select(String sql, Tuple params, Handler<AsyncResult<RowSet<Row>>> handler) {
+    if (reportingPool == null) {
+      pgClient.select(sql, params, handler);
+      return;
+    }
+
+    getConnection()
+      .compose(connection -> connection.preparedQuery(sql).execute(params)
+        .onComplete(ignored -> connection.close()))
+      .onComplete(handler);
+  }
+
+  public Future<SqlConnection> getConnection() {
+    if (reportingPool == null) {
+      return pgClient.getClient().getConnection();
+    }
+
+    return reportingPool.getConnection()
+      .compose(connection -> connection
+        .query(format("SET search_path TO %s, public", schema))
+        .execute()
+        .map(connection)
+        .onFailure(throwable -> connection.close()));
+  }
+
+  private static PgPool createPool(Vertx vertx) {
+    log.info("Using reporting data source {}:{}/{}, pool size {}, statement timeout {} ms",
+      settings.getHost(), settings.getPort(), settings.getDatabase(), settings.getMaxPoolSize(),
+      settings.getStatementTimeoutMs());
+
+    return PgPool.pool(vertx, settings.toPgConnectOptions(), settings.toPoolOptions());
+  }
+}
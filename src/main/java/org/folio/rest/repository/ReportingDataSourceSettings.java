@@ -0,0 +1,152 @@
+package org.folio.rest.repository;
+
+import static java.lang.String.format;
+import static org.apache.commons.lang3.StringUtils.isNotBlank;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.sqlclient.PoolOptions;
+
+/**
+ * Settings of the connection pool used for reports and exports. Every setting is read from an
+ * environment variable {@code REPORTING_DB_<SETTING>}. Connection settings which are not set
+ * fall back to the {@code DB_*} variables of the module, so setting only
+ * {@code REPORTING_DB_MAX_POOL_SIZE} gives reports their own pool on the same database, while
+ * {@code REPORTING_DB_HOST} points them to a read replica. When neither is set reports share
+ * the pool of the module.
+ */
+public class ReportingDataSourceSettings {
+  private static final Logger log = LogManager.getLogger(ReportingDataSourceSettings.class);
+
+  private static final String PREFIX = "REPORTING_";
+  private static final String APPLICATION_NAME = "mod-feesfines-reporting";
+
+  static final String DB_HOST = "DB_HOST";
+  static final String DB_PORT = "DB_PORT";
+  static final String DB_DATABASE = "DB_DATABASE";
+  static final String DB_USERNAME = "DB_USERNAME";
+  static final String DB_PASSWORD = "DB_PASSWORD";
+  static final String DB_MAX_POOL_SIZE = "DB_MAX_POOL_SIZE";
+  static final String DB_MAX_WAIT_QUEUE_SIZE = "DB_MAX_WAIT_QUEUE_SIZE";
+  static final String DB_STATEMENT_TIMEOUT_MS = "DB_STATEMENT_TIMEOUT_MS";
+
+  private final boolean enabled;
+  private final String host;
+  private final int port;
+  private final String database;
+  private final String username;
+  private final String password;
+  private final int maxPoolSize;
+  private final int maxWaitQueueSize;
+  private final int statementTimeoutMs;
+
+  public ReportingDataSourceSettings(UnaryOperator<String> environment) {
+    this.enabled = isNotBlank(environment.apply(PREFIX + DB_HOST))
+      || isNotBlank(environment.apply(PREFIX + DB_MAX_POOL_SIZE));
+    this.host = getConnectionSetting(environment, DB_HOST, "localhost");
+    this.port = parseInt(DB_PORT, getConnectionSetting(environment, DB_PORT, null), 5432);
+    this.database = getConnectionSetting(environment, DB_DATABASE, "postgres");
+    this.username = getConnectionSetting(environment, DB_USERNAME, null);
+    this.password = getConnectionSetting(environment, DB_PASSWORD, null);
+    this.maxPoolSize = Math.max(getInt(environment, DB_MAX_POOL_SIZE, 4), 1);
+    this.maxWaitQueueSize = getInt(environment, DB_MAX_WAIT_QUEUE_SIZE, 100);
+    this.statementTimeoutMs = Math.max(getInt(environment, DB_STATEMENT_TIMEOUT_MS, 600000), 0);
+  }
+
+  public static ReportingDataSourceSettings fromEnvironment() {
+    return new ReportingDataSourceSettings(System::getenv);
+  }
+
+  /**
+   * The statement timeout is sent as a startup parameter, so it applies to every statement
+   * on the reporting connections without an extra round trip.
+   */
+  public PgConnectOptions toPgConnectOptions() {
+    PgConnectOptions options = new PgConnectOptions()
+      .setHost(host)
+      .setPort(port)
+      .setDatabase(database)
+      .setUser(username)
+      .setPassword(password);
+
+    Map<String, String> properties = new HashMap<>(options.getProperties());
+    properties.put("application_name", APPLICATION_NAME);
+    properties.put("statement_timeout", String.valueOf(statementTimeoutMs));
+
+    return options.setProperties(properties);
+  }
+
+  public PoolOptions toPoolOptions() {
+    return new PoolOptions()
+      .setMaxSize(maxPoolSize)
+      .setMaxWaitQueueSize(maxWaitQueueSize);
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public String getHost() {
+    return host;
+  }
+
+  public int getPort() {
+    return port;
+  }
+
+  public String getDatabase() {
+    return database;
+  }
+
+  public int getMaxPoolSize() {
+    return maxPoolSize;
+  }
+
+  public int getMaxWaitQueueSize() {
+    return maxWaitQueueSize;
+  }
+
+  public int getStatementTimeoutMs() {
+    return statementTimeoutMs;
+  }
+
+  /**
+   * Connection settings fall back to the module's own {@code DB_*} variables.
+   */
+  private static String getConnectionSetting(UnaryOperator<String> environment, String setting,
+    String defaultValue) {
+
+    String reportingValue = environment.apply(PREFIX + setting);
+    if (isNotBlank(reportingValue)) {
+      return reportingValue.trim();
+    }
+
+    String moduleValue = environment.apply(setting);
+    return isNotBlank(moduleValue) ? moduleValue.trim() : defaultValue;
+  }
+
+  private static int getInt(UnaryOperator<String> environment, String setting,
+    int defaultValue) {
+
+    return parseInt(setting, environment.apply(PREFIX + setting), defaultValue);
+  }
+
+  private static int parseInt(String setting, String value, int defaultValue) {
+    if (isNotBlank(value)) {
+      try {
+        return Integer.parseInt(value.trim());
+      } catch (NumberFormatException e) {
+        log.warn(format("Invalid value \"%s\" of %s%s, using default %d", value, PREFIX,
+          setting, defaultValue));
+      }
+    }
+
+    return defaultValue;
+  }
+}
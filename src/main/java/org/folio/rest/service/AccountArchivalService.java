@@ -0,0 +1,107 @@
+package org.folio.rest.service;
+
+import static io.vertx.core.Future.succeededFuture;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.jaxrs.model.AccountArchivalResult;
+import org.folio.rest.repository.AccountArchiveRepository;
+import org.folio.rest.tools.utils.TenantTool;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+
+/**
+ * Moves closed accounts and their actions to the archive tables in bounded batches, each batch
+ * in its own transaction, so that a run never holds locks on more than one batch of accounts.
+ */
+public class AccountArchivalService {
+  private static final Logger log = LogManager.getLogger(AccountArchivalService.class);
+
+  private static final AtomicLong runs = new AtomicLong();
+  private static final AtomicLong failedRuns = new AtomicLong();
+  private static final AtomicLong archivedAccounts = new AtomicLong();
+  private static final AtomicLong lastRunDurationMs = new AtomicLong();
+
+  private final AccountArchiveRepository accountArchiveRepository;
+  private final String tenantId;
+
+  public AccountArchivalService(Context context, Map<String, String> headers) {
+    this.accountArchiveRepository = new AccountArchiveRepository(context, headers);
+    this.tenantId = TenantTool.tenantId(headers);
+  }
+
+  public Future<AccountArchivalResult> archiveClosedAccounts(int closedForDays, int batchSize,
+    int maxBatches) {
+
+    final long startTime = System.currentTimeMillis();
+    final Instant closedBefore = Instant.now().minus(closedForDays, ChronoUnit.DAYS);
+    final AccountArchivalResult result = new AccountArchivalResult()
+      .withArchivedAccountCount(0)
+      .withArchivedActionCount(0)
+      .withBatchCount(0)
+      .withCompleted(false);
+
+    runs.incrementAndGet();
+
+    return archiveBatches(closedBefore, batchSize, maxBatches, result)
+      .map(finalResult -> {
+        long duration = System.currentTimeMillis() - startTime;
+        lastRunDurationMs.set(duration);
+        log.info("Archived {} accounts and {} actions of tenant {} in {} batches, {} ms",
+          finalResult.getArchivedAccountCount(), finalResult.getArchivedActionCount(), tenantId,
+          finalResult.getBatchCount(), duration);
+        return finalResult.withDurationMs((int) duration);
+      })
+      .onFailure(throwable -> {
+        failedRuns.incrementAndGet();
+        log.error("Failed to archive closed accounts of tenant " + tenantId, throwable);
+      });
+  }
+
+  private Future<AccountArchivalResult> archiveBatches(Instant closedBefore, int batchSize,
+    int maxBatches, AccountArchivalResult result) {
+
+    if (result.getBatchCount() >= maxBatches) {
+      return succeededFuture(result);
+    }
+
+    return accountArchiveRepository.archiveClosedAccounts(closedBefore, batchSize)
+      .compose(batch -> {
+        archivedAccounts.addAndGet(batch.getArchivedAccountCount());
+        result
+          .withArchivedAccountCount(
+            result.getArchivedAccountCount() + batch.getArchivedAccountCount())
+          .withArchivedActionCount(
+            result.getArchivedActionCount() + batch.getArchivedActionCount())
+          .withBatchCount(result.getBatchCount() + 1);
+
+        if (batch.getArchivedAccountCount() < batchSize) {
+          return succeededFuture(result.withCompleted(true));
+        }
+
+        return archiveBatches(closedBefore, batchSize, maxBatches, result);
+      });
+  }
+
+  public static long getRunCount() {
+    return runs.get();
+  }
+
+  public static long getFailedRunCount() {
+    return failedRuns.get();
+  }
+
+  public static long getArchivedAccountCount() {
+    return archivedAccounts.get();
+  }
+
+  public static long getLastRunDurationMs() {
+    return lastRunDurationMs.get();
+  }
+}
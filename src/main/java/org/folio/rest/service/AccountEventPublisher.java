@@ -2,9 +2,11 @@ package org.folio.rest.service;
 
 import static org.folio.rest.domain.EventType.FEE_FINE_BALANCE_CHANGED;
 import static org.folio.rest.domain.EventType.LOAN_RELATED_FEE_FINE_CLOSED;
+import static java.util.stream.Collectors.toList;
 import static org.folio.rest.domain.LoanRelatedFeeFineClosedEvent.forFeeFine;
 import static org.folio.rest.utils.JsonHelper.write;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
@@ -32,6 +34,16 @@ public class AccountEventPublisher {
     eventPublisher.publishEventAsynchronously(FEE_FINE_BALANCE_CHANGED, payload);
   }
 
+  /**
+   * Publishes balance change events of many accounts without exceeding the pub-sub bulkhead,
+   * the returned future completes with the number of events which could not be published.
+   */
+  public CompletableFuture<Integer> publishAccountBalanceChangeEvents(List<Account> accounts) {
+    return eventPublisher.publishEvents(FEE_FINE_BALANCE_CHANGED, accounts.stream()
+      .map(this::createBalanceChangedPayload)
+      .collect(toList()));
+  }
+
   public void publishDeletedAccountBalanceChangeEvent(String accountId) {
     final Account account = new Account()
       .withId(accountId)
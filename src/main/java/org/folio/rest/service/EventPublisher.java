@@ -1,14 +1,18 @@
 package org.folio.rest.service;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.stream.Collectors.toList;
 import static org.folio.rest.tools.utils.TenantTool.tenantId;
 
 import io.vertx.core.Vertx;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.rest.client.FeeFinePubSubClient;
+import org.folio.rest.client.WebClientProvider;
 import org.folio.rest.domain.EventType;
 import org.folio.rest.jaxrs.model.Event;
 import org.folio.rest.jaxrs.model.EventMetadata;
@@ -28,6 +32,38 @@ public class EventPublisher {
     return publishEvent(createEvent(type, payload));
   }
 
+  /**
+   * Publishes an event for each of the payloads. Events are published in chunks, one chunk
+   * after another, so that a large number of events takes only a quarter of the concurrent
+   * requests the bulkhead allows for pub-sub. The returned future completes with the number
+   * of events which could not be published once all of them have been handed over.
+   */
+  public CompletableFuture<Integer> publishEvents(EventType type, List<String> payloads) {
+    final int chunkSize = Math.max(WebClientProvider.getSettings(FeeFinePubSubClient.DOWNSTREAM)
+      .getMaxConcurrentRequests() / 4, 1);
+
+    CompletableFuture<Integer> failedCount = completedFuture(0);
+    for (int from = 0; from < payloads.size(); from += chunkSize) {
+      final List<String> chunk = payloads.subList(from, Math.min(from + chunkSize, payloads.size()));
+      failedCount = failedCount.thenCompose(failed -> publishChunk(type, chunk)
+        .thenApply(failedInChunk -> failed + failedInChunk));
+    }
+
+    return failedCount;
+  }
+
+  private CompletableFuture<Integer> publishChunk(EventType type, List<String> payloads) {
+    final List<CompletableFuture<Boolean>> published = payloads.stream()
+      .map(payload -> publishEvent(type, payload)
+        .handle((ignored, throwable) -> throwable == null))
+      .collect(toList());
+
+    return CompletableFuture.allOf(published.toArray(CompletableFuture[]::new))
+      .thenApply(ignored -> (int) published.stream()
+        .filter(future -> !future.join())
+        .count());
+  }
+
   private CompletableFuture<Void> publishEvent(Event event) {
     return pubSubClient.publishEvent(event);
   }
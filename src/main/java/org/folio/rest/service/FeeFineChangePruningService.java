@@ -0,0 +1,95 @@
+package org.folio.rest.service;
+
+import static io.vertx.core.Future.succeededFuture;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.jaxrs.model.FeeFineChangePruningResult;
+import org.folio.rest.repository.FeeFineChangeRepository;
+import org.folio.rest.tools.utils.TenantTool;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+
+/**
+ * Deletes changes older than the retention window from the change feed in bounded batches, so
+ * that the fee_fine_changes table does not grow without limit. The window is read from the
+ * environment variable {@code FEE_FINE_CHANGES_RETENTION_DAYS} unless given by the caller.
+ */
+public class FeeFineChangePruningService {
+  private static final Logger log = LogManager.getLogger(FeeFineChangePruningService.class);
+
+  static final String RETENTION_DAYS = "FEE_FINE_CHANGES_RETENTION_DAYS";
+  static final int DEFAULT_RETENTION_DAYS = 30;
+
+  private final FeeFineChangeRepository feeFineChangeRepository;
+  private final String tenantId;
+
+  public FeeFineChangePruningService(Context context, Map<String, String> headers) {
+    this.feeFineChangeRepository = new FeeFineChangeRepository(context, headers);
+    this.tenantId = TenantTool.tenantId(headers);
+  }
+
+  public Future<FeeFineChangePruningResult> pruneChanges(Integer requestedRetentionDays,
+    int batchSize, int maxBatches) {
+
+    final int retentionDays = requestedRetentionDays != null
+      ? requestedRetentionDays
+      : getRetentionDays(System::getenv);
+    final Instant changedBefore = Instant.now().minus(retentionDays, ChronoUnit.DAYS);
+    final FeeFineChangePruningResult result = new FeeFineChangePruningResult()
+      .withPrunedChangeCount(0)
+      .withBatchCount(0)
+      .withCompleted(false);
+
+    return pruneBatches(changedBefore, batchSize, maxBatches, result)
+      .onSuccess(finalResult -> log.info(
+        "Pruned {} changes of tenant {} older than {} days in {} batches",
+        finalResult.getPrunedChangeCount(), tenantId, retentionDays,
+        finalResult.getBatchCount()))
+      .onFailure(throwable -> log.error(
+        "Failed to prune fee/fine changes of tenant " + tenantId, throwable));
+  }
+
+  private Future<FeeFineChangePruningResult> pruneBatches(Instant changedBefore, int batchSize,
+    int maxBatches, FeeFineChangePruningResult result) {
+
+    if (result.getBatchCount() >= maxBatches) {
+      return succeededFuture(result);
+    }
+
+    return feeFineChangeRepository.deleteChangesBefore(changedBefore, batchSize)
+      .compose(deletedCount -> {
+        result
+          .withPrunedChangeCount(result.getPrunedChangeCount() + deletedCount)
+          .withBatchCount(result.getBatchCount() + 1);
+
+        if (deletedCount < batchSize) {
+          return succeededFuture(result.withCompleted(true));
+        }
+
+        return pruneBatches(changedBefore, batchSize, maxBatches, result);
+      });
+  }
+
+  static int getRetentionDays(UnaryOperator<String> environment) {
+    String value = environment.apply(RETENTION_DAYS);
+
+    if (value == null || value.isBlank()) {
+      return DEFAULT_RETENTION_DAYS;
+    }
+
+    try {
+      return Math.max(Integer.parseInt(value.trim()), 1);
+    } catch (NumberFormatException e) {
+      log.warn("Invalid value of {}: {}, using {}", RETENTION_DAYS, value,
+        DEFAULT_RETENTION_DAYS);
+      return DEFAULT_RETENTION_DAYS;
+    }
+  }
+}
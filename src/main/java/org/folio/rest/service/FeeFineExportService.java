@@ -0,0 +1,126 @@
+package org.folio.rest.service;
+
+import static io.vertx.core.Future.failedFuture;
+import static java.lang.String.format;
+import static org.folio.rest.utils.CqlHelper.toSqlCondition;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.repository.ReportingDataSource;
+import org.folio.rest.tools.utils.TenantTool;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowStream;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Transaction;
+import io.vertx.sqlclient.Tuple;
+
+/**
+ * Streams records matching a CQL query as NDJSON. Rows are fetched from a server-side cursor
+ * in chunks and reading is paused whenever the write queue of the HTTP response is full, so
+ * memory use does not depend on the number of exported records. Exports run on the reporting
+ * data source.
+ */
+public class FeeFineExportService {
+  private static final Logger log = LogManager.getLogger(FeeFineExportService.class);
+
+  private static final int FETCH_SIZE = 500;
+  private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+  private static final Buffer NEW_LINE = Buffer.buffer("\n");
+
+  private final ReportingDataSource dataSource;
+  private final String tenantId;
+
+  public FeeFineExportService(Context context, Map<String, String> headers) {
+    tenantId = TenantTool.tenantId(headers);
+    dataSource = ReportingDataSource.getInstance(context.owner(), tenantId);
+  }
+
+  /**
+   * Opens a cursor and starts streaming into the response. The returned future fails, without
+   * anything being written to the response, when the query cannot be translated or the cursor
+   * cannot be opened. Once streaming has started the status code has already been sent, so a
+   * failure resets the connection and the client sees a truncated response.
+   */
+  public Future<Void> export(String table, String cqlQuery, HttpServerResponse response) {
+    final String query;
+
+    try {
+      String condition = toSqlCondition(table, cqlQuery);
+      query = format("SELECT jsonb FROM %1$s.%2$s %2$s%3$s",
+        PostgresClient.convertToPsqlStandard(tenantId), table,
+        condition == null ? "" : " WHERE " + condition);
+    } catch (Exception e) {
+      return failedFuture(e);
+    }
+
+    // the cursor only lives inside a transaction, which is read-only as exports never write
+    return dataSource.getConnection()
+      .compose(connection -> connection.begin()
+        .compose(transaction -> connection.query("SET TRANSACTION READ ONLY").execute()
+          .compose(ignored -> connection.prepare(query))
+          .map(statement -> statement.createStream(FETCH_SIZE, Tuple.tuple()))
+          .onSuccess(stream -> streamRows(stream, transaction, connection, response)))
+        .onFailure(throwable -> connection.close())
+        .mapEmpty());
+  }
+
+  private void streamRows(RowStream<Row> stream, Transaction transaction,
+    SqlConnection connection, HttpServerResponse response) {
+
+    final AtomicBoolean finished = new AtomicBoolean();
+
+    response
+      .setStatusCode(200)
+      .setChunked(true)
+      .putHeader(HttpHeaders.CONTENT_TYPE, NDJSON_CONTENT_TYPE);
+
+    response.closeHandler(ignored -> {
+      if (finished.compareAndSet(false, true)) {
+        log.warn("Export from {} was interrupted by the client", tenantId);
+        stream.close();
+        connection.close();
+      }
+    });
+
+    stream.exceptionHandler(throwable -> {
+      if (finished.compareAndSet(false, true)) {
+        log.error("Export from " + tenantId + " failed", throwable);
+        connection.close();
+        response.reset();
+      }
+    });
+
+    stream.endHandler(ignored -> transaction.commit()
+      .onComplete(committed -> {
+        if (finished.compareAndSet(false, true)) {
+          connection.close();
+
+          if (committed.succeeded()) {
+            response.end();
+          } else {
+            log.error("Export from " + tenantId + " failed", committed.cause());
+            response.reset();
+          }
+        }
+      }));
+
+    stream.handler(row -> {
+      response.write(row.getJsonObject(0).toBuffer().appendBuffer(NEW_LINE));
+
+      if (response.writeQueueFull()) {
+        stream.pause();
+        response.drainHandler(drained -> stream.resume());
+      }
+    });
+  }
+}
@@ -0,0 +1,391 @@
+package org.folio.rest.service;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.rest.domain.logs.LogEventPayloadHelper.buildFeeFineLogEventPayload;
+import static org.folio.rest.service.LogEventPublisher.LogEventPayloadType.FEE_FINE;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validation;
+import javax.validation.Validator;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.FeeFineImportError;
+import org.folio.rest.jaxrs.model.FeeFineImportResult;
+import org.folio.rest.jaxrs.model.Feefine;
+import org.folio.rest.jaxrs.model.Feefineaction;
+import org.folio.rest.persist.PgUtil;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.repository.AccountRepository;
+import org.folio.rest.repository.FeeFineActionRepository;
+import org.folio.rest.repository.FeeFineRepository;
+import org.folio.rest.tools.utils.MetadataUtil;
+import org.folio.rest.utils.JsonDecoder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import io.vertx.core.CompositeFuture;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Loads accounts and fee/fine actions from NDJSON, one JSON object per line. Lines are validated
+ * against the schemas and stored in batches with a single statement per batch. When a batch is
+ * rejected by the database its records are stored one by one, so that only the offending lines
+ * are reported.
+ */
+public class FeeFineImportService {
+  private static final Logger log = LogManager.getLogger(FeeFineImportService.class);
+
+  private static final int MAX_REPORTED_ERRORS = 1000;
+  private static final Validator validator =
+    Validation.buildDefaultValidatorFactory().getValidator();
+
+  private final AccountRepository accountRepository;
+  private final FeeFineActionRepository feeFineActionRepository;
+  private final FeeFineRepository feeFineRepository;
+  private final AccountEventPublisher accountEventPublisher;
+  private final LogEventPublisher logEventPublisher;
+  private final Map<String, String> headers;
+
+  public FeeFineImportService(Context context, Map<String, String> headers) {
+    PostgresClient pgClient = PgUtil.postgresClient(context, headers);
+
+    this.accountRepository = new AccountRepository(pgClient);
+    this.feeFineActionRepository = new FeeFineActionRepository(headers, context);
+    this.feeFineRepository = new FeeFineRepository(pgClient);
+    this.accountEventPublisher = new AccountEventPublisher(context, headers);
+    this.logEventPublisher = new LogEventPublisher(context, headers);
+    this.headers = headers;
+  }
+
+  public Future<FeeFineImportResult> importAccounts(InputStream input, int batchSize,
+    boolean publishEvents) {
+
+    return importRecords(input, batchSize, new AccountImporter(publishEvents));
+  }
+
+  public Future<FeeFineImportResult> importActions(InputStream input, int batchSize,
+    boolean publishEvents) {
+
+    return importRecords(input, batchSize, new ActionImporter(publishEvents));
+  }
+
+  private <T> Future<FeeFineImportResult> importRecords(InputStream input, int batchSize,
+    RecordImporter<T> importer) {
+
+    final FeeFineImportResult result = new FeeFineImportResult()
+      .withImportedCount(0)
+      .withFailedCount(0)
+      .withFailedPublishCount(0);
+
+    if (input == null) {
+      return succeededFuture(result);
+    }
+
+    final BufferedReader reader = new BufferedReader(new InputStreamReader(input, UTF_8));
+
+    return importBatches(reader, batchSize, importer, result, new AtomicInteger())
+      .onComplete(ignored -> closeQuietly(reader));
+  }
+
+  private <T> Future<FeeFineImportResult> importBatches(BufferedReader reader, int batchSize,
+    RecordImporter<T> importer, FeeFineImportResult result, AtomicInteger lineNumber) {
+
+    final Map<Integer, T> batch = new LinkedHashMap<>();
+    final boolean moreInput;
+
+    try {
+      moreInput = readBatch(reader, batchSize, importer, result, lineNumber, batch);
+    } catch (IOException e) {
+      return failedFuture(e);
+    }
+
+    if (batch.isEmpty()) {
+      return succeededFuture(result);
+    }
+
+    return storeBatch(batch, importer, result)
+      .compose(importer::publishEvents)
+      .onSuccess(failedPublishCount -> result.setFailedPublishCount(
+        result.getFailedPublishCount() + failedPublishCount))
+      .compose(ignored -> moreInput
+        ? importBatches(reader, batchSize, importer, result, lineNumber)
+        : succeededFuture(result));
+  }
+
+  /**
+   * Reads lines until the batch is full or the input ends, lines which cannot be parsed or
+   * fail validation are reported and skipped. Returns false when the input has ended.
+   */
+  private <T> boolean readBatch(BufferedReader reader, int batchSize,
+    RecordImporter<T> importer, FeeFineImportResult result, AtomicInteger lineNumber,
+    Map<Integer, T> batch) throws IOException {
+
+    String line;
+    while (batch.size() < batchSize && (line = reader.readLine()) != null) {
+      final int currentLine = lineNumber.incrementAndGet();
+
+      if (isBlank(line)) {
+        continue;
+      }
+
+      try {
+        batch.put(currentLine, parse(line, importer));
+      } catch (JsonProcessingException e) {
+        addError(result, currentLine, e.getOriginalMessage());
+      } catch (Exception e) {
+        addError(result, currentLine, e.getMessage());
+      }
+    }
+
+    return batch.size() == batchSize;
+  }
+
+  private <T> T parse(String line, RecordImporter<T> importer) throws Exception {
+    final T record = JsonDecoder.decode(line, importer.type);
+    final Set<ConstraintViolation<T>> violations = validator.validate(record);
+
+    if (!violations.isEmpty()) {
+      throw new IllegalArgumentException(violations.stream()
+        .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+        .sorted()
+        .collect(joining(", ")));
+    }
+
+    if (importer.getId(record) == null) {
+      importer.setId(record, UUID.randomUUID().toString());
+    }
+
+    MetadataUtil.populateMetadata(record, headers);
+
+    return record;
+  }
+
+  private <T> Future<List<T>> storeBatch(Map<Integer, T> batch, RecordImporter<T> importer,
+    FeeFineImportResult result) {
+
+    final List<T> records = new ArrayList<>(batch.values());
+
+    return importer.saveBatch(records)
+      .recover(throwable -> {
+        log.warn("Batch of {} records was rejected, storing them one by one: {}",
+          records.size(), throwable.getMessage());
+        return storeOneByOne(batch, importer, result);
+      })
+      .onSuccess(stored -> result.setImportedCount(result.getImportedCount() + stored.size()));
+  }
+
+  private <T> Future<List<T>> storeOneByOne(Map<Integer, T> batch, RecordImporter<T> importer,
+    FeeFineImportResult result) {
+
+    final List<T> stored = new ArrayList<>();
+    Future<Void> allStored = succeededFuture();
+
+    for (Map.Entry<Integer, T> entry : batch.entrySet()) {
+      allStored = allStored.compose(ignored -> importer.save(entry.getValue())
+        .onSuccess(stored::add)
+        .otherwise(throwable -> {
+          addError(result, entry.getKey(), throwable.getMessage());
+          return null;
+        })
+        .mapEmpty());
+    }
+
+    return allStored.map(stored);
+  }
+
+  private static void addError(FeeFineImportResult result, int line, String message) {
+    result.setFailedCount(result.getFailedCount() + 1);
+
+    if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+      result.getErrors().add(new FeeFineImportError()
+        .withLine(line)
+        .withMessage(message));
+    }
+  }
+
+  private static void closeQuietly(BufferedReader reader) {
+    try {
+      reader.close();
+    } catch (IOException e) {
+      log.warn("Failed to close import input", e);
+    }
+  }
+
+  private Future<Integer> publishActionLogEvents(List<Feefineaction> actions) {
+    final List<String> accountIds = actions.stream()
+      .map(Feefineaction::getAccountId)
+      .filter(Objects::nonNull)
+      .distinct()
+      .collect(toList());
+
+    if (accountIds.isEmpty()) {
+      return succeededFuture(0);
+    }
+
+    return accountRepository.getAccountsById(accountIds)
+      .compose(accounts -> findFeeFines(accounts.values())
+        .compose(feeFines -> CompositeFuture.all(actions.stream()
+          .filter(action -> accounts.containsKey(action.getAccountId()))
+          .map(action -> {
+            Account account = accounts.get(action.getAccountId());
+            return buildFeeFineLogEventPayload(action, account,
+              feeFines.get(account.getFeeFineId()));
+          })
+          .collect(toList()))))
+      .compose(payloads -> toFuture(logEventPublisher.publishLogEvents(payloads.list(),
+        FEE_FINE)))
+      // imported records stay stored even if pub-sub is unavailable
+      .otherwise(throwable -> {
+        log.warn("Failed to publish log events of imported fee/fine actions", throwable);
+        return actions.size();
+      });
+  }
+
+  private static Future<Integer> toFuture(CompletableFuture<Integer> failedPublishCount) {
+    Promise<Integer> promise = Promise.promise();
+
+    failedPublishCount.whenComplete((failed, throwable) -> {
+      if (throwable != null) {
+        promise.fail(throwable);
+      } else {
+        if (failed > 0) {
+          log.warn("Failed to publish {} events of imported records", failed);
+        }
+        promise.complete(failed);
+      }
+    });
+
+    return promise.future();
+  }
+
+  private Future<Map<String, Feefine>> findFeeFines(Iterable<Account> accounts) {
+    final Map<String, Feefine> feeFines = new HashMap<>();
+    Future<Void> allFound = succeededFuture();
+
+    for (Account account : accounts) {
+      String feeFineId = account.getFeeFineId();
+      if (feeFineId == null || feeFines.containsKey(feeFineId)) {
+        continue;
+      }
+
+      feeFines.put(feeFineId, null);
+      allFound = allFound.compose(ignored -> feeFineRepository.getById(feeFineId)
+        .onSuccess(feeFine -> feeFines.put(feeFineId, feeFine))
+        .mapEmpty());
+    }
+
+    return allFound.map(feeFines);
+  }
+
+  private abstract static class RecordImporter<T> {
+    private final Class<T> type;
+    final boolean publishEvents;
+
+    RecordImporter(Class<T> type, boolean publishEvents) {
+      this.type = type;
+      this.publishEvents = publishEvents;
+    }
+
+    abstract String getId(T record);
+
+    abstract void setId(T record, String id);
+
+    abstract Future<List<T>> saveBatch(List<T> records);
+
+    abstract Future<T> save(T record);
+
+    /**
+     * Returns the number of events which could not be published.
+     */
+    abstract Future<Integer> publishEvents(List<T> records);
+  }
+
+  private class AccountImporter extends RecordImporter<Account> {
+    AccountImporter(boolean publishEvents) {
+      super(Account.class, publishEvents);
+    }
+
+    @Override
+    String getId(Account account) {
+      return account.getId();
+    }
+
+    @Override
+    void setId(Account account, String id) {
+      account.setId(id);
+    }
+
+    @Override
+    Future<List<Account>> saveBatch(List<Account> accounts) {
+      return accountRepository.saveBatch(accounts);
+    }
+
+    @Override
+    Future<Account> save(Account account) {
+      return accountRepository.save(account);
+    }
+
+    @Override
+    Future<Integer> publishEvents(List<Account> accounts) {
+      return publishEvents
+        ? toFuture(accountEventPublisher.publishAccountBalanceChangeEvents(accounts))
+        : succeededFuture(0);
+    }
+  }
+
+  private class ActionImporter extends RecordImporter<Feefineaction> {
+    ActionImporter(boolean publishEvents) {
+      super(Feefineaction.class, publishEvents);
+    }
+
+    @Override
+    String getId(Feefineaction action) {
+      return action.getId();
+    }
+
+    @Override
+    void setId(Feefineaction action, String id) {
+      action.setId(id);
+    }
+
+    @Override
+    Future<List<Feefineaction>> saveBatch(List<Feefineaction> actions) {
+      return feeFineActionRepository.saveBatch(actions);
+    }
+
+    @Override
+    Future<Feefineaction> save(Feefineaction action) {
+      return feeFineActionRepository.save(action);
+    }
+
+    @Override
+    Future<Integer> publishEvents(List<Feefineaction> actions) {
+      return publishEvents ? publishActionLogEvents(actions) : succeededFuture(0);
+    }
+  }
+}
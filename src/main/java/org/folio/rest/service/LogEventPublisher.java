@@ -1,9 +1,12 @@
 package org.folio.rest.service;
 
+import static java.util.stream.Collectors.toList;
 import static org.folio.rest.domain.EventType.LOG_RECORD;
 import static org.folio.rest.utils.JsonHelper.write;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import io.vertx.core.Context;
 import io.vertx.core.Vertx;
@@ -27,6 +30,18 @@ public class LogEventPublisher {
     eventPublisher.publishEventAsynchronously(LOG_RECORD, payload.encode());
   }
 
+  /**
+   * Publishes a log event for each of the records, see {@link EventPublisher#publishEvents}.
+   * The returned future completes with the number of events which could not be published.
+   */
+  public CompletableFuture<Integer> publishLogEvents(List<JsonObject> jsons,
+    LogEventPayloadType logEventPayloadType) {
+
+    return eventPublisher.publishEvents(LOG_RECORD, jsons.stream()
+      .map(json -> createLogRecordPayload(json, logEventPayloadType).encode())
+      .collect(toList()));
+  }
+
   private JsonObject createLogRecordPayload(JsonObject payload, LogEventPayloadType logEventPayloadType) {
     JsonObject logEventPayload = new JsonObject();
     write(logEventPayload, LOG_EVENT_TYPE, logEventPayloadType.value());
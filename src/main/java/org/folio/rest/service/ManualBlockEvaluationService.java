@@ -0,0 +1,120 @@
+package org.folio.rest.service;
+
+import static java.util.stream.Collectors.toList;
+import static org.apache.commons.lang3.BooleanUtils.isTrue;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import org.apache.commons.lang3.BooleanUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.cache.PerTenantCache;
+import org.folio.rest.jaxrs.model.ManualBlockEvaluation;
+import org.folio.rest.jaxrs.model.ManualBlockEvaluationBlock;
+import org.folio.rest.jaxrs.model.Manualblock;
+import org.folio.rest.repository.ManualBlockRepository;
+import org.folio.rest.tools.utils.TenantTool;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+
+/**
+ * Evaluates manual blocks of patrons. Blocks of a patron are cached until a block of the patron
+ * is created, updated or deleted through this module instance; the time-to-live, read from the
+ * environment variable {@code MANUAL_BLOCKS_CACHE_TTL_MS} (5 seconds by default), bounds how long
+ * changes made through other instances stay unnoticed. Blocks which expire while cached are
+ * dropped when the evaluation is built.
+ */
+public class ManualBlockEvaluationService {
+  private static final Logger log = LogManager.getLogger(ManualBlockEvaluationService.class);
+
+  static final String CACHE_TTL_MS = "MANUAL_BLOCKS_CACHE_TTL_MS";
+  static final long DEFAULT_CACHE_TTL_MS = 5000;
+
+  private static final PerTenantCache<List<Manualblock>> blocksCache =
+    PerTenantCache.create("manual-blocks", getCacheTtl(System::getenv), 10_000);
+
+  private final ManualBlockRepository manualBlockRepository;
+  private final String tenantId;
+
+  public ManualBlockEvaluationService(Context context, Map<String, String> headers) {
+    manualBlockRepository = new ManualBlockRepository(context, headers);
+    tenantId = TenantTool.tenantId(headers);
+  }
+
+  public Future<List<ManualBlockEvaluation>> evaluate(Collection<String> userIds) {
+    LinkedHashSet<String> uniqueUserIds = new LinkedHashSet<>(userIds);
+
+    return blocksCache.forTenant(tenantId)
+      .getAll(uniqueUserIds, manualBlockRepository::findActiveBlocks)
+      .map(blocks -> uniqueUserIds.stream()
+        .map(userId -> buildEvaluation(userId, blocks.get(userId)))
+        .collect(toList()));
+  }
+
+  public static void invalidate(Map<String, String> headers, String... userIds) {
+    String tenantId = TenantTool.tenantId(headers);
+
+    for (String userId : userIds) {
+      if (userId != null) {
+        blocksCache.forTenant(tenantId).invalidate(userId);
+      }
+    }
+  }
+
+  private static ManualBlockEvaluation buildEvaluation(String userId, List<Manualblock> blocks) {
+    Date now = new Date();
+
+    List<ManualBlockEvaluationBlock> activeBlocks = blocks == null ? List.of() : blocks.stream()
+      .filter(block -> block.getExpirationDate() == null || block.getExpirationDate().after(now))
+      .map(ManualBlockEvaluationService::toEvaluationBlock)
+      .collect(toList());
+
+    return new ManualBlockEvaluation()
+      .withUserId(userId)
+      .withBorrowing(anyBlocks(activeBlocks, ManualBlockEvaluationBlock::getBorrowing))
+      .withRenewals(anyBlocks(activeBlocks, ManualBlockEvaluationBlock::getRenewals))
+      .withRequests(anyBlocks(activeBlocks, ManualBlockEvaluationBlock::getRequests))
+      .withBlocks(activeBlocks);
+  }
+
+  private static boolean anyBlocks(List<ManualBlockEvaluationBlock> blocks,
+    Function<ManualBlockEvaluationBlock, Boolean> flag) {
+
+    return blocks.stream().map(flag).anyMatch(BooleanUtils::isTrue);
+  }
+
+  private static ManualBlockEvaluationBlock toEvaluationBlock(Manualblock block) {
+    return new ManualBlockEvaluationBlock()
+      .withId(block.getId())
+      .withType(block.getType())
+      .withDesc(block.getDesc())
+      .withPatronMessage(block.getPatronMessage())
+      .withExpirationDate(block.getExpirationDate())
+      .withBorrowing(isTrue(block.getBorrowing()))
+      .withRenewals(isTrue(block.getRenewals()))
+      .withRequests(isTrue(block.getRequests()));
+  }
+
+  static Duration getCacheTtl(UnaryOperator<String> environment) {
+    String value = environment.apply(CACHE_TTL_MS);
+
+    if (value == null || value.isBlank()) {
+      return Duration.ofMillis(DEFAULT_CACHE_TTL_MS);
+    }
+
+    try {
+      return Duration.ofMillis(Math.max(Long.parseLong(value.trim()), 0));
+    } catch (NumberFormatException e) {
+      log.warn("Invalid value of {}: {}, using {}", CACHE_TTL_MS, value, DEFAULT_CACHE_TTL_MS);
+      return Duration.ofMillis(DEFAULT_CACHE_TTL_MS);
+    }
+  }
+}
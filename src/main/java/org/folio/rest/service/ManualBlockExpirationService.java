@@ -0,0 +1,139 @@
+package org.folio.rest.service;
+
+import static io.vertx.core.Future.succeededFuture;
+import static java.util.stream.Collectors.toList;
+import static org.folio.rest.service.LogEventPublisher.LogEventPayloadType.MANUAL_BLOCK_DELETED;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.folio.rest.jaxrs.model.ManualBlockExpirationResult;
+import org.folio.rest.jaxrs.model.Manualblock;
+import org.folio.rest.repository.ManualBlockRepository;
+import org.folio.rest.tools.utils.TenantTool;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Deletes expired manual blocks in bounded batches. Log events of a batch are published before
+ * the next batch is deleted, so a run never has more than one batch of events in flight.
+ */
+public class ManualBlockExpirationService {
+  private static final Logger log = LogManager.getLogger(ManualBlockExpirationService.class);
+
+  private static final AtomicLong runs = new AtomicLong();
+  private static final AtomicLong failedRuns = new AtomicLong();
+  private static final AtomicLong deletedBlocks = new AtomicLong();
+  private static final AtomicLong lastRunDurationMs = new AtomicLong();
+
+  private final ManualBlockRepository manualBlockRepository;
+  private final LogEventPublisher logEventPublisher;
+  private final Map<String, String> headers;
+  private final String tenantId;
+
+  public ManualBlockExpirationService(Context context, Map<String, String> headers) {
+    this.manualBlockRepository = new ManualBlockRepository(context, headers);
+    this.logEventPublisher = new LogEventPublisher(context, headers);
+    this.headers = headers;
+    this.tenantId = TenantTool.tenantId(headers);
+  }
+
+  public Future<ManualBlockExpirationResult> deleteExpiredBlocks(int batchSize, int maxBatches) {
+    final long startTime = System.currentTimeMillis();
+    final Instant now = Instant.now();
+    final ManualBlockExpirationResult result = new ManualBlockExpirationResult()
+      .withDeletedCount(0)
+      .withBatchCount(0)
+      .withCompleted(false);
+
+    runs.incrementAndGet();
+
+    return deleteBatches(now, batchSize, maxBatches, result)
+      .map(finalResult -> {
+        long duration = System.currentTimeMillis() - startTime;
+        lastRunDurationMs.set(duration);
+        log.info("Deleted {} expired manual blocks of tenant {} in {} batches, {} ms",
+          finalResult.getDeletedCount(), tenantId, finalResult.getBatchCount(), duration);
+        return finalResult.withDurationMs((int) duration);
+      })
+      .onFailure(throwable -> {
+        failedRuns.incrementAndGet();
+        log.error("Failed to delete expired manual blocks of tenant " + tenantId, throwable);
+      });
+  }
+
+  private Future<ManualBlockExpirationResult> deleteBatches(Instant now, int batchSize,
+    int maxBatches, ManualBlockExpirationResult result) {
+
+    if (result.getBatchCount() >= maxBatches) {
+      return succeededFuture(result);
+    }
+
+    return manualBlockRepository.deleteExpiredBlocks(now, batchSize)
+      .compose(blocks -> publishDeletedEvents(blocks).map(blocks))
+      .compose(blocks -> {
+        deletedBlocks.addAndGet(blocks.size());
+        result
+          .withDeletedCount(result.getDeletedCount() + blocks.size())
+          .withBatchCount(result.getBatchCount() + 1);
+
+        if (blocks.size() < batchSize) {
+          return succeededFuture(result.withCompleted(true));
+        }
+
+        return deleteBatches(now, batchSize, maxBatches, result);
+      });
+  }
+
+  private Future<Void> publishDeletedEvents(List<Manualblock> blocks) {
+    if (blocks.isEmpty()) {
+      return succeededFuture();
+    }
+
+    ManualBlockEvaluationService.invalidate(headers, blocks.stream()
+      .map(Manualblock::getUserId)
+      .distinct()
+      .toArray(String[]::new));
+
+    Promise<Void> promise = Promise.promise();
+
+    // deletion proceeds even if pub-sub is unavailable
+    logEventPublisher.publishLogEvents(blocks.stream()
+      .map(JsonObject::mapFrom)
+      .collect(toList()), MANUAL_BLOCK_DELETED)
+      .whenComplete((failedCount, throwable) -> {
+        if (throwable != null) {
+          log.warn("Failed to publish log events of deleted manual blocks", throwable);
+        } else if (failedCount > 0) {
+          log.warn("Failed to publish {} of {} log events of deleted manual blocks",
+            failedCount, blocks.size());
+        }
+        promise.complete();
+      });
+
+    return promise.future();
+  }
+
+  public static long getRunCount() {
+    return runs.get();
+  }
+
+  public static long getFailedRunCount() {
+    return failedRuns.get();
+  }
+
+  public static long getDeletedBlockCount() {
+    return deletedBlocks.get();
+  }
+
+  public static long getLastRunDurationMs() {
+    return lastRunDurationMs.get();
+  }
+}
@@ -1,7 +1,10 @@
 package org.folio.rest.service;
 
+import static io.vertx.core.CompositeFuture.all;
 import static io.vertx.core.Future.failedFuture;
 import static io.vertx.core.Future.succeededFuture;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
 import static org.folio.rest.domain.logs.LogEventPayloadField.DATE;
 import static org.folio.rest.service.LogEventPublisher.LogEventPayloadType.NOTICE;
 import static org.folio.rest.utils.FeeFineActionHelper.isAction;
@@ -9,12 +12,19 @@ import static org.folio.rest.utils.FeeFineActionHelper.isCharge;
 import static org.folio.util.UuidUtil.isUuid;
 
 import io.vertx.core.AsyncResult;
+import io.vertx.core.CompositeFuture;
 import io.vertx.core.Future;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.folio.rest.client.InventoryClient;
@@ -23,10 +33,12 @@ import org.folio.rest.client.UsersClient;
 import org.folio.rest.domain.FeeFineNoticeContext;
 import org.folio.rest.domain.logs.LogEventPayloadHelper;
 import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.Feefine;
 import org.folio.rest.jaxrs.model.Feefineaction;
 import org.folio.rest.jaxrs.model.HoldingsRecord;
 import org.folio.rest.jaxrs.model.Item;
 import org.folio.rest.jaxrs.model.Location;
+import org.folio.rest.jaxrs.model.Owner;
 import org.folio.rest.persist.PgUtil;
 import org.folio.rest.persist.PostgresClient;
 import org.folio.rest.repository.AccountRepository;
@@ -86,6 +98,100 @@ public class PatronNoticeService {
       .onComplete(this::handleSendPatronNoticeResult);
   }
 
+  /**
+   * Sends one notice per patron and template for all given actions instead of a notice per
+   * action. Used for bulk actions, where a single request affects many accounts of a patron.
+   */
+  public void sendPatronNoticeDigest(List<Feefineaction> actions) {
+    if (actions.size() == 1) {
+      sendPatronNotice(actions.get(0));
+      return;
+    }
+
+    // fee/fine types and owners are usually shared by all actions of a bulk action
+    Map<String, Future<Feefine>> feefines = new HashMap<>();
+    Map<String, Future<Owner>> owners = new HashMap<>();
+
+    all(actions.stream()
+      .map(action -> loadNoticeContext(action, feefines, owners))
+      .collect(toList()))
+      .map(CompositeFuture::<FeeFineNoticeContext>list)
+      .map(this::groupByPatronAndTemplate)
+      .onSuccess(groups -> groups.forEach(this::sendPatronNoticeDigestForGroup))
+      .onFailure(throwable -> logger.error("Failed to prepare patron notice digest", throwable));
+  }
+
+  private Future<FeeFineNoticeContext> loadNoticeContext(Feefineaction action,
+    Map<String, Future<Feefine>> feefines, Map<String, Future<Owner>> owners) {
+
+    return createContext(action)
+      .compose(this::loadChargeIfMissing)
+      .compose(accountRepository::loadAccount)
+      .compose(ctx -> loadFeefine(ctx, feefines))
+      .compose(ctx -> loadOwner(ctx, owners))
+      .compose(this::refuseWhenEmptyTemplateId)
+      .compose(this::fetchItem)
+      .compose(this::fetchHolding)
+      .compose(this::fetchInstance)
+      .compose(this::fetchLocation)
+      .otherwise(throwable -> {
+        logger.error("Patron notice will not be sent for fee/fine action {}: {}",
+          action.getId(), throwable.getMessage());
+        return null;
+      });
+  }
+
+  private Future<FeeFineNoticeContext> loadFeefine(FeeFineNoticeContext context,
+    Map<String, Future<Feefine>> feefines) {
+
+    final String feeFineId = Optional.ofNullable(context.getAccount())
+      .map(Account::getFeeFineId)
+      .orElse(null);
+
+    if (feeFineId == null) {
+      return failedFuture(new IllegalArgumentException("Fee fine id is not present"));
+    }
+
+    return feefines.computeIfAbsent(feeFineId, feeFineRepository::getById)
+      .map(context::withFeefine);
+  }
+
+  private Future<FeeFineNoticeContext> loadOwner(FeeFineNoticeContext context,
+    Map<String, Future<Owner>> owners) {
+
+    final String ownerId = Optional.ofNullable(context.getFeefine())
+      .map(Feefine::getOwnerId)
+      .orElse(null);
+
+    if (ownerId == null) {
+      return failedFuture(new IllegalArgumentException("Owner id is not present"));
+    }
+
+    return owners.computeIfAbsent(ownerId, ownerRepository::getById)
+      .map(context::withOwner);
+  }
+
+  private Collection<List<FeeFineNoticeContext>> groupByPatronAndTemplate(
+    List<FeeFineNoticeContext> contexts) {
+
+    return contexts.stream()
+      .filter(Objects::nonNull)
+      .collect(groupingBy(ctx -> Pair.of(ctx.getUserId(), ctx.getTemplateId()),
+        LinkedHashMap::new, toList()))
+      .values();
+  }
+
+  private void sendPatronNoticeDigestForGroup(List<FeeFineNoticeContext> contexts) {
+    usersClient.fetchUserById(contexts.get(0).getUserId())
+      .map(user -> contexts.stream()
+        .map(ctx -> ctx.withUser(user))
+        .collect(toList()))
+      .compose(ctxs -> patronNoticeClient.postPatronNotice(PatronNoticeBuilder.buildDigestNotice(ctxs))
+        .map(ctxs))
+      .compose(this::publishLogEvents)
+      .onComplete(this::handleSendPatronNoticeResult);
+  }
+
   private Future<FeeFineNoticeContext> createContext(Feefineaction action) {
     FeeFineNoticeContext context = new FeeFineNoticeContext();
 
@@ -223,6 +329,15 @@ public class PatronNoticeService {
     }
   }
 
+  private Future<Void> publishLogEvents(List<FeeFineNoticeContext> contexts) {
+    contexts.forEach(ctx -> {
+      JsonObject payload = LogEventPayloadHelper.buildNoticeLogEventPayload(ctx)
+        .put(DATE.value(), DateTime.now().toString(ISODateTimeFormat.dateTime()));
+      CompletableFuture.runAsync(() -> logEventPublisher.publishLogEvent(payload, NOTICE));
+    });
+    return succeededFuture();
+  }
+
   private Future<Void> publishLogEvent() {
     logEventPayload.put(DATE.value(), DateTime.now().toString(ISODateTimeFormat.dateTime()));
     CompletableFuture.runAsync(() -> logEventPublisher.publishLogEvent(logEventPayload, NOTICE));
@@ -7,7 +7,8 @@ import static java.util.stream.Collectors.toMap;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
 import static org.folio.rest.domain.Action.CREDIT;
 import static org.folio.rest.domain.FeeFineStatus.CLOSED;
-import static org.folio.rest.persist.PostgresClient.getInstance;
+import static org.folio.rest.metrics.ServerTiming.Phase.EVENTS;
+import static org.folio.rest.metrics.ServerTiming.Phase.VALIDATION;
 import static org.folio.rest.service.LogEventPublisher.LogEventPayloadType.FEE_FINE;
 import static org.folio.rest.tools.utils.TenantTool.tenantId;
 
@@ -16,13 +17,15 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 
 import org.folio.rest.domain.Action;
 import org.folio.rest.domain.ActionRequest;
 import org.folio.rest.domain.MonetaryValue;
 import org.folio.rest.jaxrs.model.Account;
 import org.folio.rest.jaxrs.model.Feefineaction;
-import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.metrics.MetricsRecorder;
+import org.folio.rest.metrics.ServerTiming;
 import org.folio.rest.repository.AccountRepository;
 import org.folio.rest.repository.FeeFineActionRepository;
 import org.folio.rest.service.AccountUpdateService;
@@ -50,14 +53,13 @@ public abstract class ActionService {
   private final LogEventService logEventService;
   private final LogEventPublisher logEventPublisher;
   private final Map<String, String> headers;
+  private final ServerTiming serverTiming;
 
   protected ActionService(Action action, ActionValidationService validationService,
     Map<String, String> headers, Context context) {
 
-    PostgresClient postgresClient = getInstance(context.owner(), tenantId(headers));
-
     this.action = action;
-    this.accountRepository = new AccountRepository(postgresClient);
+    this.accountRepository = new AccountRepository(context, headers);
     this.feeFineActionRepository = new FeeFineActionRepository(headers, context);
     this.accountUpdateService = new AccountUpdateService(headers, context);
     this.patronNoticeService = new PatronNoticeService(context.owner(), headers);
@@ -66,16 +68,15 @@ public abstract class ActionService {
     this.logEventService = new LogEventService(context.owner(), headers);
     this.logEventPublisher = new LogEventPublisher(context.owner(), headers);
     this.headers = headers;
+    this.serverTiming = ServerTiming.of(headers);
   }
 
   protected ActionService(Action action, ActionValidationService validationService,
     BulkActionAmountSplitterStrategy bulkActionAmountSplitterStrategy,
     Map<String, String> headers, Context context) {
 
-    PostgresClient postgresClient = getInstance(context.owner(), tenantId(headers));
-
     this.action = action;
-    this.accountRepository = new AccountRepository(postgresClient);
+    this.accountRepository = new AccountRepository(context, headers);
     this.feeFineActionRepository = new FeeFineActionRepository(headers, context);
     this.accountUpdateService = new AccountUpdateService(headers, context);
     this.patronNoticeService = new PatronNoticeService(context.owner(), headers);
@@ -84,16 +85,32 @@ public abstract class ActionService {
     this.logEventService = new LogEventService(context.owner(), headers);
     this.logEventPublisher = new LogEventPublisher(context.owner(), headers);
     this.headers = headers;
+    this.serverTiming = ServerTiming.of(headers);
   }
 
   public Future<ActionContext> performAction(ActionRequest request) {
-    return succeededFuture(new ActionContext(request))
-      .compose(this::findAccounts)
-      .compose(this::validateAction)
-      .compose(this::createFeeFineActions)
-      .compose(this::publishLogEvents)
-      .compose(this::updateAccounts)
-      .compose(this::sendPatronNotice);
+    return MetricsRecorder.timeAction(metricsActionName(), tenantId(headers),
+      () -> succeededFuture(new ActionContext(request))
+        .compose(context -> timeStage("findAccounts", context, this::findAccounts))
+        .compose(context -> serverTiming.time(VALIDATION,
+          () -> timeStage("validateAction", context, this::validateAction)))
+        .compose(context -> timeStage("createFeeFineActions", context,
+          this::createFeeFineActions))
+        .compose(context -> serverTiming.time(EVENTS,
+          () -> timeStage("publishLogEvents", context, this::publishLogEvents)))
+        .compose(context -> timeStage("updateAccounts", context, this::updateAccounts))
+        .compose(context -> timeStage("sendPatronNotice", context, this::sendPatronNotice)));
+  }
+
+  private Future<ActionContext> timeStage(String stage, ActionContext context,
+    Function<ActionContext, Future<ActionContext>> stageFunction) {
+
+    return MetricsRecorder.timeActionStage(metricsActionName(), stage, tenantId(headers),
+      () -> stageFunction.apply(context));
+  }
+
+  private String metricsActionName() {
+    return action.name().toLowerCase();
   }
 
   private Future<ActionContext> findAccounts(ActionContext context) {
@@ -175,10 +192,14 @@ public abstract class ActionService {
 
   private Future<ActionContext> sendPatronNotice(ActionContext context) {
     if (isTrue(context.getRequest().getNotifyPatron())) {
-      context.getFeeFineActions().stream()
+      List<Feefineaction> actionsToNotify = context.getFeeFineActions().stream()
         // do not send notices for CREDIT actions
         .filter(ffa -> !CREDIT.isActionForResult(ffa.getTypeAction()))
-        .forEach(patronNoticeService::sendPatronNotice);
+        .collect(toList());
+
+      if (!actionsToNotify.isEmpty()) {
+        patronNoticeService.sendPatronNoticeDigest(actionsToNotify);
+      }
     }
     return succeededFuture(context);
   }
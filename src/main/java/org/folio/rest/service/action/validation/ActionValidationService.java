@@ -15,9 +15,8 @@ import org.folio.rest.domain.MonetaryValue;
 import org.folio.rest.exception.AccountNotFoundValidationException;
 import org.folio.rest.exception.FailedValidationException;
 import org.folio.rest.jaxrs.model.Account;
-import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.metrics.ServerTiming;
 import org.folio.rest.repository.AccountRepository;
-import org.folio.rest.tools.utils.TenantTool;
 
 import io.vertx.core.Context;
 import io.vertx.core.Future;
@@ -26,16 +25,16 @@ public abstract class ActionValidationService {
   private static final Logger logger = LogManager.getLogger(ActionValidationService.class);
 
   private final AccountRepository accountRepository;
+  private final ServerTiming serverTiming;
 
   public ActionValidationService(AccountRepository accountRepository) {
     this.accountRepository = accountRepository;
+    this.serverTiming = ServerTiming.DISABLED;
   }
 
   public ActionValidationService(Map<String, String> headers, Context context) {
-    PostgresClient postgresClient = PostgresClient.getInstance(context.owner(),
-      TenantTool.tenantId(headers));
-
-    this.accountRepository = new AccountRepository(postgresClient);
+    this.accountRepository = new AccountRepository(context, headers);
+    this.serverTiming = ServerTiming.of(headers);
   }
 
   public Future<ActionValidationResult> validateById(String accountId, String rawAmount) {
@@ -44,7 +43,8 @@ public abstract class ActionValidationService {
 
   public Future<ActionValidationResult> validateByIds(List<String> accountIds, String rawAmount) {
     return accountRepository.getAccountsByIdWithNulls(accountIds)
-      .compose(accountsMap -> validate(accountsMap, rawAmount));
+      .compose(accountsMap -> serverTiming.time(ServerTiming.Phase.VALIDATION,
+        () -> validate(accountsMap, rawAmount)));
   }
 
   protected Future<ActionValidationResult> validate(String accountId, Account account,
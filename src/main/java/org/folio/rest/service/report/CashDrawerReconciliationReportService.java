@@ -3,8 +3,6 @@ package org.folio.rest.service.report;
 import static java.math.BigDecimal.ZERO;
 import static org.folio.rest.domain.Action.PAY;
 import static org.folio.rest.repository.FeeFineActionRepository.ORDER_BY_OWNER_SOURCE_DATE_ASC;
-import static org.folio.rest.utils.FeeFineActionHelper.getPatronInfoFromComment;
-import static org.folio.rest.utils.FeeFineActionHelper.getStaffInfoFromComment;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -26,6 +24,7 @@ import org.folio.rest.jaxrs.model.Feefineaction;
 import org.folio.rest.jaxrs.model.ReportTotalsEntry;
 import org.folio.rest.repository.FeeFineActionRepository;
 import org.folio.rest.service.report.parameters.CashDrawerReconciliationReportParameters;
+import org.folio.rest.utils.FeeFineComments;
 
 import io.vertx.core.Context;
 import io.vertx.core.Future;
@@ -41,9 +40,15 @@ public class CashDrawerReconciliationReportService extends
   private final FeeFineActionRepository feeFineActionRepository;
 
   public CashDrawerReconciliationReportService(Map<String, String> headers, Context context) {
+    this(headers, context, false);
+  }
+
+  public CashDrawerReconciliationReportService(Map<String, String> headers, Context context,
+    boolean includeArchived) {
+
     super(headers, context);
 
-    feeFineActionRepository = new FeeFineActionRepository(headers, context);
+    feeFineActionRepository = new FeeFineActionRepository(headers, context, includeArchived);
   }
 
   public Future<CashDrawerReconciliationReportSources> findSources(String createdAt) {
@@ -73,7 +78,7 @@ public class CashDrawerReconciliationReportService extends
       .map(this::buildReport);
   }
 
-  private CashDrawerReconciliationReport buildReport(Map<Feefineaction,
+  CashDrawerReconciliationReport buildReport(Map<Feefineaction,
     Account> actionsToAccounts) {
 
     List<CashDrawerReconciliationReportEntry> entryList = actionsToAccounts.keySet().stream()
@@ -91,6 +96,8 @@ public class CashDrawerReconciliationReportService extends
     CashDrawerReconciliationReportEntry entry = new CashDrawerReconciliationReportEntry();
 
     if (action != null) {
+      FeeFineComments comments = rowFormatter.parseComments(action.getComments());
+
       entry = entry
         .withSource(action.getSource())
         .withPaymentMethod(action.getPaymentMethod())
@@ -98,8 +105,8 @@ public class CashDrawerReconciliationReportService extends
         .withPaymentDate(formatDate(action.getDateAction()))
         .withPaymentStatus(action.getTypeAction())
         .withTransactionInfo(action.getTransactionInformation())
-        .withAdditionalStaffInfo(getStaffInfoFromComment(action))
-        .withAdditionalPatronInfo(getPatronInfoFromComment(action))
+        .withAdditionalStaffInfo(comments.getStaffInfo())
+        .withAdditionalPatronInfo(comments.getPatronInfo())
         .withFeeFineId(action.getAccountId())
         .withPatronId(action.getUserId());
     }
@@ -205,6 +212,6 @@ public class CashDrawerReconciliationReportService extends
   }
 
   private String formatMonetaryValue(Double value) {
-    return new MonetaryValue(value, currency).toString();
+    return rowFormatter.formatMonetaryValue(value);
   }
 }
@@ -11,10 +11,7 @@ import java.util.Map;
 import org.folio.rest.client.ConfigurationClient;
 import org.folio.rest.domain.LocaleSettings;
 import org.folio.rest.service.report.parameters.DateBasedReportParameters;
-import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
-import org.joda.time.format.DateTimeFormat;
-import org.joda.time.format.DateTimeFormatter;
 import org.joda.time.format.ISODateTimeFormat;
 
 import io.vertx.core.Context;
@@ -28,8 +25,7 @@ public abstract class DateBasedReportService<T, P> {
   private final ConfigurationClient configurationClient;
 
   DateTimeZone timeZone;
-  DateTimeFormatter dateTimeFormatter;
-  Currency currency;
+  ReportRowFormatter rowFormatter;
 
   public DateBasedReportService(Map<String, String> headers, Context context) {
     configurationClient = new ConfigurationClient(context.owner(), headers);
@@ -39,9 +35,7 @@ public abstract class DateBasedReportService<T, P> {
 
   void setUpLocale(LocaleSettings localeSettings) {
     timeZone = localeSettings.getDateTimeZone();
-    dateTimeFormatter = DateTimeFormat.forPattern(DateTimeFormat.patternForStyle("SS",
-      Locale.forLanguageTag(localeSettings.getLocale())));
-    currency = Currency.getInstance(localeSettings.getCurrency());
+    rowFormatter = new ReportRowFormatter(localeSettings);
   }
 
   public Future<Void> adjustDates(DateBasedReportParameters params) {
@@ -73,6 +67,6 @@ public abstract class DateBasedReportService<T, P> {
   }
 
   String formatDate(Date date) {
-    return new DateTime(date).withZone(timeZone).toString(dateTimeFormatter);
+    return rowFormatter.formatDate(date);
   }
 }
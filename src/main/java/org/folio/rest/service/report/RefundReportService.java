@@ -6,8 +6,6 @@ import static java.math.BigDecimal.ZERO;
 import static org.folio.rest.domain.Action.PAY;
 import static org.folio.rest.domain.Action.REFUND;
 import static org.folio.rest.domain.Action.TRANSFER;
-import static org.folio.rest.utils.FeeFineActionHelper.getPatronInfoFromComment;
-import static org.folio.rest.utils.FeeFineActionHelper.getStaffInfoFromComment;
 import static org.folio.util.UuidUtil.isUuid;
 import static org.joda.time.DateTimeZone.UTC;
 
@@ -44,10 +42,9 @@ import org.folio.rest.jaxrs.model.User;
 import org.folio.rest.jaxrs.model.UserGroup;
 import org.folio.rest.repository.AccountRepository;
 import org.folio.rest.repository.FeeFineActionRepository;
+import org.folio.rest.utils.FeeFineComments;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
-import org.joda.time.format.DateTimeFormat;
-import org.joda.time.format.DateTimeFormatter;
 import org.joda.time.format.ISODateTimeFormat;
 
 import io.vertx.core.Context;
@@ -79,16 +76,21 @@ public class RefundReportService {
   private final AccountRepository accountRepository;
 
   private DateTimeZone timeZone;
-  private DateTimeFormatter dateTimeFormatter;
-  private Currency currency;
+  private ReportRowFormatter rowFormatter;
 
   public RefundReportService(Map<String, String> headers, Context context) {
+    this(headers, context, false);
+  }
+
+  public RefundReportService(Map<String, String> headers, Context context,
+    boolean includeArchived) {
+
     configurationClient = new ConfigurationClient(context.owner(), headers);
     inventoryClient = new InventoryClient(context.owner(), headers);
     usersClient = new UsersClient(context.owner(), headers);
     userGroupsClient = new UserGroupsClient(context.owner(), headers);
-    feeFineActionRepository = new FeeFineActionRepository(headers, context);
-    accountRepository = new AccountRepository(context, headers);
+    feeFineActionRepository = new FeeFineActionRepository(headers, context, includeArchived);
+    accountRepository = new AccountRepository(context, headers, includeArchived);
   }
 
   public Future<RefundReport> buildReport(DateTime startDate, DateTime endDate,
@@ -139,6 +141,7 @@ public class RefundReportService {
         ownerIds, REPORT_ROWS_LIMIT)
       .map(RefundReportService::toRefundDataMap)
       .map(ctx::withRefunds)
+      .compose(this::lookupUsersAndUserGroups)
       .compose(this::processAllRefundActions)
       .map(this::buildReportFromContext);
   }
@@ -149,6 +152,26 @@ public class RefundReportService {
       .collect(Collectors.toList()));
   }
 
+  private Future<RefundReportContext> lookupUsersAndUserGroups(RefundReportContext ctx) {
+    Set<String> userIds = ctx.refunds.values().stream()
+      .map(refundData -> refundData.refundAction.getUserId())
+      .filter(userId -> isUuid(userId))
+      .collect(Collectors.toSet());
+
+    return usersClient.fetchUsersByIds(userIds)
+      .onSuccess(ctx.users::putAll)
+      .compose(users -> userGroupsClient.fetchUserGroupsByIds(users.values().stream()
+        .map(User::getPatronGroup)
+        .filter(userGroupId -> isUuid(userGroupId))
+        .collect(Collectors.toSet())))
+      .onSuccess(ctx.userGroups::putAll)
+      .map(ctx)
+      .otherwise(throwable -> {
+        log.error("Failed to look up users and user groups in bulk: {}", throwable.getMessage());
+        return ctx;
+      });
+  }
+
   private Future<RefundReportContext> processAllRefundActions(RefundReportContext ctx) {
     return ctx.refunds.values().stream().reduce(succeededFuture(ctx),
         (f, r) -> f.compose(result -> processSingleRefundAction(ctx, r.refundAction)),
@@ -185,7 +208,7 @@ public class RefundReportService {
   private void processAccountAction(RefundReportContext ctx,
     String accountId, Feefineaction feeFineAction) {
 
-    log.info("Processing fee/fine action {}, account {}", feeFineAction.getId(), accountId);
+    log.debug("Processing fee/fine action {}, account {}", feeFineAction.getId(), accountId);
 
     AccountContextData accountData = ctx.accounts.get(accountId);
     AccountProcessingContext accountCtx = accountData.processingContext;
@@ -219,15 +242,16 @@ public class RefundReportService {
       User user = ctx.getUserByAccountId(accountId);
       UserGroup userGroup = ctx.getUserGroupByAccountId(accountId);
       Item item = ctx.getItemByAccountId(accountId);
+      FeeFineComments comments = rowFormatter.parseComments(feeFineAction.getComments());
 
       reportEntry
         .withFeeFineId(accountId)
-        .withRefundDate(formatDate(feeFineAction.getDateAction(), ctx.timeZone))
+        .withRefundDate(formatDate(feeFineAction.getDateAction()))
         .withRefundAmount(formatMonetaryValue(feeFineAction.getAmountAction()))
         .withRefundAction(feeFineAction.getTypeAction())
         .withRefundReason(feeFineAction.getPaymentMethod())
-        .withStaffInfo(getStaffInfoFromComment(feeFineAction))
-        .withPatronInfo(getPatronInfoFromComment(feeFineAction));
+        .withStaffInfo(comments.getStaffInfo())
+        .withPatronInfo(comments.getPatronInfo());
 
       if (user != null) {
         reportEntry
@@ -248,7 +272,7 @@ public class RefundReportService {
         reportEntry
           .withFeeFineType(account.getFeeFineType())
           .withBilledAmount(formatMonetaryValue(account.getAmount()))
-          .withDateBilled(formatDate(account.getMetadata().getCreatedDate(), ctx.timeZone))
+          .withDateBilled(formatDate(account.getMetadata().getCreatedDate()))
           .withFeeFineOwner(account.getFeeFineOwner());
       } else {
         log.error("Refund report - account is null, refund action {}", feeFineAction.getId());
@@ -271,7 +295,7 @@ public class RefundReportService {
           .withItemBarcode(getItemBarcode(ctx, accountId))
           .withInstance(accountData.instance);
       } else {
-        log.info("Refund report - item is null, refund action {}", feeFineAction.getId());
+        log.debug("Refund report - item is null, refund action {}", feeFineAction.getId());
       }
 
       ctx.refunds.put(feeFineAction.getId(), refundData.withReportEntry(reportEntry));
@@ -473,9 +497,7 @@ public class RefundReportService {
 
   private void setUpLocale(LocaleSettings localeSettings) {
     timeZone = localeSettings.getDateTimeZone();
-    dateTimeFormatter = DateTimeFormat.forPattern(DateTimeFormat.patternForStyle("SS",
-      Locale.forLanguageTag(localeSettings.getLocale())));
-    currency = Currency.getInstance(localeSettings.getCurrency());
+    rowFormatter = new ReportRowFormatter(localeSettings);
   }
 
   private static boolean actionIsOfType(Feefineaction feeFineAction, Action action) {
@@ -514,11 +536,11 @@ public class RefundReportService {
   }
 
   private String formatMonetaryValue(Double value) {
-    return new MonetaryValue(value, currency).toString();
+    return rowFormatter.formatMonetaryValue(value);
   }
 
-  private String formatDate(Date date, DateTimeZone timeZone) {
-    return new DateTime(date).withZone(timeZone).toString(dateTimeFormatter);
+  private String formatDate(Date date) {
+    return rowFormatter.formatDate(date);
   }
 
   private boolean isRefundedToPatron(Feefineaction feeFineAction) {
@@ -0,0 +1,97 @@
+package org.folio.rest.service.report;
+
+import java.util.Currency;
+import java.util.Date;
+import java.util.Locale;
+
+import org.folio.rest.domain.LocaleSettings;
+import org.folio.rest.domain.MonetaryValue;
+import org.folio.rest.utils.FeeFineComments;
+import org.joda.time.DateTimeUtils;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+
+/**
+ * Formats the values of report rows. It is created once per report, so the zone-aware date
+ * formatter and the currency scale are resolved once instead of for every row.
+ */
+class ReportRowFormatter {
+  private static final int MAX_FAST_PATH_FRACTION_DIGITS = 9;
+  // below this bound the spacing of doubles is under a quarter of a minor unit, so an amount
+  // which equals minorUnits / factor has no other decimal representation at currency scale
+  private static final double MAX_EXACT_MINOR_UNITS = 0x1p50;
+
+  private final DateTimeFormatter dateTimeFormatter;
+  private final Currency currency;
+  private final int fractionDigits;
+  private final long minorUnitsFactor;
+
+  ReportRowFormatter(LocaleSettings localeSettings) {
+    dateTimeFormatter = DateTimeFormat.forPattern(DateTimeFormat.patternForStyle("SS",
+      Locale.forLanguageTag(localeSettings.getLocale())))
+      .withZone(localeSettings.getDateTimeZone());
+    currency = Currency.getInstance(localeSettings.getCurrency());
+    fractionDigits = currency.getDefaultFractionDigits();
+    minorUnitsFactor = fractionDigits >= 0 && fractionDigits <= MAX_FAST_PATH_FRACTION_DIGITS
+      ? (long) Math.pow(10, fractionDigits) : 0;
+  }
+
+  /**
+   * Same as {@code new DateTime(date).withZone(timeZone).toString(formatter)}, including
+   * formatting the current time when the date is null.
+   */
+  String formatDate(Date date) {
+    return dateTimeFormatter.print(date == null
+      ? DateTimeUtils.currentTimeMillis()
+      : date.getTime());
+  }
+
+  /**
+   * Same as {@code new MonetaryValue(value, currency).toString()}. Values which are an exact
+   * number of minor units, which is nearly always the case, are printed from a long without
+   * going through BigDecimal.
+   */
+  String formatMonetaryValue(Double value) {
+    double amount = value;
+
+    if (minorUnitsFactor > 0) {
+      double scaled = amount * minorUnitsFactor;
+
+      if (Math.abs(scaled) < MAX_EXACT_MINOR_UNITS) {
+        long minorUnits = Math.round(scaled);
+
+        if (minorUnits / (double) minorUnitsFactor == amount) {
+          return formatMinorUnits(minorUnits);
+        }
+      }
+    }
+
+    return new MonetaryValue(value, currency).toString();
+  }
+
+  FeeFineComments parseComments(String comments) {
+    return FeeFineComments.parse(comments);
+  }
+
+  private String formatMinorUnits(long minorUnits) {
+    StringBuilder result = new StringBuilder(24);
+
+    if (minorUnits < 0) {
+      result.append('-');
+    }
+
+    long absoluteValue = Math.abs(minorUnits);
+    result.append(absoluteValue / minorUnitsFactor);
+
+    if (fractionDigits > 0) {
+      long fraction = absoluteValue % minorUnitsFactor;
+      result.append('.');
+
+      for (long divisor = minorUnitsFactor / 10; divisor > 0; divisor /= 10) {
+        result.append((char) ('0' + fraction / divisor % 10));
+      }
+    }
+
+    return result.toString();
+  }
+}
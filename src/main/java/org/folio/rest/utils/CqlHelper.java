@@ -0,0 +1,40 @@
+package org.folio.rest.utils;
+
+import static java.util.stream.Collectors.joining;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import java.util.Collection;
+
+import org.folio.cql2pgjson.CQL2PgJSON;
+import org.folio.cql2pgjson.exception.CQL2PgJSONException;
+
+/**
+ * Builds SQL conditions for hand-written queries from CQL, so that the conditions match the
+ * index expressions RMB creates for the fields in schema.json.
+ */
+public class CqlHelper {
+  private CqlHelper() {
+    throw new UnsupportedOperationException("Do not instantiate");
+  }
+
+  /**
+   * Translates a CQL query into a WHERE condition for {@code table}. Returns null for an
+   * empty query.
+   */
+  public static String toSqlCondition(String table, String cqlQuery) throws CQL2PgJSONException {
+    if (isBlank(cqlQuery)) {
+      return null;
+    }
+
+    return new CQL2PgJSON(table + ".jsonb").toSql(cqlQuery).getWhere();
+  }
+
+  /**
+   * Builds a CQL query matching records whose {@code field} exactly equals any of the values.
+   */
+  public static String exactMatchAny(String field, Collection<String> values) {
+    return values.stream()
+      .map(value -> "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"")
+      .collect(joining(" or ", field + "==(", ")"));
+  }
+}
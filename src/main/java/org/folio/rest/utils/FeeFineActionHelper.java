@@ -1,7 +1,5 @@
 package org.folio.rest.utils;
 
-import static org.apache.commons.lang.StringUtils.defaultString;
-
 import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.summingDouble;
@@ -10,12 +8,10 @@ import static org.folio.rest.domain.Action.TRANSFER;
 
 import java.util.Arrays;
 import java.util.Map;
-import java.util.stream.Collectors;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Predicate;
 
-import org.apache.commons.lang3.tuple.Pair;
 import org.folio.rest.domain.Action;
 import org.folio.rest.domain.MonetaryValue;
 import org.folio.rest.jaxrs.model.Feefineaction;
@@ -42,19 +38,15 @@ public class FeeFineActionHelper {
   }
 
   public static String getStaffInfoFromComment(Feefineaction action) {
-    return defaultString(parseFeeFineComments(action.getComments()).get(STAFF_COMMENTS_KEY));
+    return FeeFineComments.parse(action.getComments()).getStaffInfo();
   }
 
   public static String getPatronInfoFromComment(Feefineaction action) {
-    return defaultString(parseFeeFineComments(action.getComments()).get(PATRON_COMMENTS_KEY));
+    return FeeFineComments.parse(action.getComments()).getPatronInfo();
   }
 
   public static Map<String, String> parseFeeFineComments(String comments) {
-    return Arrays.stream(defaultString(comments).split(" \n "))
-      .map(s -> s.split(" : "))
-      .filter(arr -> arr.length == 2)
-      .map(strings -> Pair.of(strings[0], strings[1]))
-      .collect(Collectors.toMap(Pair::getKey, Pair::getValue, (s, s2) -> s));
+    return FeeFineComments.parseAll(comments);
   }
 
   public static Map<String, List<Feefineaction>> groupFeeFineActionsByAccountId(
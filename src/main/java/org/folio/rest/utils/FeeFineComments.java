@@ -0,0 +1,123 @@
+package org.folio.rest.utils;
+
+import static org.apache.commons.lang.StringUtils.defaultString;
+import static org.folio.rest.utils.FeeFineActionHelper.PATRON_COMMENTS_KEY;
+import static org.folio.rest.utils.FeeFineActionHelper.STAFF_COMMENTS_KEY;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Staff and patron info of a fee/fine action. Comments are stored as entries separated by
+ * " \n ", each entry being a key and a value separated by " : ". They are parsed in a single
+ * pass with plain index lookups, following the rules of {@code String.split}: an entry is
+ * ignored unless it splits into exactly two parts (trailing empty parts are dropped), and the
+ * first value wins when a key is repeated.
+ */
+public final class FeeFineComments {
+  private static final String ENTRY_SEPARATOR = " \n ";
+  private static final String KEY_SEPARATOR = " : ";
+
+  private String staffInfo;
+  private String patronInfo;
+
+  private FeeFineComments() {
+  }
+
+  public static FeeFineComments parse(String comments) {
+    FeeFineComments result = new FeeFineComments();
+    forEachEntry(comments, result::accept);
+    return result;
+  }
+
+  public static Map<String, String> parseAll(String comments) {
+    Map<String, String> result = new HashMap<>();
+    forEachEntry(comments, (source, keyStart, keyEnd, valueStart, valueEnd) ->
+      result.putIfAbsent(source.substring(keyStart, keyEnd),
+        source.substring(valueStart, valueEnd)));
+    return result;
+  }
+
+  public String getStaffInfo() {
+    return defaultString(staffInfo);
+  }
+
+  public String getPatronInfo() {
+    return defaultString(patronInfo);
+  }
+
+  private void accept(String source, int keyStart, int keyEnd, int valueStart, int valueEnd) {
+    if (staffInfo == null && isKey(source, keyStart, keyEnd, STAFF_COMMENTS_KEY)) {
+      staffInfo = source.substring(valueStart, valueEnd);
+    } else if (patronInfo == null && isKey(source, keyStart, keyEnd, PATRON_COMMENTS_KEY)) {
+      patronInfo = source.substring(valueStart, valueEnd);
+    }
+  }
+
+  private static boolean isKey(String source, int keyStart, int keyEnd, String key) {
+    return keyEnd - keyStart == key.length()
+      && source.regionMatches(keyStart, key, 0, key.length());
+  }
+
+  private static void forEachEntry(String comments, EntryConsumer consumer) {
+    if (comments == null) {
+      return;
+    }
+
+    int entryStart = 0;
+
+    while (entryStart <= comments.length()) {
+      int entryEnd = comments.indexOf(ENTRY_SEPARATOR, entryStart);
+      if (entryEnd < 0) {
+        entryEnd = comments.length();
+      }
+
+      parseEntry(comments, entryStart, entryEnd, consumer);
+      entryStart = entryEnd + ENTRY_SEPARATOR.length();
+    }
+  }
+
+  private static void parseEntry(String comments, int entryStart, int entryEnd,
+    EntryConsumer consumer) {
+
+    int keyEnd = indexOfKeySeparator(comments, entryStart, entryEnd);
+    if (keyEnd < 0) {
+      return;
+    }
+
+    int valueStart = keyEnd + KEY_SEPARATOR.length();
+    int valueEnd = indexOfKeySeparator(comments, valueStart, entryEnd);
+
+    if (valueEnd < 0) {
+      valueEnd = entryEnd;
+    } else if (!consistsOfKeySeparators(comments, valueEnd, entryEnd)) {
+      return;
+    }
+
+    // an empty value is a trailing empty part, so the entry has a single part
+    if (valueStart < valueEnd) {
+      consumer.accept(comments, entryStart, keyEnd, valueStart, valueEnd);
+    }
+  }
+
+  private static int indexOfKeySeparator(String comments, int from, int to) {
+    int index = comments.indexOf(KEY_SEPARATOR, from);
+    return index >= 0 && index + KEY_SEPARATOR.length() <= to ? index : -1;
+  }
+
+  private static boolean consistsOfKeySeparators(String comments, int from, int to) {
+    for (int index = from; index < to; index += KEY_SEPARATOR.length()) {
+      if (index + KEY_SEPARATOR.length() > to
+        || !comments.startsWith(KEY_SEPARATOR, index)) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  @FunctionalInterface
+  private interface EntryConsumer {
+    void accept(String source, int keyStart, int keyEnd, int valueStart, int valueEnd);
+  }
+}
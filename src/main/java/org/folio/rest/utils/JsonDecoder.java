@@ -0,0 +1,84 @@
+package org.folio.rest.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import io.netty.buffer.ByteBufInputStream;
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Decodes JSON directly from the bytes of a {@link Buffer} without copying the payload into
+ * an intermediate String. Readers are created once per target type and shared.
+ */
+public class JsonDecoder {
+  private static final ObjectMapper objectMapper = new ObjectMapper();
+  private static final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+  private JsonDecoder() {
+    throw new UnsupportedOperationException("Do not instantiate");
+  }
+
+  public static <T> T decode(Buffer buffer, Class<T> type) throws IOException {
+    try (InputStream inputStream = toInputStream(buffer)) {
+      return getReader(type).readValue(inputStream);
+    }
+  }
+
+  public static <T> T decode(String json, Class<T> type) throws IOException {
+    return getReader(type).readValue(json);
+  }
+
+  /**
+   * Streams elements of the array stored in the top-level property {@code collectionName}
+   * of a collection response, e.g. "items" of an item-storage response. Other top-level
+   * properties are skipped without being materialized.
+   */
+  public static <T> List<T> decodeCollection(Buffer buffer, String collectionName, Class<T> type)
+    throws IOException {
+
+    final List<T> result = new ArrayList<>();
+    final ObjectReader reader = getReader(type);
+
+    try (JsonParser parser = objectMapper.getFactory().createParser(toInputStream(buffer))) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IOException("Collection response is not a JSON object");
+      }
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String fieldName = parser.getCurrentName();
+        JsonToken valueToken = parser.nextToken();
+
+        if (collectionName.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+          while (parser.nextToken() != JsonToken.END_ARRAY) {
+            result.add(reader.readValue(parser));
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
+    }
+
+    return result;
+  }
+
+  private static ObjectReader getReader(Class<?> type) {
+    return readers.computeIfAbsent(type, objectMapper::readerFor);
+  }
+
+  private static InputStream toInputStream(Buffer buffer) throws IOException {
+    if (buffer == null) {
+      throw new IOException("Response body is empty");
+    }
+
+    return new ByteBufInputStream(buffer.getByteBuf());
+  }
+}
@@ -3,15 +3,13 @@ package org.folio.rest.utils;
 import static java.util.stream.Collectors.joining;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
 import static org.apache.commons.lang3.StringUtils.isNotBlank;
-import static org.folio.rest.utils.FeeFineActionHelper.PATRON_COMMENTS_KEY;
-import static org.folio.rest.utils.FeeFineActionHelper.parseFeeFineComments;
 import static org.folio.rest.utils.JsonHelper.writeIfDoesNotExist;
 
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
-import org.apache.commons.lang3.StringUtils;
 import org.folio.rest.domain.FeeFineNoticeContext;
 import org.folio.rest.domain.MonetaryValue;
 import org.folio.rest.jaxrs.model.Account;
@@ -30,6 +28,7 @@ import org.folio.rest.jaxrs.model.User;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
 
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 public class PatronNoticeBuilder {
@@ -38,6 +37,7 @@ public class PatronNoticeBuilder {
   public static final String TITLE = "title";
   public static final String CALL_NUMBER = "callNumber";
   public static final String EFFECTIVE_LOCATION_SPECIFIC = "effectiveLocationSpecific";
+  public static final String FEE_ACTIONS = "feeActions";
 
   private PatronNoticeBuilder() {
     throw new UnsupportedOperationException("Utility class");
@@ -52,6 +52,25 @@ public class PatronNoticeBuilder {
       .withContext(buildContext(ctx));
   }
 
+  /**
+   * Builds a single notice for several fee/fine actions of the same patron sharing the same
+   * template. Top-level tokens are populated from the first action so that existing templates
+   * keep working, while the list of all actions is available under the "feeActions" token.
+   */
+  public static PatronNotice buildDigestNotice(List<FeeFineNoticeContext> contexts) {
+    final JsonArray feeActions = new JsonArray();
+
+    contexts.forEach(ctx -> feeActions.add(new JsonObject()
+      .put("item", buildItemContext(ctx))
+      .put("feeCharge", buildFeeChargeContext(ctx))
+      .put("feeAction", buildFeeActionContext(ctx))));
+
+    final PatronNotice notice = buildNotice(contexts.get(0));
+    notice.getContext().setAdditionalProperty(FEE_ACTIONS, feeActions);
+
+    return notice;
+  }
+
   private static Context buildContext(FeeFineNoticeContext ctx) {
     return new Context()
       .withAdditionalProperty("item", buildItemContext(ctx))
@@ -205,9 +224,7 @@ public class PatronNoticeBuilder {
   }
 
   private static String getCommentsFromFeeFineAction(Feefineaction feefineaction){
-    String comments = Optional.ofNullable(feefineaction.getComments()).orElse(StringUtils.EMPTY);
-    return parseFeeFineComments(comments)
-      .getOrDefault(PATRON_COMMENTS_KEY, StringUtils.EMPTY);
+    return FeeFineComments.parse(feefineaction.getComments()).getPatronInfo();
   }
 
   private static String getPrimaryContributor(Instance instance) {
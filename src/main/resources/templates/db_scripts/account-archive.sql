@@ -0,0 +1,37 @@
+-- Closed accounts and their fee/fine actions moved out of the hot tables by the archival job,
+-- see AccountArchiveRepository. Archived records are read-only.
+
+CREATE TABLE IF NOT EXISTS ${myuniversity}_${mymodule}.accounts_archive (
+  id uuid PRIMARY KEY,
+  jsonb jsonb NOT NULL,
+  archived_date timestamptz NOT NULL DEFAULT now()
+);
+
+CREATE TABLE IF NOT EXISTS ${myuniversity}_${mymodule}.feefineactions_archive (
+  id uuid PRIMARY KEY,
+  jsonb jsonb NOT NULL,
+  archived_date timestamptz NOT NULL DEFAULT now()
+);
+
+-- The views below are not described in schema.json, so CQL queries against them compare
+-- lower(f_unaccent(...)) of a field. The indexes use the same expression to be usable.
+DROP INDEX IF EXISTS ${myuniversity}_${mymodule}.accounts_archive_userid_idx;
+CREATE INDEX IF NOT EXISTS accounts_archive_userid_unaccent_idx
+  ON ${myuniversity}_${mymodule}.accounts_archive
+  (lower(${myuniversity}_${mymodule}.f_unaccent(jsonb->>'userId')));
+
+DROP INDEX IF EXISTS ${myuniversity}_${mymodule}.feefineactions_archive_accountid_idx;
+CREATE INDEX IF NOT EXISTS feefineactions_archive_accountid_unaccent_idx
+  ON ${myuniversity}_${mymodule}.feefineactions_archive
+  (lower(${myuniversity}_${mymodule}.f_unaccent(jsonb->>'accountId')));
+
+-- Read by requests with includeArchived=true
+CREATE OR REPLACE VIEW ${myuniversity}_${mymodule}.all_accounts AS
+  SELECT id, jsonb FROM ${myuniversity}_${mymodule}.accounts
+  UNION ALL
+  SELECT id, jsonb FROM ${myuniversity}_${mymodule}.accounts_archive;
+
+CREATE OR REPLACE VIEW ${myuniversity}_${mymodule}.all_feefineactions AS
+  SELECT id, jsonb FROM ${myuniversity}_${mymodule}.feefineactions
+  UNION ALL
+  SELECT id, jsonb FROM ${myuniversity}_${mymodule}.feefineactions_archive;
@@ -0,0 +1,47 @@
+-- Change feed of accounts and fee/fine actions, see FeeFineChangeRepository. Every write is
+-- recorded with the ID of the writing transaction. Changes are read in (txid, seq) order and
+-- only for transactions older than the oldest running one, so a change committed late can
+-- never appear behind a cursor a reader has already passed.
+
+CREATE TABLE IF NOT EXISTS ${myuniversity}_${mymodule}.fee_fine_changes (
+  seq bigserial PRIMARY KEY,
+  txid bigint NOT NULL DEFAULT txid_current(),
+  record_type text NOT NULL,
+  record_id uuid NOT NULL,
+  operation text NOT NULL,
+  changed_date timestamptz NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS fee_fine_changes_txid_seq_idx
+  ON ${myuniversity}_${mymodule}.fee_fine_changes (txid, seq);
+
+-- serves the daily pruning of changes older than the retention window
+CREATE INDEX IF NOT EXISTS fee_fine_changes_changed_date_idx
+  ON ${myuniversity}_${mymodule}.fee_fine_changes (changed_date);
+
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.record_fee_fine_change()
+RETURNS TRIGGER AS $$
+DECLARE
+  change_operation text := TG_OP;
+BEGIN
+  -- records moved by the archival job are reported as archived rather than deleted
+  IF TG_OP = 'DELETE' AND current_setting('feesfines.archiving', true) = 'on' THEN
+    change_operation := 'ARCHIVE';
+  END IF;
+
+  INSERT INTO ${myuniversity}_${mymodule}.fee_fine_changes (record_type, record_id, operation)
+  VALUES (TG_ARGV[0], CASE WHEN TG_OP = 'DELETE' THEN OLD.id ELSE NEW.id END, change_operation);
+
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS record_fee_fine_change ON ${myuniversity}_${mymodule}.accounts;
+CREATE TRIGGER record_fee_fine_change
+  AFTER INSERT OR UPDATE OR DELETE ON ${myuniversity}_${mymodule}.accounts
+  FOR EACH ROW EXECUTE PROCEDURE ${myuniversity}_${mymodule}.record_fee_fine_change('account');
+
+DROP TRIGGER IF EXISTS record_fee_fine_change ON ${myuniversity}_${mymodule}.feefineactions;
+CREATE TRIGGER record_fee_fine_change
+  AFTER INSERT OR UPDATE OR DELETE ON ${myuniversity}_${mymodule}.feefineactions
+  FOR EACH ROW EXECUTE PROCEDURE ${myuniversity}_${mymodule}.record_fee_fine_change('feefineaction');
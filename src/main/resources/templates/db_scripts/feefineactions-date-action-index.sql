@@ -0,0 +1,8 @@
+-- Block range index on the action date. Fee/fine actions are appended roughly in dateAction
+-- order, so report queries restricted to a date range only read the table blocks whose
+-- min/max dateAction overlap the range. The expression must stay identical to the one used
+-- by FeeFineActionRepository for the planner to use the index.
+
+CREATE INDEX IF NOT EXISTS feefineactions_dateaction_brin_idx
+  ON ${myuniversity}_${mymodule}.feefineactions
+  USING brin ((jsonb->>'dateAction')) WITH (pages_per_range = 32, autosummarize = on);
@@ -0,0 +1,110 @@
+-- Open fee/fine count and remaining amount per patron, kept up to date by a trigger on
+-- accounts so that every write path updates the balance in the same transaction
+
+CREATE TABLE IF NOT EXISTS ${myuniversity}_${mymodule}.patron_balances (
+  user_id text PRIMARY KEY,
+  open_count integer NOT NULL DEFAULT 0,
+  remaining numeric NOT NULL DEFAULT 0,
+  updated_date timestamptz NOT NULL DEFAULT now()
+);
+
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.update_patron_balance()
+RETURNS TRIGGER AS $$
+BEGIN
+  IF TG_OP = 'UPDATE'
+    AND OLD.jsonb->>'userId' IS NOT DISTINCT FROM NEW.jsonb->>'userId'
+    AND OLD.jsonb->'status'->>'name' IS NOT DISTINCT FROM NEW.jsonb->'status'->>'name'
+    AND OLD.jsonb->>'remaining' IS NOT DISTINCT FROM NEW.jsonb->>'remaining' THEN
+    RETURN NULL;
+  END IF;
+
+  IF TG_OP IN ('UPDATE', 'DELETE') AND OLD.jsonb->'status'->>'name' = 'Open' THEN
+    UPDATE ${myuniversity}_${mymodule}.patron_balances
+    SET open_count = open_count - 1,
+      remaining = remaining - coalesce((OLD.jsonb->>'remaining')::numeric, 0),
+      updated_date = now()
+    WHERE user_id = OLD.jsonb->>'userId';
+  END IF;
+
+  IF TG_OP IN ('INSERT', 'UPDATE') AND NEW.jsonb->'status'->>'name' = 'Open'
+    AND NEW.jsonb->>'userId' IS NOT NULL THEN
+    INSERT INTO ${myuniversity}_${mymodule}.patron_balances AS balances
+      (user_id, open_count, remaining, updated_date)
+    VALUES (NEW.jsonb->>'userId', 1, coalesce((NEW.jsonb->>'remaining')::numeric, 0), now())
+    ON CONFLICT (user_id) DO UPDATE
+    SET open_count = balances.open_count + 1,
+      remaining = balances.remaining + EXCLUDED.remaining,
+      updated_date = now();
+  END IF;
+
+  RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS update_patron_balance ON ${myuniversity}_${mymodule}.accounts;
+CREATE TRIGGER update_patron_balance
+  AFTER INSERT OR UPDATE OR DELETE ON ${myuniversity}_${mymodule}.accounts
+  FOR EACH ROW EXECUTE PROCEDURE ${myuniversity}_${mymodule}.update_patron_balance();
+
+-- Compares maintained balances with balances calculated from accounts and, when requested,
+-- recalculates the balances of patrons that drifted. Returns the number of drifted patrons.
+CREATE OR REPLACE FUNCTION ${myuniversity}_${mymodule}.verify_patron_balances(repair boolean)
+RETURNS integer AS $$
+DECLARE
+  drifted text[];
+BEGIN
+  SELECT array_agg(coalesce(actual.user_id, balances.user_id)) INTO drifted
+  FROM (
+    SELECT jsonb->>'userId' AS user_id, count(*) AS open_count,
+      coalesce(sum((jsonb->>'remaining')::numeric), 0) AS remaining
+    FROM ${myuniversity}_${mymodule}.accounts
+    WHERE jsonb->'status'->>'name' = 'Open' AND jsonb->>'userId' IS NOT NULL
+    GROUP BY 1
+  ) actual
+  FULL JOIN ${myuniversity}_${mymodule}.patron_balances balances
+    ON actual.user_id = balances.user_id
+  WHERE coalesce(actual.open_count, 0) <> coalesce(balances.open_count, 0)
+    OR coalesce(actual.remaining, 0) <> coalesce(balances.remaining, 0);
+
+  IF drifted IS NULL THEN
+    RETURN 0;
+  END IF;
+
+  IF repair THEN
+    -- Locks the balances of the drifted patrons only. Account writes of these patrons wait in
+    -- the trigger until the balances are recalculated, writes they made before are committed
+    -- and counted below because every statement takes a new snapshot. Missing balances are
+    -- created first so that there is a row to lock.
+    INSERT INTO ${myuniversity}_${mymodule}.patron_balances (user_id)
+    SELECT unnest(drifted)
+    ON CONFLICT (user_id) DO NOTHING;
+
+    PERFORM 1 FROM ${myuniversity}_${mymodule}.patron_balances
+    WHERE user_id = ANY(drifted)
+    FOR UPDATE;
+
+    -- the left(lower(f_unaccent(...))) expression matches the userId index of accounts
+    UPDATE ${myuniversity}_${mymodule}.patron_balances balances
+    SET open_count = coalesce(actual.open_count, 0),
+      remaining = coalesce(actual.remaining, 0),
+      updated_date = now()
+    FROM unnest(drifted) AS drifted_users(user_id)
+    LEFT JOIN (
+      SELECT jsonb->>'userId' AS user_id, count(*) AS open_count,
+        coalesce(sum((jsonb->>'remaining')::numeric), 0) AS remaining
+      FROM ${myuniversity}_${mymodule}.accounts
+      WHERE left(lower(${myuniversity}_${mymodule}.f_unaccent(jsonb->>'userId')), 600) = ANY(
+          ARRAY(SELECT left(lower(${myuniversity}_${mymodule}.f_unaccent(user_id)), 600)
+            FROM unnest(drifted) AS user_ids(user_id)))
+        AND jsonb->>'userId' = ANY(drifted)
+        AND jsonb->'status'->>'name' = 'Open'
+      GROUP BY 1
+    ) actual ON actual.user_id = drifted_users.user_id
+    WHERE balances.user_id = drifted_users.user_id;
+  END IF;
+
+  RETURN cardinality(drifted);
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT ${myuniversity}_${mymodule}.verify_patron_balances(true);
@@ -0,0 +1,127 @@
+package org.folio.rest.cache;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+public class AsyncCacheTest {
+  private final AtomicLong now = new AtomicLong(0);
+  private final AsyncCache<String> cache = new AsyncCache<>(Duration.ofMillis(100), 2, now::get);
+
+  @Test
+  public void valueIsLoadedOnceAndThenServedFromCache() {
+    AtomicInteger loads = new AtomicInteger();
+
+    cache.get("key", key -> { loads.incrementAndGet(); return succeededFuture("value"); });
+    Future<String> result = cache.get("key", key -> { loads.incrementAndGet(); return succeededFuture("other"); });
+
+    assertThat(result.result(), is("value"));
+    assertThat(loads.get(), is(1));
+    assertThat(cache.getHitCount(), is(1L));
+  }
+
+  @Test
+  public void valueExpiresAfterTimeToLive() {
+    cache.put("key", "value");
+
+    now.set(99);
+    assertThat(cache.getIfPresent("key"), is("value"));
+
+    now.set(100);
+    assertThat(cache.getIfPresent("key"), nullValue());
+  }
+
+  @Test
+  public void leastRecentlyUsedEntryIsEvictedWhenCacheIsFull() {
+    cache.put("a", "1");
+    cache.put("b", "2");
+    cache.getIfPresent("a");
+    cache.put("c", "3");
+
+    assertThat(cache.size(), is(2));
+    assertThat(cache.getIfPresent("a"), is("1"));
+    assertThat(cache.getIfPresent("b"), nullValue());
+  }
+
+  @Test
+  public void concurrentMissesShareSingleLoad() {
+    AtomicInteger loads = new AtomicInteger();
+    Promise<String> pendingLoad = Promise.promise();
+
+    Future<String> first = cache.get("key", key -> { loads.incrementAndGet(); return pendingLoad.future(); });
+    Future<String> second = cache.get("key", key -> { loads.incrementAndGet(); return pendingLoad.future(); });
+    pendingLoad.complete("value");
+
+    assertThat(loads.get(), is(1));
+    assertThat(first.result(), is("value"));
+    assertThat(second.result(), is("value"));
+  }
+
+  @Test
+  public void failedLoadIsNotCached() {
+    cache.get("key", key -> Future.failedFuture("error"));
+
+    assertThat(cache.get("key", key -> succeededFuture("value")).result(), is("value"));
+  }
+
+  @Test
+  public void batchLoaderIsCalledOnlyForMissingKeys() {
+    List<List<String>> batches = new ArrayList<>();
+    cache.put("a", "1");
+
+    Map<String, String> result = cache.getAll(Arrays.asList("a", "b", "b", "c"), keys -> {
+      batches.add(keys);
+      return succeededFuture(keys.stream()
+        .filter(key -> !key.equals("c"))
+        .collect(Collectors.toMap(key -> key, key -> key.toUpperCase())));
+    }).result();
+
+    assertThat(batches.size(), is(1));
+    assertThat(batches.get(0), contains("b", "c"));
+    assertThat(result.size(), is(2));
+    assertThat(result.get("a"), is("1"));
+    assertThat(result.get("b"), is("B"));
+  }
+
+  @Test
+  public void loadStartedBeforeInvalidationIsNotCachedNorJoined() {
+    Promise<Map<String, String>> staleLoad = Promise.promise();
+    Future<Map<String, String>> staleResult = cache.getAll(List.of("key"), keys -> staleLoad.future());
+
+    cache.invalidate("key");
+    Future<Map<String, String>> freshResult = cache.getAll(List.of("key"),
+      keys -> succeededFuture(Map.of("key", "new value")));
+    staleLoad.complete(Map.of("key", "old value"));
+
+    assertThat(staleResult.result().get("key"), is("old value"));
+    assertThat(freshResult.result().get("key"), is("new value"));
+    assertThat(cache.getIfPresent("key"), is("new value"));
+  }
+
+  @Test
+  public void singleLoadStartedBeforeInvalidationIsNotCached() {
+    Promise<String> staleLoad = Promise.promise();
+    cache.get("key", key -> staleLoad.future());
+
+    cache.invalidate("key");
+    staleLoad.complete("old value");
+
+    assertThat(cache.getIfPresent("key"), nullValue());
+  }
+}
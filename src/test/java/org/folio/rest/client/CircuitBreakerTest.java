@@ -0,0 +1,173 @@
+package org.folio.rest.client;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.folio.rest.client.CircuitBreaker.State;
+import org.folio.rest.exception.DownstreamUnavailableException;
+import org.junit.Test;
+
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+
+public class CircuitBreakerTest {
+  private final AtomicLong now = new AtomicLong(0);
+  private final CircuitBreaker circuitBreaker = new CircuitBreaker("inventory", 2, 1000, 2, now::get);
+
+  @Test
+  public void breakerOpensAfterConsecutiveFailuresAndRejectsCalls() {
+    AtomicInteger calls = new AtomicInteger();
+
+    fail(calls);
+    assertThat(circuitBreaker.getState(), is(State.CLOSED));
+    fail(calls);
+    assertThat(circuitBreaker.getState(), is(State.OPEN));
+
+    Future<Integer> rejected = succeed(calls);
+
+    assertThat(calls.get(), is(2));
+    assertThat(rejected.cause(), instanceOf(DownstreamUnavailableException.class));
+    assertThat(circuitBreaker.getRejectedRequests(), is(1L));
+  }
+
+  @Test
+  public void serverErrorsAreCountedAsFailures() {
+    circuitBreaker.execute(() -> succeededFuture(500), status -> status >= 500);
+    circuitBreaker.execute(() -> succeededFuture(503), status -> status >= 500);
+
+    assertThat(circuitBreaker.getState(), is(State.OPEN));
+  }
+
+  @Test
+  public void successfulProbeClosesBreaker() {
+    AtomicInteger calls = new AtomicInteger();
+    fail(calls);
+    fail(calls);
+
+    now.set(1000);
+    Future<Integer> probe = succeed(calls);
+
+    assertThat(probe.succeeded(), is(true));
+    assertThat(circuitBreaker.getState(), is(State.CLOSED));
+  }
+
+  @Test
+  public void failedProbeOpensBreakerAgain() {
+    AtomicInteger calls = new AtomicInteger();
+    fail(calls);
+    fail(calls);
+
+    now.set(1000);
+    fail(calls);
+
+    assertThat(calls.get(), is(3));
+    assertThat(circuitBreaker.getState(), is(State.OPEN));
+    assertThat(succeed(calls).failed(), is(true));
+  }
+
+  @Test
+  public void onlyOneProbeIsAllowedInHalfOpenState() {
+    AtomicInteger calls = new AtomicInteger();
+    fail(calls);
+    fail(calls);
+    now.set(1000);
+
+    Promise<Integer> probe = Promise.promise();
+    circuitBreaker.execute(probe::future, status -> false);
+    Future<Integer> secondCall = succeed(calls);
+
+    assertThat(circuitBreaker.getState(), is(State.HALF_OPEN));
+    assertThat(secondCall.cause(), instanceOf(DownstreamUnavailableException.class));
+
+    probe.complete(200);
+    assertThat(circuitBreaker.getState(), is(State.CLOSED));
+  }
+
+  @Test
+  public void lateSuccessDoesNotCloseOpenBreaker() {
+    AtomicInteger calls = new AtomicInteger();
+    Promise<Integer> slowCall = Promise.promise();
+    circuitBreaker.execute(slowCall::future, status -> false);
+
+    fail(calls);
+    fail(calls);
+    slowCall.complete(200);
+
+    assertThat(circuitBreaker.getState(), is(State.OPEN));
+    assertThat(succeed(calls).cause(), instanceOf(DownstreamUnavailableException.class));
+  }
+
+  @Test
+  public void lateSuccessDoesNotEndProbe() {
+    AtomicInteger calls = new AtomicInteger();
+    Promise<Integer> slowCall = Promise.promise();
+    circuitBreaker.execute(slowCall::future, status -> false);
+    fail(calls);
+    fail(calls);
+    now.set(1000);
+
+    Promise<Integer> probe = Promise.promise();
+    circuitBreaker.execute(probe::future, status -> false);
+    slowCall.complete(200);
+
+    assertThat(circuitBreaker.getState(), is(State.HALF_OPEN));
+    assertThat(succeed(calls).cause(), instanceOf(DownstreamUnavailableException.class));
+
+    probe.fail("Connection refused");
+    assertThat(circuitBreaker.getState(), is(State.OPEN));
+  }
+
+  @Test
+  public void lateFailureDoesNotCountAfterBreakerClosed() {
+    AtomicInteger calls = new AtomicInteger();
+    Promise<Integer> slowCall = Promise.promise();
+    circuitBreaker.execute(slowCall::future, status -> false);
+    fail(calls);
+    fail(calls);
+    now.set(1000);
+    succeed(calls);
+
+    slowCall.fail("Connection refused");
+    fail(calls);
+
+    assertThat(circuitBreaker.getState(), is(State.CLOSED));
+  }
+
+  @Test
+  public void bulkheadLimitsConcurrentCalls() {
+    Promise<Integer> first = Promise.promise();
+    Promise<Integer> second = Promise.promise();
+
+    circuitBreaker.execute(first::future, status -> false);
+    circuitBreaker.execute(second::future, status -> false);
+    Future<Integer> third = circuitBreaker.execute(() -> succeededFuture(200), status -> false);
+
+    assertThat(circuitBreaker.getActiveRequests(), is(2));
+    assertThat(third.cause(), instanceOf(DownstreamUnavailableException.class));
+
+    first.complete(200);
+    Future<Integer> fourth = circuitBreaker.execute(() -> succeededFuture(200), status -> false);
+
+    assertThat(fourth.succeeded(), is(true));
+  }
+
+  private Future<Integer> fail(AtomicInteger calls) {
+    return circuitBreaker.execute(() -> {
+      calls.incrementAndGet();
+      return failedFuture("Connection refused");
+    }, status -> false);
+  }
+
+  private Future<Integer> succeed(AtomicInteger calls) {
+    return circuitBreaker.execute(() -> {
+      calls.incrementAndGet();
+      return succeededFuture(200);
+    }, status -> false);
+  }
+}
@@ -1,6 +1,7 @@
 package org.folio.rest.client;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.matching;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static io.vertx.core.json.JsonObject.mapFrom;
@@ -14,6 +15,9 @@ import static org.folio.rest.RestVerticle.OKAPI_HEADER_TOKEN;
 import static org.folio.test.support.ApiTests.OKAPI_TOKEN;
 import static org.folio.test.support.ApiTests.TENANT_NAME;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.apache.commons.collections4.map.CaseInsensitiveMap;
 import org.apache.http.HttpStatus;
 import org.folio.rest.jaxrs.model.User;
@@ -28,6 +32,8 @@ import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.junit.WireMockRule;
 
 import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
 import io.vertx.ext.unit.junit.VertxUnitRunner;
@@ -72,6 +78,62 @@ public class OkapiClientTest {
       });
   }
 
+  @Test
+  public void concurrentGetByIdRequestsShareSingleRemoteCall(TestContext context) {
+    Async async = context.async(2);
+    createStub(USERS_URL, USER_ID, HttpStatus.SC_OK, USER);
+    long coalescedRequestsBefore = OkapiClient.getCoalescedGetByIdRequestsCount();
+
+    okapiClient.getById(USERS_URL, USER_ID, User.class)
+      .onFailure(context::fail)
+      .onSuccess(user -> async.countDown());
+
+    okapiClient.getById(USERS_URL, USER_ID, User.class)
+      .onFailure(context::fail)
+      .onSuccess(user -> async.countDown());
+
+    async.await();
+    mock.verify(1, getRequestedFor(urlPathEqualTo(USERS_URL + "/" + USER_ID)));
+    context.assertEquals(coalescedRequestsBefore + 1,
+      OkapiClient.getCoalescedGetByIdRequestsCount());
+  }
+
+  @Test
+  public void getByIdsShouldReturnRecordsInRequestedOrder(TestContext context) {
+    Async async = context.async();
+    String secondUserId = "be73ec3a-8ca6-4d1c-9cdf-b0d1b7f14c4b";
+
+    mock.stubFor(WireMock.get(urlPathEqualTo(USERS_URL))
+      .willReturn(aResponse()
+        .withStatus(HttpStatus.SC_OK)
+        .withBody(new JsonObject()
+          .put("users", new JsonArray()
+            .add(mapFrom(new User().withId(secondUserId)))
+            .add(mapFrom(USER)))
+          .put("totalRecords", 2)
+          .encodePrettily())));
+
+    okapiClient.getByIds(USERS_URL, Arrays.asList(USER_ID, secondUserId, USER_ID, "not-a-uuid"),
+      "users", User.class, User::getId)
+      .onFailure(context::fail)
+      .onSuccess(users -> {
+        context.assertEquals(2, users.size());
+        context.assertEquals(USER_ID, users.get(0).getId());
+        context.assertEquals(secondUserId, users.get(1).getId());
+        async.complete();
+      });
+  }
+
+  @Test
+  public void idsAreSplitIntoChunks(TestContext context) {
+    List<List<String>> chunks = OkapiClient.splitIntoChunks(
+      Arrays.asList("a", "b", "c", "d", "e"), 2);
+
+    context.assertEquals(3, chunks.size());
+    context.assertEquals(Arrays.asList("a", "b"), chunks.get(0));
+    context.assertEquals(Arrays.asList("e"), chunks.get(2));
+  }
+
   @Test
   public void getByIdShouldFailWhenReturnObjectTypeIsNull(TestContext context) {
     Async async = context.async();
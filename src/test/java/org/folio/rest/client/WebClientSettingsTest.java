@@ -0,0 +1,61 @@
+package org.folio.rest.client;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.client.WebClientOptions;
+
+public class WebClientSettingsTest {
+
+  @Test
+  public void defaultsAreUsedWhenNothingIsConfigured() {
+    WebClientSettings settings = new WebClientSettings("inventory", key -> null);
+
+    assertThat(settings.getMaxPoolSize(), is(20));
+    assertThat(settings.getConnectTimeoutMs(), is(5000));
+    assertThat(settings.getRequestTimeoutMs(), is(60000L));
+    assertThat(settings.isPipelining(), is(false));
+    assertThat(settings.isHttp2(), is(false));
+  }
+
+  @Test
+  public void downstreamSpecificValueOverridesCommonValue() {
+    Map<String, String> environment = new HashMap<>();
+    environment.put("OKAPI_CLIENT_MAX_POOL_SIZE", "10");
+    environment.put("OKAPI_CLIENT_PATRON_NOTICE_MAX_POOL_SIZE", "3");
+    environment.put("OKAPI_CLIENT_REQUEST_TIMEOUT_MS", "1500");
+
+    WebClientSettings noticeSettings = new WebClientSettings("patron-notice", environment::get);
+    WebClientSettings usersSettings = new WebClientSettings("users", environment::get);
+
+    assertThat(noticeSettings.getMaxPoolSize(), is(3));
+    assertThat(noticeSettings.getRequestTimeoutMs(), is(1500L));
+    assertThat(usersSettings.getMaxPoolSize(), is(10));
+  }
+
+  @Test
+  public void invalidValueFallsBackToDefault() {
+    WebClientSettings settings = new WebClientSettings("users",
+      key -> "OKAPI_CLIENT_CONNECT_TIMEOUT_MS".equals(key) ? "five seconds" : null);
+
+    assertThat(settings.getConnectTimeoutMs(), is(5000));
+  }
+
+  @Test
+  public void http2IsEnabledWithClearTextUpgrade() {
+    WebClientOptions options = new WebClientSettings("configuration",
+      key -> "OKAPI_CLIENT_HTTP2".equals(key) ? "true" : null)
+      .toWebClientOptions();
+
+    assertThat(options.getProtocolVersion(), is(HttpVersion.HTTP_2));
+    assertThat(options.isHttp2ClearTextUpgrade(), is(true));
+    assertThat(options.isKeepAlive(), is(true));
+    assertThat(options.getMaxPoolSize(), is(20));
+  }
+}
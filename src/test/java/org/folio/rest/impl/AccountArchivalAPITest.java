@@ -0,0 +1,103 @@
+package org.folio.rest.impl;
+
+import static java.lang.String.format;
+import static org.folio.test.support.EntityBuilder.buildAccount;
+import static org.folio.test.support.EntityBuilder.buildFeeFineActionWithoutComments;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Date;
+
+import org.apache.http.HttpStatus;
+import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.Feefineaction;
+import org.folio.rest.jaxrs.model.Status;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.test.support.ApiTests;
+import org.junit.Test;
+
+public class AccountArchivalAPITest extends ApiTests {
+  private static final String REST_PATH = "/account-archival";
+
+  @Test
+  public void closedAccountsAreMovedToArchiveWithTheirActions() {
+    Account closedAccount = buildAccount(10.0, 0.0)
+      .withStatus(new Status().withName("Closed"));
+    Account recentlyClosedAccount = buildAccount(10.0, 0.0)
+      .withStatus(new Status().withName("Closed"));
+    Account openAccount = buildAccount(10.0, 10.0);
+
+    accountsClient.create(closedAccount);
+    accountsClient.create(recentlyClosedAccount);
+    accountsClient.create(openAccount);
+
+    Feefineaction charge = buildFeeFineActionWithoutComments(closedAccount.getUserId(),
+      closedAccount.getId(), "Overdue fine", null, 10.0, 10.0, new Date());
+    feeFineActionsClient.create(charge);
+
+    makeLastUpdatedYearsAgo(closedAccount);
+    makeLastUpdatedYearsAgo(openAccount);
+
+    client.post(REST_PATH + "?closedForDays=30&batchSize=1", "")
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("archivedAccountCount", greaterThanOrEqualTo(1))
+      .body("archivedActionCount", greaterThanOrEqualTo(1))
+      .body("completed", is(true));
+
+    assertStatus("/accounts/" + closedAccount.getId(), HttpStatus.SC_NOT_FOUND);
+    assertStatus("/feefineactions/" + charge.getId(), HttpStatus.SC_NOT_FOUND);
+    assertStatus("/accounts/" + recentlyClosedAccount.getId(), HttpStatus.SC_OK);
+    assertStatus("/accounts/" + openAccount.getId(), HttpStatus.SC_OK);
+
+    client.get("/accounts?query=id==" + closedAccount.getId())
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("totalRecords", is(0));
+
+    client.get("/accounts?includeArchived=true&query=id==" + closedAccount.getId())
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("totalRecords", is(1))
+      .body("accounts[0].id", is(closedAccount.getId()));
+
+    client.get("/feefineactions?includeArchived=true&query=accountId==" + closedAccount.getId())
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("totalRecords", is(1))
+      .body("feefineactions[0].id", is(charge.getId()));
+  }
+
+  @Test
+  public void runStopsAtBatchLimit() {
+    Account firstAccount = buildAccount(10.0, 0.0)
+      .withStatus(new Status().withName("Closed"));
+    Account secondAccount = buildAccount(10.0, 0.0)
+      .withStatus(new Status().withName("Closed"));
+
+    accountsClient.create(firstAccount);
+    accountsClient.create(secondAccount);
+    makeLastUpdatedYearsAgo(firstAccount);
+    makeLastUpdatedYearsAgo(secondAccount);
+
+    client.post(REST_PATH + "?batchSize=1&maxBatches=1", "")
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("archivedAccountCount", is(1))
+      .body("batchCount", is(1))
+      .body("completed", is(false));
+  }
+
+  private void makeLastUpdatedYearsAgo(Account account) {
+    executeSql(format("UPDATE %s.accounts " +
+        "SET jsonb = jsonb_set(jsonb, '{metadata,updatedDate}', '\"2015-01-01T00:00:00.000+00:00\"') " +
+        "WHERE id = '%s'",
+      PostgresClient.convertToPsqlStandard(TENANT_NAME), account.getId()));
+  }
+
+  private void assertStatus(String path, int expectedStatus) {
+    client.get(path)
+      .then()
+      .statusCode(expectedStatus);
+  }
+}
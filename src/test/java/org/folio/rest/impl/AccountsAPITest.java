@@ -1,6 +1,7 @@
 package org.folio.rest.impl;
 
 import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathMatching;
@@ -12,9 +13,11 @@ import static org.folio.test.support.matcher.AccountMatchers.isPaidFully;
 import static org.hamcrest.CoreMatchers.allOf;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasKey;
 import static org.junit.Assert.assertEquals;
 
 import java.util.Comparator;
@@ -47,12 +50,19 @@ import io.vertx.core.json.JsonObject;
 public class AccountsAPITest extends ApiTests {
   private static final String ACCOUNTS_TABLE = "accounts";
   private static final String FEEFINE_CLOSED_EVENT_NAME = "LOAN_RELATED_FEE_FINE_CLOSED";
+  // IDs from items.json and holdings.json
+  private static final String ITEM_ID = "43ec57e3-3974-4d05-a2c2-95126e087b72";
+  private static final String HOLDINGS_RECORD_ID = "65cb2bf0-d4c2-4886-8ad0-b76f1ba75d61";
+  private static final String INSTANCE_ID = "cd28da0f-a3e4-465c-82f1-acade4e8e170";
 
   @Before
   public void setUp() {
     getOkapi().stubFor(WireMock.get(WireMock.urlPathMatching("/inventory/items.*"))
       .willReturn(aResponse().withBodyFile("items.json")));
 
+    getOkapi().stubFor(WireMock.get(WireMock.urlPathMatching("/item-storage/items.*"))
+      .willReturn(aResponse().withBodyFile("items.json")));
+
     getOkapi().stubFor(WireMock.get(WireMock.urlPathMatching("/holdings-storage/holdings.*"))
       .willReturn(aResponse().withBodyFile("holdings.json")));
 
@@ -105,6 +115,56 @@ public class AccountsAPITest extends ApiTests {
     assertBalanceChangedEventPublished(accountToDelete);
   }
 
+  @Test
+  public void inventoryFieldsArePopulatedOnlyWhenRequested() {
+    Account account = buildAccount().withItemId(ITEM_ID);
+    accountsClient.create(account);
+    int itemRequestsCount = getOkapi().findAll(getRequestedFor(urlPathEqualTo("/item-storage/items"))).size();
+
+    client.get("/accounts?query=id==" + account.getId())
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("accounts[0].instanceId", nullValue());
+
+    assertEquals(itemRequestsCount,
+      getOkapi().findAll(getRequestedFor(urlPathEqualTo("/item-storage/items"))).size());
+
+    client.get("/accounts?include=instance&query=id==" + account.getId())
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("accounts[0].holdingsRecordId", is(HOLDINGS_RECORD_ID))
+      .body("accounts[0].instanceId", is(INSTANCE_ID));
+  }
+
+  @Test
+  public void totalRecordsAreCalculatedAccordingToRequestedMode() {
+    final String userId = randomId();
+    accountsClient.create(buildAccount().withUserId(userId));
+    accountsClient.create(buildAccount().withUserId(userId));
+    accountsClient.create(buildAccount());
+
+    client.get("/accounts?totalRecords=exact&limit=1&query=userId==" + userId)
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("accounts.size()", is(1))
+      .body("totalRecords", is(2));
+
+    client.get("/accounts?totalRecords=estimated&query=userId==" + userId)
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("totalRecords", is(2));
+
+    client.get("/accounts?totalRecords=none&query=userId==" + userId)
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("accounts.size()", is(2))
+      .body("$", not(hasKey("totalRecords")));
+
+    client.get("/accounts?totalRecords=approximate")
+      .then()
+      .statusCode(HttpStatus.SC_BAD_REQUEST);
+  }
+
   @Test
   public void eventIsPublishedWhenFeeFineIsClosedWithLoanAndNoRemainingAmount() {
     final String accountId = randomId();
@@ -1,5 +1,6 @@
 package org.folio.rest.impl;
 
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
 import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
 import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
 import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
@@ -15,6 +16,9 @@ import static org.folio.rest.utils.ResourceClients.buildAccountBulkPayClient;
 import static org.folio.rest.utils.ResourceClients.buildAccountBulkTransferClient;
 import static org.folio.rest.utils.ResourceClients.buildAccountBulkWaiveClient;
 import static org.folio.rest.utils.ResourceClients.buildFeeFineActionsClient;
+import static org.folio.test.support.matcher.constant.ServicePath.FEEFINES_PATH;
+import static org.folio.test.support.matcher.constant.ServicePath.OWNERS_PATH;
+import static org.folio.test.support.matcher.constant.ServicePath.USERS_PATH;
 import static org.folio.test.support.matcher.FeeFineActionMatchers.feeFineAction;
 import static org.folio.test.support.matcher.LogEventMatcher.feeFineActionLogEventPayload;
 import static org.hamcrest.CoreMatchers.allOf;
@@ -30,6 +34,8 @@ import io.vertx.core.json.JsonObject;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.http.HttpStatus;
 import org.awaitility.Awaitility;
 import org.folio.rest.domain.Action;
@@ -39,8 +45,11 @@ import org.folio.rest.jaxrs.model.Account;
 import org.folio.rest.jaxrs.model.DefaultBulkActionRequest;
 import org.folio.rest.jaxrs.model.Event;
 import org.folio.rest.jaxrs.model.EventMetadata;
+import org.folio.rest.jaxrs.model.Feefine;
+import org.folio.rest.jaxrs.model.Owner;
 import org.folio.rest.jaxrs.model.PaymentStatus;
 import org.folio.rest.jaxrs.model.Status;
+import org.folio.rest.jaxrs.model.User;
 import org.folio.rest.utils.ResourceClient;
 import org.folio.test.support.ActionsAPITests;
 import org.folio.util.pubsub.PubSubClientUtils;
@@ -51,6 +60,8 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameters;
 
+import com.github.tomakehurst.wiremock.client.WireMock;
+
 @RunWith(value = Parameterized.class)
 public class AccountsBulkPayWaiveTransferAPITests extends ActionsAPITests {
   private static final String FEE_FINE_ACTIONS = "feefineactions";
@@ -330,6 +341,45 @@ public class AccountsBulkPayWaiveTransferAPITests extends ActionsAPITests {
         expectedActionAmount, expectedRemainingAmount2)))));
   }
 
+  @Test
+  public void singleNoticeIsSentForAllAccountsOfPatron() {
+    getOkapi().stubFor(WireMock.post(urlPathEqualTo("/patron-notice"))
+      .willReturn(aResponse().withStatus(200)));
+
+    Owner owner = new Owner()
+      .withId(randomId())
+      .withOwner("owner " + randomId())
+      .withDefaultActionNoticeId(randomId());
+    Feefine feefine = new Feefine()
+      .withId(randomId())
+      .withOwnerId(owner.getId())
+      .withFeeFineType("book lost")
+      .withAutomatic(false);
+
+    createEntity(OWNERS_PATH, owner);
+    createEntity(FEEFINES_PATH, feefine);
+    createStub(USERS_PATH, new User().withId(USER_ID).withBarcode("54321"), USER_ID);
+
+    List<String> accountIds = Stream.generate(() -> randomId())
+      .limit(3)
+      .collect(Collectors.toList());
+
+    accountIds.forEach(accountId -> postAccount(createAccount(accountId, 1.0)
+      .withItemId(null)
+      .withOwnerId(owner.getId())
+      .withFeeFineId(feefine.getId())));
+
+    resourceClient.post(toJson(createRequest("3.00", accountIds).withNotifyPatron(true)))
+      .then()
+      .statusCode(HttpStatus.SC_CREATED);
+
+    Awaitility.await()
+      .pollDelay(1, TimeUnit.SECONDS)
+      .atMost(5, TimeUnit.SECONDS)
+      .untilAsserted(() -> getOkapi().verify(1,
+        postRequestedFor(urlPathEqualTo("/patron-notice"))));
+  }
+
   private Account createAccount(String accountId, double amount) {
     return new Account()
       .withId(accountId)
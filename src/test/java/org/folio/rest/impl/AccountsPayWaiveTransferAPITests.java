@@ -17,9 +17,11 @@ import static org.folio.rest.utils.ResourceClients.buildFeeFineActionsClient;
 import static org.folio.test.support.matcher.FeeFineActionMatchers.feeFineAction;
 import static org.folio.test.support.matcher.LogEventMatcher.feeFineActionLogEventPayload;
 import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 
@@ -38,6 +40,7 @@ import org.folio.rest.jaxrs.model.Event;
 import org.folio.rest.jaxrs.model.EventMetadata;
 import org.folio.rest.jaxrs.model.PaymentStatus;
 import org.folio.rest.jaxrs.model.Status;
+import org.folio.rest.metrics.ServerTiming;
 import org.folio.rest.utils.ResourceClient;
 import org.folio.test.support.ActionsAPITests;
 import org.folio.util.pubsub.PubSubClientUtils;
@@ -298,6 +301,32 @@ public class AccountsPayWaiveTransferAPITests extends ActionsAPITests {
         requestedAmount, expectedAccountBalanceAfter)));
   }
 
+  @Test
+  public void serverTimingIsReturnedWhenRequested() {
+    postAccount(createAccount(10.0));
+
+    client.getRequestSpecification()
+      .header(ServerTiming.ENABLE_HEADER, "true")
+      .body(createRequestJson("1.0"))
+      .when()
+      .post(format("/accounts/%s/%s", ACCOUNT_ID, action.name().toLowerCase()))
+      .then()
+      .statusCode(HttpStatus.SC_CREATED)
+      .header(ServerTiming.SERVER_TIMING_HEADER, allOf(containsString("db;dur="),
+        containsString("validation;dur="), containsString("events;dur="),
+        containsString("total;dur=")));
+  }
+
+  @Test
+  public void serverTimingIsNotReturnedByDefault() {
+    postAccount(createAccount(10.0));
+
+    resourceClient.post(createRequestJson("1.0"))
+      .then()
+      .statusCode(HttpStatus.SC_CREATED)
+      .header(ServerTiming.SERVER_TIMING_HEADER, nullValue());
+  }
+
   private Account createAccount(double amount) {
     return new Account()
       .withId(ACCOUNT_ID)
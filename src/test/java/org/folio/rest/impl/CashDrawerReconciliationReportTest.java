@@ -141,6 +141,23 @@ public class CashDrawerReconciliationReportTest extends FeeFineReportsAPITestBas
       .body("reportData[0].feeFineId", is(sourceObjects.getLeft().getId()));
   }
 
+  @Test
+  public void reportIsBuiltFromReportingDataSource() {
+    useReportingDataSource();
+    Pair<Account, Feefineaction> sourceObjects = createMinimumViableReportData();
+
+    reportClient.getCashDrawerReconciliationReport("2020-01-01", "2020-01-02", CREATED_AT, null)
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("reportData", iterableWithSize(1))
+      .body("reportData[0].feeFineId", is(sourceObjects.getLeft().getId()));
+
+    reportSourcesClient.getCashDrawerReconciliationReportSources(CREATED_AT)
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("sources", iterableWithSize(1));
+  }
+
   @Test
   public void emptyResultWhenFilteredBySource() {
     createMinimumViableReportData();
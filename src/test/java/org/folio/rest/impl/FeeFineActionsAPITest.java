@@ -29,8 +29,11 @@ import static org.folio.test.support.matcher.constant.ServicePath.INSTITUTIONS_P
 import static org.folio.test.support.matcher.constant.ServicePath.LIBRARIES_PATH;
 import static org.folio.test.support.matcher.constant.ServicePath.LOCATIONS_PATH;
 import static org.folio.test.support.matcher.constant.ServicePath.USERS_PATH;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.core.IsEqual.equalTo;
 
@@ -347,6 +350,28 @@ public class FeeFineActionsAPITest extends ApiTests {
     assertThatLogPayloadIsValid(expectedFeeFineLogContext, extractLastLogRecordPayloadOfType(FEE_FINE));
   }
 
+  @Test
+  public void totalRecordsAreCalculatedAccordingToRequestedMode() {
+    final User user = createUser();
+    final Account account = new Account().withId(randomId());
+
+    postAction(createCharge(user, account, false));
+    postAction(createAction(user, account, false));
+    postAction(createAction(createUser(), account, false));
+
+    getAll(ServicePath.ACTIONS_PATH + "?totalRecords=exact&limit=1&query=userId==" + user.getId())
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("feefineactions", hasSize(1))
+      .body("totalRecords", is(2));
+
+    getAll(ServicePath.ACTIONS_PATH + "?totalRecords=none&query=userId==" + user.getId())
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("feefineactions", hasSize(2))
+      .body("$", not(hasKey("totalRecords")));
+  }
+
   @Test
   public void deleteFeeFineActionByIdOnlyDeletesOneAction() {
     final Library library = createLibrary();
@@ -0,0 +1,92 @@
+package org.folio.rest.impl;
+
+import static java.lang.String.format;
+import static org.folio.test.support.EntityBuilder.buildAccount;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.test.support.ApiTests;
+import org.junit.Test;
+
+import io.restassured.response.Response;
+
+public class FeeFineChangesAPITest extends ApiTests {
+  private static final String REST_PATH = "/fee-fine-changes";
+
+  @Test
+  public void changesAreReturnedInOrderAndFeedCanBeResumed() {
+    String startToken = skipExistingChanges();
+
+    Account account = buildAccount();
+    accountsClient.create(account);
+    accountsClient.update(account.getId(), account.withRemaining(1.0));
+
+    Response firstBatch = getChanges(REST_PATH + "?limit=1&after=" + startToken);
+    assertThat(firstBatch.path("changes.operation"), contains("INSERT"));
+    assertThat(firstBatch.path("changes.recordId"), contains(account.getId()));
+    assertThat(firstBatch.path("changes[0].account.remaining"), is(1.0f));
+
+    Response secondBatch = getChanges(REST_PATH + "?after=" + firstBatch.path("nextToken"));
+    assertThat(secondBatch.path("changes.operation"), contains("UPDATE"));
+
+    String lastToken = secondBatch.path("nextToken");
+    List<Object> noChanges = getChanges(REST_PATH + "?after=" + lastToken).path("changes");
+    assertThat(noChanges, is(empty()));
+  }
+
+  @Test
+  public void changesOlderThanRetentionWindowArePruned() {
+    String startToken = skipExistingChanges();
+
+    Account oldAccount = buildAccount();
+    Account recentAccount = buildAccount();
+    accountsClient.create(oldAccount);
+    accountsClient.create(recentAccount);
+
+    executeSql(format("UPDATE %s.fee_fine_changes " +
+        "SET changed_date = now() - interval '60 days' WHERE record_id = '%s'",
+      PostgresClient.convertToPsqlStandard(TENANT_NAME), oldAccount.getId()));
+
+    client.post(REST_PATH + "/pruning?retentionDays=30&batchSize=1", "")
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("prunedChangeCount", greaterThanOrEqualTo(1))
+      .body("completed", is(true));
+
+    Response changes = getChanges(REST_PATH + "?after=" + startToken);
+    assertThat(changes.path("changes.recordId"), contains(recentAccount.getId()));
+  }
+
+  @Test
+  public void invalidTokenIsRejected() {
+    client.get(REST_PATH + "?after=abc")
+      .then()
+      .statusCode(HttpStatus.SC_BAD_REQUEST);
+  }
+
+  private String skipExistingChanges() {
+    String token = "";
+    String nextToken = getChanges(REST_PATH + "?limit=10000").path("nextToken");
+
+    while (!nextToken.equals(token)) {
+      token = nextToken;
+      nextToken = getChanges(REST_PATH + "?limit=10000&after=" + token).path("nextToken");
+    }
+
+    return token;
+  }
+
+  private Response getChanges(String path) {
+    Response response = client.get(path);
+    response.then().statusCode(HttpStatus.SC_OK);
+    return response;
+  }
+}
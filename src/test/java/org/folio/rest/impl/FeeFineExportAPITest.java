@@ -0,0 +1,71 @@
+package org.folio.rest.impl;
+
+import static org.folio.test.support.EntityBuilder.buildAccount;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.http.HttpStatus;
+import org.folio.rest.jaxrs.model.Account;
+import org.folio.test.support.ApiTests;
+import org.junit.Test;
+
+import io.restassured.response.Response;
+import io.vertx.core.json.JsonObject;
+
+public class FeeFineExportAPITest extends ApiTests {
+  private static final String REST_PATH = "/fee-fine-export";
+
+  @Test
+  public void accountsMatchingQueryAreStreamedAsNdjson() {
+    Account firstAccount = buildAccount();
+    Account secondAccount = buildAccount();
+    accountsClient.create(firstAccount);
+    accountsClient.create(secondAccount);
+    accountsClient.create(buildAccount());
+
+    Response response = client.get(String.format("%s/accounts?query=id==(%s or %s)",
+      REST_PATH, firstAccount.getId(), secondAccount.getId()));
+
+    response.then().statusCode(HttpStatus.SC_OK);
+    assertThat(response.getContentType(), startsWith("application/x-ndjson"));
+
+    List<String> exportedIds = Arrays.stream(response.asString().split("\n"))
+      .map(line -> new JsonObject(line).getString("id"))
+      .collect(Collectors.toList());
+
+    assertThat(exportedIds, containsInAnyOrder(firstAccount.getId(), secondAccount.getId()));
+  }
+
+  @Test
+  public void accountsAreExportedFromReportingDataSource() {
+    useReportingDataSource();
+
+    Account account = buildAccount();
+    accountsClient.create(account);
+    accountsClient.create(buildAccount());
+
+    // userId is compared with f_unaccent, which is only found in the tenant's schema
+    Response response = client.get(String.format("%s/accounts?query=userId==%s", REST_PATH,
+      account.getUserId()));
+
+    response.then().statusCode(HttpStatus.SC_OK);
+
+    List<String> exportedIds = Arrays.stream(response.asString().split("\n"))
+      .map(line -> new JsonObject(line).getString("id"))
+      .collect(Collectors.toList());
+
+    assertThat(exportedIds, containsInAnyOrder(account.getId()));
+  }
+
+  @Test
+  public void invalidQueryIsRejectedBeforeStreaming() {
+    client.get(REST_PATH + "/feefineactions?query=id==")
+      .then()
+      .statusCode(HttpStatus.SC_BAD_REQUEST);
+  }
+}
@@ -0,0 +1,88 @@
+package org.folio.rest.impl;
+
+import static org.folio.rest.utils.LogEventUtils.fetchLogEventPayloads;
+import static org.folio.test.support.EntityBuilder.buildAccount;
+import static org.folio.test.support.EntityBuilder.buildFeeFineActionWithoutComments;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpStatus;
+import org.awaitility.Awaitility;
+import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.Feefineaction;
+import org.folio.test.support.ApiTests;
+import org.junit.Test;
+
+import io.restassured.response.Response;
+import io.vertx.core.json.Json;
+
+public class FeeFineImportAPITest extends ApiTests {
+  private static final String REST_PATH = "/fee-fine-import";
+
+  @Test
+  public void invalidAndConflictingLinesAreReported() {
+    Account firstAccount = buildAccount();
+    Account secondAccount = buildAccount();
+    Account duplicateAccount = buildAccount(firstAccount.getId());
+
+    String body = String.join("\n",
+      Json.encode(firstAccount),
+      "{not json",
+      "",
+      Json.encode(buildAccount()).replaceFirst("\\{", "{\"unknownProperty\":1,"),
+      Json.encode(secondAccount),
+      Json.encode(duplicateAccount));
+
+    postNdjson("/accounts?events=none", body)
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("importedCount", is(2))
+      .body("failedCount", is(3))
+      .body("errors.line", contains(2, 4, 6));
+
+    accountsClient.getById(firstAccount.getId());
+    accountsClient.getById(secondAccount.getId());
+  }
+
+  @Test
+  public void actionsAreStoredInBatchesAndLogEventsArePublished() {
+    Account account = buildAccount();
+    accountsClient.create(account);
+
+    Feefineaction firstAction = buildFeeFineActionWithoutComments(account.getUserId(),
+      account.getId(), "Paid partially", "Cash", 1.0, 9.0, new Date());
+    Feefineaction secondAction = buildFeeFineActionWithoutComments(account.getUserId(),
+      account.getId(), "Paid partially", "Cash", 2.0, 7.0, new Date());
+    Feefineaction thirdAction = buildFeeFineActionWithoutComments(account.getUserId(),
+      account.getId(), "Paid partially", "Cash", 3.0, 4.0, new Date());
+
+    String body = String.join("\n", Json.encode(firstAction), Json.encode(secondAction),
+      Json.encode(thirdAction));
+
+    postNdjson("/feefineactions?batchSize=2", body)
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("importedCount", is(3))
+      .body("failedCount", is(0))
+      .body("failedPublishCount", is(0));
+
+    feeFineActionsClient.getById(firstAction.getId());
+    feeFineActionsClient.getById(thirdAction.getId());
+
+    Awaitility.await()
+      .atMost(5, TimeUnit.SECONDS)
+      .until(() -> fetchLogEventPayloads(getOkapi()).stream()
+        .anyMatch(payload -> payload.contains(account.getId())));
+  }
+
+  private Response postNdjson(String path, String body) {
+    return client.getRequestSpecification()
+      .contentType("application/octet-stream")
+      .body(body)
+      .when()
+      .post(REST_PATH + path);
+  }
+}
@@ -0,0 +1,23 @@
+package org.folio.rest.impl;
+
+import static org.hamcrest.Matchers.containsString;
+
+import org.apache.http.HttpStatus;
+import org.folio.test.support.ApiTests;
+import org.junit.Test;
+
+public class FeeFineMetricsAPITest extends ApiTests {
+
+  @Test
+  public void repositoryQueriesAreTimed() {
+    client.get("/fee-fine-changes?limit=1")
+      .then()
+      .statusCode(HttpStatus.SC_OK);
+
+    client.get("/fee-fine-metrics")
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body(containsString("feesfines_db_query_seconds_count{outcome=\"success\"," +
+        "query=\"getChanges\",repository=\"FeeFineChangeRepository\""));
+  }
+}
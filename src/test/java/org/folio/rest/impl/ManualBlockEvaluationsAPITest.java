@@ -0,0 +1,125 @@
+package org.folio.rest.impl;
+
+import static org.folio.test.support.EntityBuilder.buildManualBlock;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.apache.http.HttpStatus;
+import org.folio.rest.jaxrs.model.Manualblock;
+import org.folio.test.support.ApiTests;
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+import io.restassured.response.ValidatableResponse;
+
+public class ManualBlockEvaluationsAPITest extends ApiTests {
+  private static final String REST_PATH = "/manual-block-evaluations";
+
+  @Test
+  public void expiredBlocksAreNotTakenIntoAccount() {
+    final String userId = randomId();
+
+    manualBlocksClient.create(buildManualBlock()
+      .withUserId(userId)
+      .withBorrowing(true)
+      .withRenewals(false)
+      .withRequests(false)
+      .withExpirationDate(DateTime.now().plusDays(1).toDate()));
+
+    manualBlocksClient.create(buildManualBlock()
+      .withUserId(userId)
+      .withBorrowing(false)
+      .withRenewals(false)
+      .withRequests(true)
+      .withExpirationDate(DateTime.now().minusDays(1).toDate()));
+
+    manualBlocksClient.create(buildManualBlock()
+      .withUserId(userId)
+      .withBorrowing(false)
+      .withRenewals(true)
+      .withRequests(false)
+      .withExpirationDate(null));
+
+    evaluate(userId)
+      .body("manualBlockEvaluations[0].userId", is(userId))
+      .body("manualBlockEvaluations[0].borrowing", is(true))
+      .body("manualBlockEvaluations[0].renewals", is(true))
+      .body("manualBlockEvaluations[0].requests", is(false))
+      .body("manualBlockEvaluations[0].blocks", hasSize(2));
+  }
+
+  @Test
+  public void evaluationReflectsCreatedUpdatedAndDeletedBlocks() {
+    final String userId = randomId();
+    final String otherUserId = randomId();
+
+    evaluate(userId, otherUserId)
+      .body("totalRecords", is(2))
+      .body("manualBlockEvaluations[0].borrowing", is(false))
+      .body("manualBlockEvaluations[0].blocks", hasSize(0))
+      .body("manualBlockEvaluations[1].userId", is(otherUserId));
+
+    Manualblock block = buildManualBlock()
+      .withUserId(userId)
+      .withExpirationDate(DateTime.now().plusDays(1).toDate());
+    manualBlocksClient.create(block);
+
+    evaluate(userId)
+      .body("manualBlockEvaluations[0].borrowing", is(true))
+      .body("manualBlockEvaluations[0].blocks", hasSize(1));
+
+    manualBlocksClient.update(block.getId(), block.withBorrowing(false));
+
+    evaluate(userId)
+      .body("manualBlockEvaluations[0].borrowing", is(false))
+      .body("manualBlockEvaluations[0].requests", is(true));
+
+    manualBlocksClient.delete(block.getId());
+
+    evaluate(userId)
+      .body("manualBlockEvaluations[0].requests", is(false))
+      .body("manualBlockEvaluations[0].blocks", hasSize(0));
+  }
+
+  @Test
+  public void createdBlockIsEvaluatedImmediatelyWhileOtherEvaluationsAreInProgress() {
+    final String userId = randomId();
+
+    for (int blocks = 1; blocks <= 5; blocks++) {
+      CompletableFuture<Void> concurrentEvaluations = CompletableFuture.runAsync(() -> {
+        for (int i = 0; i < 5; i++) {
+          evaluate(userId);
+        }
+      });
+
+      manualBlocksClient.create(buildManualBlock()
+        .withUserId(userId)
+        .withExpirationDate(DateTime.now().plusDays(1).toDate()));
+
+      evaluate(userId)
+        .body("manualBlockEvaluations[0].blocks", hasSize(blocks));
+
+      get(concurrentEvaluations);
+    }
+  }
+
+  @Test
+  public void invalidUserIdIsRejected() {
+    client.get(REST_PATH + "?userId=not-a-uuid")
+      .then()
+      .statusCode(HttpStatus.SC_BAD_REQUEST);
+  }
+
+  private ValidatableResponse evaluate(String... userIds) {
+    StringBuilder uri = new StringBuilder(REST_PATH);
+    for (int i = 0; i < userIds.length; i++) {
+      uri.append(i == 0 ? "?" : "&").append("userId=").append(userIds[i]);
+    }
+
+    return client.get(uri.toString())
+      .then()
+      .statusCode(HttpStatus.SC_OK);
+  }
+}
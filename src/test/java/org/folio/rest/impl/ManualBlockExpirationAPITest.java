@@ -0,0 +1,84 @@
+package org.folio.rest.impl;
+
+import static org.folio.rest.utils.LogEventUtils.fetchLogEventPayloads;
+import static org.folio.test.support.EntityBuilder.buildManualBlock;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpStatus;
+import org.awaitility.Awaitility;
+import org.folio.rest.jaxrs.model.Manualblock;
+import org.folio.test.support.ApiTests;
+import org.joda.time.DateTime;
+import org.junit.Test;
+
+public class ManualBlockExpirationAPITest extends ApiTests {
+  private static final String REST_PATH = "/manual-block-expiration";
+
+  @Test
+  public void expiredBlocksAreDeletedInBatches() {
+    final String userId = randomId();
+
+    Manualblock expiredBlock = buildManualBlock()
+      .withUserId(userId)
+      .withExpirationDate(DateTime.now().minusDays(2).toDate());
+    Manualblock anotherExpiredBlock = buildManualBlock()
+      .withUserId(userId)
+      .withExpirationDate(DateTime.now().minusMinutes(1).toDate());
+    Manualblock activeBlock = buildManualBlock()
+      .withUserId(userId)
+      .withExpirationDate(DateTime.now().plusDays(1).toDate());
+    Manualblock permanentBlock = buildManualBlock()
+      .withUserId(userId)
+      .withExpirationDate(null);
+
+    manualBlocksClient.create(expiredBlock);
+    manualBlocksClient.create(anotherExpiredBlock);
+    manualBlocksClient.create(activeBlock);
+    manualBlocksClient.create(permanentBlock);
+
+    client.post(REST_PATH + "?batchSize=1", "")
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("deletedCount", greaterThanOrEqualTo(2))
+      .body("batchCount", greaterThanOrEqualTo(3))
+      .body("completed", is(true));
+
+    assertManualBlockStatus(expiredBlock, HttpStatus.SC_NOT_FOUND);
+    assertManualBlockStatus(anotherExpiredBlock, HttpStatus.SC_NOT_FOUND);
+    assertManualBlockStatus(activeBlock, HttpStatus.SC_OK);
+    assertManualBlockStatus(permanentBlock, HttpStatus.SC_OK);
+
+    Awaitility.await()
+      .atMost(5, TimeUnit.SECONDS)
+      .until(() -> fetchLogEventPayloads(getOkapi()).stream()
+        .anyMatch(payload -> payload.contains(expiredBlock.getId())));
+  }
+
+  @Test
+  public void runStopsAtBatchLimit() {
+    final String userId = randomId();
+
+    manualBlocksClient.create(buildManualBlock()
+      .withUserId(userId)
+      .withExpirationDate(DateTime.now().minusDays(1).toDate()));
+    manualBlocksClient.create(buildManualBlock()
+      .withUserId(userId)
+      .withExpirationDate(DateTime.now().minusDays(1).toDate()));
+
+    client.post(REST_PATH + "?batchSize=1&maxBatches=1", "")
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("deletedCount", is(1))
+      .body("batchCount", is(1))
+      .body("completed", is(false));
+  }
+
+  private void assertManualBlockStatus(Manualblock block, int expectedStatus) {
+    client.get("/manualblocks/" + block.getId())
+      .then()
+      .statusCode(expectedStatus);
+  }
+}
@@ -11,8 +11,11 @@ import static org.folio.rest.service.LogEventPublisher.LogEventPayloadType.MANUA
 import static org.folio.rest.service.LogEventPublisher.PAYLOAD;
 import static org.folio.test.support.EntityBuilder.buildManualBlock;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasKey;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -76,6 +79,26 @@ public class ManualBlocksAPITests extends ApiTests {
 
   }
 
+  @Test
+  public void totalRecordsAreCalculatedAccordingToRequestedMode() {
+    final String userId = randomId();
+    manualBlocksClient.create(buildManualBlock().withUserId(userId));
+    manualBlocksClient.create(buildManualBlock().withUserId(userId));
+    manualBlocksClient.create(buildManualBlock());
+
+    client.get("/manualblocks?totalRecords=exact&limit=1&query=userId==" + userId)
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("manualblocks.size()", is(1))
+      .body("totalRecords", is(2));
+
+    client.get("/manualblocks?totalRecords=none&query=userId==" + userId)
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("manualblocks.size()", is(2))
+      .body("$", not(hasKey("totalRecords")));
+  }
+
   private Event getLastLogEvent() {
     return getLastPublishedEventOfType(EventType.LOG_RECORD.toString());
   }
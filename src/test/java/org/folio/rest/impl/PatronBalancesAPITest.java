@@ -0,0 +1,153 @@
+package org.folio.rest.impl;
+
+import static java.lang.String.format;
+import static org.folio.test.support.EntityBuilder.buildAccount;
+import static org.folio.test.support.matcher.constant.DbTable.ACCOUNTS_TABLE;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.apache.http.HttpStatus;
+import org.folio.rest.jaxrs.model.Account;
+import org.folio.rest.jaxrs.model.Status;
+import org.folio.rest.persist.PostgresClient;
+import org.folio.test.support.ApiTests;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PatronBalancesAPITest extends ApiTests {
+  private static final String REST_PATH = "/patron-balances";
+
+  @Before
+  public void setUp() {
+    removeAllFromTable(ACCOUNTS_TABLE);
+  }
+
+  @Test
+  public void balanceIncludesOnlyOpenAccountsOfRequestedPatrons() {
+    final String userId = randomId();
+    final String ownerId = randomId();
+    final String feeFineId = randomId();
+
+    createAccount(buildAccount(2.0, 1.5).withUserId(userId).withOwnerId(ownerId)
+      .withFeeFineId(feeFineId));
+    createAccount(buildAccount(5.0, 5.0).withUserId(userId).withOwnerId(ownerId));
+    createAccount(buildAccount(3.0, 0.0).withUserId(userId)
+      .withStatus(new Status().withName("Closed")));
+    createAccount(buildAccount(7.0, 7.0));
+
+    client.get(REST_PATH + "?userId=" + userId)
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("totalRecords", is(1))
+      .body("patronBalances[0].userId", is(userId))
+      .body("patronBalances[0].openCount", is(2))
+      .body("patronBalances[0].remaining", is(6.5f))
+      .body("patronBalances[0].oldestOpenDate", notNullValue())
+      .body("patronBalances[0].owners", hasSize(1))
+      .body("patronBalances[0].owners[0].id", is(ownerId))
+      .body("patronBalances[0].owners[0].openCount", is(2))
+      .body("patronBalances[0].owners[0].remaining", is(6.5f))
+      .body("patronBalances[0].feeFineTypes", hasSize(2))
+      .body("patronBalances[0].feeFineTypes.remaining", containsInAnyOrder(1.5f, 5.0f));
+  }
+
+  @Test
+  public void emptyBalanceIsReturnedForPatronWithoutOpenAccounts() {
+    final String firstUserId = randomId();
+    final String secondUserId = randomId();
+
+    createAccount(buildAccount(2.0, 2.0).withUserId(secondUserId));
+
+    client.get(REST_PATH + "?userId=" + firstUserId + "&userId=" + secondUserId)
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("totalRecords", is(2))
+      .body("patronBalances[0].userId", is(firstUserId))
+      .body("patronBalances[0].openCount", is(0))
+      .body("patronBalances[0].remaining", is(0.0f))
+      .body("patronBalances[0].oldestOpenDate", nullValue())
+      .body("patronBalances[0].owners", hasSize(0))
+      .body("patronBalances[1].userId", is(secondUserId))
+      .body("patronBalances[1].openCount", is(1))
+      .body("patronBalances[1].remaining", is(2.0f));
+  }
+
+  @Test
+  public void invalidUserIdIsRejected() {
+    client.get(REST_PATH + "?userId=not-a-uuid")
+      .then()
+      .statusCode(HttpStatus.SC_BAD_REQUEST);
+  }
+
+  @Test
+  public void maintainedBalanceFollowsAccountChanges() {
+    final String userId = randomId();
+    final Account firstAccount = buildAccount(2.0, 1.5).withUserId(userId);
+    final Account secondAccount = buildAccount(5.0, 5.0).withUserId(userId);
+
+    createAccount(firstAccount);
+    createAccount(secondAccount);
+
+    assertMaintainedBalance(userId, 2, 6.5f);
+
+    accountsClient.update(firstAccount.getId(), firstAccount
+      .withRemaining(0.0)
+      .withStatus(new Status().withName("Closed")));
+
+    assertMaintainedBalance(userId, 1, 5.0f);
+
+    accountsClient.update(secondAccount.getId(), secondAccount.withRemaining(3.0));
+
+    assertMaintainedBalance(userId, 1, 3.0f);
+
+    accountsClient.delete(secondAccount.getId());
+
+    assertMaintainedBalance(userId, 0, 0.0f);
+  }
+
+  @Test
+  public void verificationRepairsDriftedBalance() {
+    final String userId = randomId();
+    createAccount(buildAccount(2.0, 2.0).withUserId(userId));
+
+    executeSql(format("UPDATE %s.patron_balances SET open_count = 5 WHERE user_id = '%s'",
+      PostgresClient.convertToPsqlStandard(TENANT_NAME), userId));
+
+    client.post(REST_PATH + "/verify?repair=false", "")
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("driftedCount", is(1))
+      .body("repaired", is(false));
+
+    assertMaintainedBalance(userId, 5, 2.0f);
+
+    client.post(REST_PATH + "/verify", "")
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("driftedCount", is(1))
+      .body("repaired", is(true));
+
+    assertMaintainedBalance(userId, 1, 2.0f);
+
+    client.post(REST_PATH + "/verify", "")
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("driftedCount", is(0));
+  }
+
+  private void assertMaintainedBalance(String userId, int openCount, float remaining) {
+    client.get(REST_PATH + "/" + userId)
+      .then()
+      .statusCode(HttpStatus.SC_OK)
+      .body("userId", is(userId))
+      .body("openCount", is(openCount))
+      .body("remaining", is(remaining));
+  }
+
+  private void createAccount(Account account) {
+    accountsClient.create(account);
+  }
+}
@@ -0,0 +1,56 @@
+package org.folio.rest.metrics;
+
+import static io.vertx.core.Future.failedFuture;
+import static io.vertx.core.Future.succeededFuture;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import org.junit.Test;
+
+import io.vertx.core.Promise;
+
+public class MetricsRecorderTest {
+
+  @Test
+  public void idsAndQueryAreRemovedFromEndpoint() {
+    assertThat(MetricsRecorder.endpoint(
+      "/users/0f6a9e4a-26a6-4b84-9b8e-8fd4c0e2b7a1?limit=1"), is("/users/{id}"));
+    assertThat(MetricsRecorder.endpoint(
+      "/loan-storage/loans/0f6a9e4a-26a6-4b84-9b8e-8fd4c0e2b7a1/history"),
+      is("/loan-storage/loans/{id}/history"));
+    assertThat(MetricsRecorder.endpoint("/patron-notice"), is("/patron-notice"));
+  }
+
+  @Test
+  public void callsAreTimedByOutcome() {
+    MetricsRecorder.timeReport("test-report", "metrics_tenant", () -> succeededFuture("report"));
+    MetricsRecorder.timeReport("test-report", "metrics_tenant",
+      () -> failedFuture(new IllegalStateException()));
+
+    String metrics = MetricsRecorder.scrape();
+
+    assertThat(metrics, containsString(
+      "feesfines_report_seconds_count{outcome=\"success\",report=\"test-report\"," +
+        "tenant=\"metrics_tenant\",} 1.0"));
+    assertThat(metrics, containsString(
+      "feesfines_report_seconds_count{outcome=\"failure\",report=\"test-report\"," +
+        "tenant=\"metrics_tenant\",} 1.0"));
+  }
+
+  @Test
+  public void pendingQueriesAreReportedAsActive() {
+    Promise<String> promise = MetricsRecorder.queryPromise(MetricsRecorderTest.class,
+      "pendingQuery", "metrics_tenant");
+
+    assertThat(MetricsRecorder.scrape(), containsString(
+      "feesfines_db_query_active_seconds_active_count{query=\"pendingQuery\"," +
+        "repository=\"MetricsRecorderTest\",tenant=\"metrics_tenant\",} 1.0"));
+
+    promise.complete("done");
+
+    assertThat(MetricsRecorder.scrape(), containsString(
+      "feesfines_db_query_active_seconds_active_count{query=\"pendingQuery\"," +
+        "repository=\"MetricsRecorderTest\",tenant=\"metrics_tenant\",} 0.0"));
+  }
+}
@@ -0,0 +1,62 @@
+package org.folio.rest.metrics;
+
+import static io.vertx.core.Future.succeededFuture;
+import static org.folio.rest.metrics.ServerTiming.Phase.DB;
+import static org.folio.rest.metrics.ServerTiming.Phase.DOWNSTREAM;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class ServerTimingTest {
+
+  @Test
+  public void recorderIsNotStartedUnlessRequested() {
+    Map<String, String> headers = new HashMap<>();
+
+    assertThat(ServerTiming.start(headers), sameInstance(ServerTiming.DISABLED));
+    assertThat(ServerTiming.of(headers), sameInstance(ServerTiming.DISABLED));
+  }
+
+  @Test
+  public void callsAreSummedUpByPhase() {
+    Map<String, String> headers = new HashMap<>();
+    headers.put("X-Okapi-Server-Timing", "true");
+
+    ServerTiming serverTiming = ServerTiming.start(headers);
+    assertThat(ServerTiming.of(headers), sameInstance(serverTiming));
+
+    serverTiming.time(DB, () -> succeededFuture("first"));
+    serverTiming.time(DB, () -> succeededFuture("second"));
+    serverTiming.time(DOWNSTREAM, () -> succeededFuture("third"));
+
+    String headerValue = serverTiming.toHeaderValue();
+
+    assertThat(headerValue, containsString("db;dur="));
+    assertThat(headerValue, containsString("desc=\"2 calls\""));
+    assertThat(headerValue, containsString("downstream;dur="));
+    assertThat(headerValue, not(containsString("validation")));
+    assertThat(headerValue, containsString("total;dur="));
+  }
+
+  @Test
+  public void finishedRecorderIsNoLongerFound() {
+    Map<String, String> headers = new HashMap<>();
+    headers.put(ServerTiming.ENABLE_HEADER, "true");
+
+    ServerTiming serverTiming = ServerTiming.start(headers);
+    serverTiming.time(DB, () -> succeededFuture("first"));
+    serverTiming.finish();
+
+    assertThat(serverTiming.getDurationNanos(DB), greaterThanOrEqualTo(0L));
+    assertThat(serverTiming.getDurationNanos(DOWNSTREAM), is(0L));
+    assertThat(ServerTiming.of(headers), sameInstance(ServerTiming.DISABLED));
+  }
+}
@@ -0,0 +1,73 @@
+package org.folio.rest.repository;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasEntry;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.vertx.pgclient.PgConnectOptions;
+
+public class ReportingDataSourceSettingsTest {
+
+  @Test
+  public void reportsSharePoolOfModuleWhenNothingIsConfigured() {
+    Map<String, String> environment = new HashMap<>();
+    environment.put("DB_HOST", "postgres");
+    environment.put("DB_MAX_POOL_SIZE", "10");
+
+    ReportingDataSourceSettings settings = new ReportingDataSourceSettings(environment::get);
+
+    assertThat(settings.isEnabled(), is(false));
+  }
+
+  @Test
+  public void dedicatedPoolUsesDatabaseOfModule() {
+    Map<String, String> environment = new HashMap<>();
+    environment.put("DB_HOST", "postgres");
+    environment.put("DB_PORT", "5433");
+    environment.put("DB_DATABASE", "folio");
+    environment.put("DB_USERNAME", "folio_admin");
+    environment.put("DB_MAX_POOL_SIZE", "10");
+    environment.put("REPORTING_DB_MAX_POOL_SIZE", "2");
+
+    ReportingDataSourceSettings settings = new ReportingDataSourceSettings(environment::get);
+    PgConnectOptions options = settings.toPgConnectOptions();
+
+    assertThat(settings.isEnabled(), is(true));
+    assertThat(settings.getMaxPoolSize(), is(2));
+    assertThat(options.getHost(), is("postgres"));
+    assertThat(options.getPort(), is(5433));
+    assertThat(options.getDatabase(), is("folio"));
+    assertThat(options.getUser(), is("folio_admin"));
+  }
+
+  @Test
+  public void readReplicaOverridesConnectionSettings() {
+    Map<String, String> environment = new HashMap<>();
+    environment.put("DB_HOST", "postgres");
+    environment.put("DB_PASSWORD", "secret");
+    environment.put("REPORTING_DB_HOST", "postgres-replica");
+    environment.put("REPORTING_DB_STATEMENT_TIMEOUT_MS", "120000");
+
+    ReportingDataSourceSettings settings = new ReportingDataSourceSettings(environment::get);
+    PgConnectOptions options = settings.toPgConnectOptions();
+
+    assertThat(settings.isEnabled(), is(true));
+    assertThat(settings.getMaxPoolSize(), is(4));
+    assertThat(options.getHost(), is("postgres-replica"));
+    assertThat(options.getPassword(), is("secret"));
+    assertThat(options.getProperties(), hasEntry("statement_timeout", "120000"));
+  }
+
+  @Test
+  public void invalidValueFallsBackToDefault() {
+    ReportingDataSourceSettings settings = new ReportingDataSourceSettings(
+      key -> "REPORTING_DB_STATEMENT_TIMEOUT_MS".equals(key) ? "ten minutes" : null);
+
+    assertThat(settings.getStatementTimeoutMs(), is(600000));
+  }
+}
@@ -0,0 +1,32 @@
+package org.folio.rest.service;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import java.time.Duration;
+
+import org.junit.Test;
+
+public class ManualBlockEvaluationServiceTest {
+
+  @Test
+  public void cacheTtlIsShortWhenNotConfigured() {
+    assertThat(ManualBlockEvaluationService.getCacheTtl(key -> null), is(Duration.ofSeconds(5)));
+  }
+
+  @Test
+  public void cacheTtlIsReadFromEnvironment() {
+    Duration ttl = ManualBlockEvaluationService.getCacheTtl(
+      key -> "MANUAL_BLOCKS_CACHE_TTL_MS".equals(key) ? "1500" : null);
+
+    assertThat(ttl, is(Duration.ofMillis(1500)));
+  }
+
+  @Test
+  public void invalidCacheTtlFallsBackToDefault() {
+    Duration ttl = ManualBlockEvaluationService.getCacheTtl(
+      key -> "MANUAL_BLOCKS_CACHE_TTL_MS".equals(key) ? "a minute" : null);
+
+    assertThat(ttl, is(Duration.ofSeconds(5)));
+  }
+}
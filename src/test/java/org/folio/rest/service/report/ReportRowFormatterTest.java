@@ -0,0 +1,51 @@
+package org.folio.rest.service.report;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Currency;
+import java.util.Date;
+import java.util.Locale;
+
+import org.folio.rest.domain.LocaleSettings;
+import org.folio.rest.domain.MonetaryValue;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.format.DateTimeFormat;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+@RunWith(JUnitParamsRunner.class)
+public class ReportRowFormatterTest {
+
+  @Test
+  @Parameters({
+    "USD, 12.34", "USD, -1.5", "USD, 0", "USD, -0.0", "USD, 0.005", "USD, 0.015",
+    "USD, 1.005", "USD, 123456789.99", "USD, 0.1", "USD, 1e-300", "USD, 1e20",
+    "JPY, 1234", "JPY, 12.5", "JPY, -0.4", "BHD, 1.234", "BHD, -0.001", "BHD, 0.0005"
+  })
+  public void monetaryValueIsFormattedLikeMonetaryValue(String currencyCode, double value) {
+    ReportRowFormatter formatter = new ReportRowFormatter(
+      new LocaleSettings("en-US", "UTC", currencyCode));
+
+    assertEquals(new MonetaryValue(value, Currency.getInstance(currencyCode)).toString(),
+      formatter.formatMonetaryValue(value));
+  }
+
+  @Test
+  @Parameters({ "en-US, America/New_York", "de-DE, Europe/Berlin", "en-GB, Asia/Kolkata" })
+  public void dateIsFormattedInConfiguredTimeZone(String locale, String timeZone) {
+    ReportRowFormatter formatter = new ReportRowFormatter(
+      new LocaleSettings(locale, timeZone, "USD"));
+    Date date = new DateTime(2020, 12, 31, 23, 30, DateTimeZone.UTC).toDate();
+
+    String expected = new DateTime(date)
+      .withZone(DateTimeZone.forID(timeZone))
+      .toString(DateTimeFormat.forPattern(DateTimeFormat.patternForStyle("SS",
+        Locale.forLanguageTag(locale))));
+
+    assertEquals(expected, formatter.formatDate(date));
+  }
+}
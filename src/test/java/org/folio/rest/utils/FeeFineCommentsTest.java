@@ -0,0 +1,67 @@
+package org.folio.rest.utils;
+
+import static java.util.stream.Collectors.toMap;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import junitparams.JUnitParamsRunner;
+import junitparams.Parameters;
+
+@RunWith(JUnitParamsRunner.class)
+public class FeeFineCommentsTest {
+
+  @Test
+  public void staffAndPatronInfoAreExtractedTogether() {
+    FeeFineComments comments = FeeFineComments.parse(
+      "STAFF : staff comment \n OTHER : other comment \n PATRON : patron comment");
+
+    assertEquals("staff comment", comments.getStaffInfo());
+    assertEquals("patron comment", comments.getPatronInfo());
+  }
+
+  @Test
+  public void missingCommentsAreEmpty() {
+    FeeFineComments comments = FeeFineComments.parse(null);
+
+    assertEquals("", comments.getStaffInfo());
+    assertEquals("", comments.getPatronInfo());
+  }
+
+  @Test
+  @Parameters(method = "comments")
+  public void parsingMatchesSplittingByRegex(String comments) {
+    Map<String, String> expected = Arrays.stream(comments.split(" \n "))
+      .map(entry -> entry.split(" : "))
+      .filter(parts -> parts.length == 2)
+      .collect(toMap(parts -> parts[0], parts -> parts[1], (first, second) -> first));
+
+    FeeFineComments parsed = FeeFineComments.parse(comments);
+
+    assertEquals(expected, FeeFineComments.parseAll(comments));
+    assertEquals(expected.getOrDefault("STAFF", ""), parsed.getStaffInfo());
+    assertEquals(expected.getOrDefault("PATRON", ""), parsed.getPatronInfo());
+  }
+
+  @SuppressWarnings("unused")
+  private Object[] comments() {
+    return new Object[] {
+      new Object[] { "" },
+      new Object[] { "STAFF : staff comment" },
+      new Object[] { "STAFF : staff comment \n STAFF : second staff comment" },
+      new Object[] { "STAFF : staff comment \n PATRON:patron comment" },
+      new Object[] { "STAFF : " },
+      new Object[] { "STAFF :  : " },
+      new Object[] { "STAFF : a : b \n PATRON : patron comment" },
+      new Object[] { "STAFF : a :  :  \n PATRON : b : " },
+      new Object[] { " : no key \n PATRON : patron comment \n " },
+      new Object[] { " \n  \n STAFF : staff comment \n  \n " },
+      new Object[] { "STAFF : multi\nline \n PATRON : x \n" },
+      new Object[] { "STAFF :\n PATRON : \n STAFF : : \n PATRON : patron : " }
+    };
+  }
+}
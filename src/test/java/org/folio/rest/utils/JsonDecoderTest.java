@@ -0,0 +1,61 @@
+package org.folio.rest.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.folio.rest.jaxrs.model.Item;
+import org.folio.rest.jaxrs.model.User;
+import org.junit.Test;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class JsonDecoderTest {
+  private static final String USER_ID = "72fc6429-69b1-47ea-bf38-6a26c87594b6";
+
+  @Test
+  public void canDecodeObjectFromBuffer() throws IOException {
+    Buffer buffer = new JsonObject()
+      .put("id", USER_ID)
+      .put("barcode", "12345")
+      .toBuffer();
+
+    User user = JsonDecoder.decode(buffer, User.class);
+
+    assertEquals(USER_ID, user.getId());
+    assertEquals("12345", user.getBarcode());
+  }
+
+  @Test
+  public void canStreamCollectionElements() throws IOException {
+    Buffer buffer = new JsonObject()
+      .put("resultInfo", new JsonObject().put("facets", new JsonArray().add(new JsonObject())))
+      .put("items", new JsonArray()
+        .add(new JsonObject().put("id", "1").put("barcode", "first"))
+        .add(new JsonObject().put("id", "2").put("barcode", "second")))
+      .put("totalRecords", 2)
+      .toBuffer();
+
+    List<Item> items = JsonDecoder.decodeCollection(buffer, "items", Item.class);
+
+    assertEquals(2, items.size());
+    assertEquals("first", items.get(0).getBarcode());
+    assertEquals("second", items.get(1).getBarcode());
+  }
+
+  @Test
+  public void missingCollectionResultsInEmptyList() throws IOException {
+    Buffer buffer = new JsonObject().put("totalRecords", 0).toBuffer();
+
+    assertTrue(JsonDecoder.decodeCollection(buffer, "items", Item.class).isEmpty());
+  }
+
+  @Test(expected = IOException.class)
+  public void emptyBufferCanNotBeDecoded() throws IOException {
+    JsonDecoder.decode(null, User.class);
+  }
+}
@@ -1,6 +1,7 @@
 package org.folio.rest.utils;
 
 import static org.folio.rest.utils.FeeFineActionHelper.parseFeeFineComments;
+import static org.folio.rest.utils.PatronNoticeBuilder.buildDigestNotice;
 import static org.folio.rest.utils.PatronNoticeBuilder.buildNotice;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.hasEntry;
@@ -39,6 +40,7 @@ import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
 import org.junit.Test;
 
+import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
 public class PatronNoticeBuilderTest {
@@ -177,6 +179,38 @@ public class PatronNoticeBuilderTest {
     assertEquals(account.getLocation(), itemContext.getString("effectiveLocationSpecific"));
   }
 
+  @Test
+  public void digestNoticeContainsAllActions() {
+    final Owner owner = createOwner();
+    final Feefine feefine = createFeeFine();
+
+    final FeeFineNoticeContext firstContext = new FeeFineNoticeContext()
+      .withUser(createUser())
+      .withOwner(owner)
+      .withFeefine(feefine)
+      .withAccount(createAccount().withTitle("First title"))
+      .withAction(createAction().withAmountAction(1.0));
+
+    final FeeFineNoticeContext secondContext = firstContext
+      .withAccount(createAccount().withTitle("Second title"))
+      .withAction(createAction().withAmountAction(2.0));
+
+    final PatronNotice patronNotice = buildDigestNotice(Arrays.asList(firstContext, secondContext));
+
+    assertEquals(firstContext.getUserId(), patronNotice.getRecipientId());
+    assertEquals(firstContext.getTemplateId(), patronNotice.getTemplateId());
+
+    final Map<String, Object> context = patronNotice.getContext().getAdditionalProperties();
+    final JsonArray feeActions = (JsonArray) context.get("feeActions");
+
+    assertEquals("First title", ((JsonObject) context.get("item")).getString("title"));
+    assertEquals(2, feeActions.size());
+    assertEquals("First title", feeActions.getJsonObject(0).getJsonObject("item").getString("title"));
+    assertEquals("1.00", feeActions.getJsonObject(0).getJsonObject("feeAction").getString("amount"));
+    assertEquals("Second title", feeActions.getJsonObject(1).getJsonObject("item").getString("title"));
+    assertEquals("2.00", feeActions.getJsonObject(1).getJsonObject("feeAction").getString("amount"));
+  }
+
   @Test
   public void canParseSeveralComments() {
     Map<String, String> parsedComments =
@@ -20,6 +20,7 @@ import static org.junit.Assert.assertThat;
 import java.text.SimpleDateFormat;
 import java.util.Base64;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.TimeZone;
 import java.util.UUID;
@@ -31,11 +32,16 @@ import javax.ws.rs.core.MediaType;
 import org.apache.commons.collections4.map.CaseInsensitiveMap;
 import org.apache.http.HttpStatus;
 import org.folio.rest.RestVerticle;
+import org.folio.rest.cache.PerTenantCache;
+import org.folio.rest.client.CircuitBreaker;
+import org.folio.rest.client.WebClientProvider;
 import org.folio.rest.impl.TenantRefAPI;
 import org.folio.rest.jaxrs.model.Parameter;
 import org.folio.rest.jaxrs.model.TenantAttributes;
 import org.folio.rest.persist.Criteria.Criterion;
 import org.folio.rest.persist.PostgresClient;
+import org.folio.rest.repository.ReportingDataSource;
+import org.folio.rest.repository.ReportingDataSourceSettings;
 import org.folio.rest.tools.PomReader;
 import org.folio.rest.utils.OkapiClient;
 import org.folio.rest.utils.ResourceClient;
@@ -109,6 +115,26 @@ public class ApiTests {
   @Before
   public void setUpMapping() {
     okapiDeployment.setUpMapping();
+    PerTenantCache.invalidateAll();
+    WebClientProvider.getCircuitBreakers().forEach(CircuitBreaker::reset);
+    ReportingDataSource.useSettings(ReportingDataSourceSettings.fromEnvironment());
+  }
+
+  /**
+   * Makes reports and exports use a dedicated pool which connects to the embedded database as
+   * the admin user, like a reporting data source configured with {@code REPORTING_DB_*}.
+   */
+  protected void useReportingDataSource() {
+    final JsonObject config = PostgresClient.getInstance(vertx).getConnectionConfig();
+    final Map<String, String> environment = new HashMap<>();
+
+    environment.put("REPORTING_DB_HOST", config.getString("host"));
+    environment.put("REPORTING_DB_PORT", String.valueOf(config.getValue("port")));
+    environment.put("REPORTING_DB_DATABASE", config.getString("database"));
+    environment.put("REPORTING_DB_USERNAME", config.getString("username"));
+    environment.put("REPORTING_DB_PASSWORD", config.getString("password"));
+
+    ReportingDataSource.useSettings(new ReportingDataSourceSettings(environment::get));
   }
 
   public static void createTenant(TenantAttributes attributes, CompletableFuture<Void> future) {
@@ -159,6 +185,21 @@ public class ApiTests {
     get(future);
   }
 
+  protected void executeSql(String sql) {
+    final CompletableFuture<Void> future = new CompletableFuture<>();
+
+    PostgresClient.getInstance(vertx, TENANT_NAME)
+      .execute(sql, result -> {
+        if (result.failed()) {
+          future.completeExceptionally(result.cause());
+        } else {
+          future.complete(null);
+        }
+      });
+
+    get(future);
+  }
+
   private static String generateOkapiToken() {
     final String payload = new JsonObject()
       .put("user_id", USER_ID)